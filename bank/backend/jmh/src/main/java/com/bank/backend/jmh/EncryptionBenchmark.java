@@ -0,0 +1,40 @@
+package com.bank.backend.jmh;
+
+import com.bank.backend.common.utils.HashEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 식별번호 해싱 : 기존 구현 vs HashEngine
+ * 처리량(ops/ms)과 -prof gc 의 gc.alloc.rate.norm(B/op)으로 비교
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class EncryptionBenchmark {
+
+    @Param({"01012345678"})
+    public String identificationNumber;
+
+    @Param({"3f9a1c0e5b7d2468ace13579bdf02468"})
+    public String salt;
+
+    @Setup
+    public void verify() throws Exception {
+        // 두 구현의 결과가 같아야 비교 의미가 있음
+        if (!LegacyEncryption.encryption(identificationNumber, salt).equals(HashEngine.hash(identificationNumber, salt))) {
+            throw new IllegalStateException("HashEngine 결과가 기존 구현과 다릅니다.");
+        }
+    }
+
+    @Benchmark
+    public String legacy() throws Exception {
+        return LegacyEncryption.encryption(identificationNumber, salt);
+    }
+
+    @Benchmark
+    public String hashEngine() {
+        return HashEngine.hash(identificationNumber, salt);
+    }
+}
@@ -0,0 +1,32 @@
+package com.bank.backend.jmh;
+
+import java.security.MessageDigest;
+
+/**
+ * 비교 기준 : HashEngine 도입 이전의 EncryptionUtils.encryption 구현
+ */
+public final class LegacyEncryption {
+
+    private LegacyEncryption() {
+    }
+
+    public static String encryption(String str, String salt) throws Exception{
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+
+        for(int i = 0; i < 100; i++){
+            String temp = str + salt;
+            md.update(temp.getBytes());
+            str = byteToString(md.digest());
+        }
+
+        return str;
+    }
+
+    public static String byteToString(byte[] temp){
+        StringBuilder sb = new StringBuilder();
+        for(byte a : temp){
+            sb.append(String.format("%02x", a));
+        }
+        return sb.toString();
+    }
+}
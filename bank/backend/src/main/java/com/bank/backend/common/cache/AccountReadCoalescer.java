@@ -0,0 +1,156 @@
+package com.bank.backend.common.cache;
+
+import com.bank.backend.common.event.AccountTransferredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * 계좌 조회 요청 병합 (single-flight)
+ * 같은 key 로 동시에 들어온 조회는 먼저 온 요청의 DB 조회 결과를 함께 받는다.
+ * window-ms 가 0 보다 크면 조회가 끝난 뒤에도 그 시간 동안 결과를 재사용한다.
+ * 결과에 포함된 계좌가 이체되면 (커밋 후) 해당 결과와 진행 중인 조회를 버리므로 이후 요청은 새로 조회한다.
+ * 이 노드에서 커밋된 이체만 반영되므로 여러 노드에서는 window 를 짧게 유지해야 한다.
+ */
+@Component
+public class AccountReadCoalescer {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    private final Counter loadCounter;
+    private final Counter sharedCounter;
+
+    public AccountReadCoalescer(@Value("${bank.read-coalescing.window-ms:0}") long windowMillis,
+                                MeterRegistry meterRegistry) {
+        this.windowMillis = windowMillis;
+
+        this.loadCounter = Counter.builder("bank.read.coalescing")
+                .tag("result", "load")
+                .description("DB 조회를 직접 수행한 계좌 조회 요청 수")
+                .register(meterRegistry);
+        this.sharedCounter = Counter.builder("bank.read.coalescing")
+                .tag("result", "shared")
+                .description("다른 요청의 조회 결과를 받은 계좌 조회 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("bank.read.coalescing.ratio", this, AccountReadCoalescer::coalescingRatio)
+                .description("전체 계좌 조회 요청 중 병합된 요청 비율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 key 의 조회가 진행 중이거나 재사용 가능한 결과가 있으면 그 결과를, 없으면 loader 로 조회
+     * accountIdsOf : 결과에 포함된 계좌 ID (이체 시 무효화 대상)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Callable<T> loader, Function<T, Collection<Long>> accountIdsOf) throws Exception {
+        while (true) {
+            Flight flight = flights.get(key);
+            if (flight != null && flight.isUsable(System.currentTimeMillis())) {
+                sharedCounter.increment();
+                return (T) flight.await();
+            }
+
+            Flight created = new Flight();
+            boolean owner = flight == null
+                    ? flights.putIfAbsent(key, created) == null
+                    : flights.replace(key, flight, created);
+            if (!owner) {
+                // 다른 요청이 먼저 등록함
+                continue;
+            }
+
+            loadCounter.increment();
+            cleanupIfNeeded();
+            return load(key, created, loader, accountIdsOf);
+        }
+    }
+
+    // 이체 커밋 후 해당 계좌가 포함된 결과, 진행 중인 조회 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransferred(AccountTransferredEvent event) {
+        flights.values().removeIf(flight -> flight.touches(event.getAccountIds()));
+    }
+
+    public double coalescingRatio() {
+        double shared = sharedCounter.count();
+        double total = shared + loadCounter.count();
+        return total == 0 ? 0 : shared / total;
+    }
+
+    private <T> T load(String key, Flight flight, Callable<T> loader, Function<T, Collection<Long>> accountIdsOf) throws Exception {
+        T value;
+        try {
+            value = loader.call();
+        } catch (Exception | Error e) {
+            flights.remove(key, flight);
+            flight.future.completeExceptionally(e);
+            throw e;
+        }
+
+        flight.accountIds = new HashSet<>(accountIdsOf.apply(value));
+        flight.expiresAt = System.currentTimeMillis() + windowMillis;
+        flight.future.complete(value);
+
+        if (windowMillis <= 0) {
+            flights.remove(key, flight);
+        }
+        return value;
+    }
+
+    private void cleanupIfNeeded() {
+        if (flights.size() > CLEANUP_THRESHOLD) {
+            long now = System.currentTimeMillis();
+            flights.values().removeIf(flight -> !flight.isUsable(now));
+        }
+    }
+
+    private static class Flight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        // 조회가 끝나기 전에는 null (어떤 이체든 무효화)
+        private volatile Set<Long> accountIds;
+        private volatile long expiresAt;
+
+        boolean isUsable(long now) {
+            if (!future.isDone()) {
+                return true;
+            }
+            return !future.isCompletedExceptionally() && expiresAt > now;
+        }
+
+        boolean touches(Set<Long> transferredAccountIds) {
+            Set<Long> ids = accountIds;
+            return ids == null || !Collections.disjoint(ids, transferredAccountIds);
+        }
+
+        Object await() throws Exception {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                throw (Error) cause;
+            }
+        }
+    }
+}
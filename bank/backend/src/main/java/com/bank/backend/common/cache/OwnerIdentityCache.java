@@ -0,0 +1,150 @@
+package com.bank.backend.common.cache;
+
+import com.bank.backend.common.utils.EncryptionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 식별번호 -> (해시된 식별번호, 예금주 ID) 캐시
+ * key 는 프로세스마다 새로 만든 비밀키로 HMAC 처리한 값이며 식별번호 원문은 저장하지 않는다.
+ * 최대 크기(LRU)와 TTL 기준으로 제거된다.
+ */
+@Component
+public class OwnerIdentityCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final String salt;
+    private final int maxSize;
+    private final long ttlMillis;
+    private final SecretKeySpec keySpec;
+    private final ThreadLocal<Mac> macs;
+    private final LinkedHashMap<String, CachedOwner> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public OwnerIdentityCache(@Value("${owner.salt}") String salt,
+                              @Value("${bank.owner-cache.max-size:10000}") int maxSize,
+                              @Value("${bank.owner-cache.ttl-seconds:600}") long ttlSeconds,
+                              MeterRegistry meterRegistry) {
+        this.salt = salt;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.keySpec = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+
+        // 접근 순서 기준 LRU
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedOwner> eldest) {
+                return size() > OwnerIdentityCache.this.maxSize;
+            }
+        };
+
+        this.hitCounter = Counter.builder("bank.owner.cache")
+                .tag("result", "hit")
+                .description("식별번호 캐시 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("bank.owner.cache")
+                .tag("result", "miss")
+                .description("식별번호 캐시 미스 횟수")
+                .register(meterRegistry);
+        meterRegistry.gauge("bank.owner.cache.size", this, OwnerIdentityCache::size);
+    }
+
+    /** 식별번호에 대한 캐시 항목 조회, 없으면 해싱 후 저장 */
+    public CachedOwner get(String identificationNumber) throws Exception {
+        String key = keyOf(identificationNumber);
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            CachedOwner entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hitCounter.increment();
+                return entry;
+            }
+        }
+
+        missCounter.increment();
+        CachedOwner entry = new CachedOwner(EncryptionUtils.encryption(identificationNumber, salt), null, now + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    /** 해시된 식별번호만 필요한 경우 */
+    public String hash(String identificationNumber) throws Exception {
+        return get(identificationNumber).getHash();
+    }
+
+    /** 조회된 예금주 ID 기록 */
+    public void putOwnerId(String identificationNumber, Long ownerId) {
+        String key = keyOf(identificationNumber);
+
+        synchronized (entries) {
+            CachedOwner entry = entries.get(key);
+            if (entry != null) {
+                entries.put(key, new CachedOwner(entry.hash, ownerId, entry.expiresAt));
+            }
+        }
+    }
+
+    /** 예금주 생성 시 해당 해시를 가진 항목 제거 */
+    public void evictByHash(String hash) {
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.hash.equals(hash));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private String keyOf(String identificationNumber) {
+        byte[] digest = macs.get().doFinal(identificationNumber.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    public static class CachedOwner {
+
+        private final String hash;
+        private final Long ownerId; // 아직 조회되지 않았으면 null
+        private final long expiresAt;
+
+        private CachedOwner(String hash, Long ownerId, long expiresAt) {
+            this.hash = hash;
+            this.ownerId = ownerId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
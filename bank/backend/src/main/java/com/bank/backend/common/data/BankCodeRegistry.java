@@ -0,0 +1,70 @@
+package com.bank.backend.common.data;
+
+import com.bank.backend.entity.BankCode;
+import com.bank.backend.repository.BankCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 은행 코드 참조 데이터
+ * 기동 시 DataLoader 가 적재한 BankCode 를 한 번 읽어 코드 값을 인덱스로 하는 불변 배열로 보관한다.
+ * (은행 코드 검증, 은행명 조회에 DB 조회나 지연 로딩 프록시를 사용하지 않음)
+ * reload 는 nameOf 에서도 호출되므로(프록시를 거치지 않음) 트랜잭션을 직접 시작한다.
+ */
+@Slf4j
+@Component
+public class BankCodeRegistry {
+
+    private final BankCodeRepository bankCodeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public BankCodeRegistry(BankCodeRepository bankCodeRepository, PlatformTransactionManager transactionManager) {
+        this.bankCodeRepository = bankCodeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 인덱스 = 은행 코드, 값 = 은행명 (없는 코드는 null)
+    private volatile String[] names;
+
+    /** DB 의 은행 코드를 다시 읽어 교체 (기동 직후 replica 에는 아직 없을 수 있으므로 읽기/쓰기 트랜잭션으로 primary 에서 조회) */
+    public synchronized void reload() {
+        List<BankCode> bankCodes = transactionTemplate.execute(status -> bankCodeRepository.findAll());
+
+        int size = 0;
+        for (BankCode bankCode : bankCodes) {
+            size = Math.max(size, Math.toIntExact(bankCode.getId()) + 1);
+        }
+
+        String[] loaded = new String[size];
+        for (BankCode bankCode : bankCodes) {
+            loaded[bankCode.getId().intValue()] = bankCode.getBankName();
+        }
+
+        this.names = loaded;
+        log.info("은행 코드 {}건 적재", bankCodes.size());
+    }
+
+    /** 존재하는 은행 코드인지 */
+    public boolean contains(Long bankCodeId) {
+        return nameOf(bankCodeId) != null;
+    }
+
+    /** 은행명 (없는 코드면 null) */
+    public String nameOf(Long bankCodeId) {
+        if (bankCodeId == null || bankCodeId < 0) {
+            return null;
+        }
+
+        String[] current = names;
+        if (current == null) {
+            // DataLoader 실행 전 호출된 경우
+            reload();
+            current = names;
+        }
+        return bankCodeId < current.length ? current[bankCodeId.intValue()] : null;
+    }
+}
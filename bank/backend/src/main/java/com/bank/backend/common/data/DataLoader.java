@@ -9,9 +9,11 @@ import org.springframework.stereotype.Component;
 public class DataLoader implements CommandLineRunner {
 
     private final BankCodeRepository bankCodeRepository;
+    private final BankCodeRegistry bankCodeRegistry;
 
-    public DataLoader(BankCodeRepository bankCodeRepository) {
+    public DataLoader(BankCodeRepository bankCodeRepository, BankCodeRegistry bankCodeRegistry) {
         this.bankCodeRepository = bankCodeRepository;
+        this.bankCodeRegistry = bankCodeRegistry;
     }
 
     @Override
@@ -67,5 +69,8 @@ public class DataLoader implements CommandLineRunner {
         bankCodeRepository.save(new BankCode(23L, "SC제일은행"));
         // Sh수협은행
         bankCodeRepository.save(new BankCode(7L, "Sh수협은행"));
+
+        // 적재한 은행 코드를 메모리에 올림
+        bankCodeRegistry.reload();
     }
 }
\ No newline at end of file
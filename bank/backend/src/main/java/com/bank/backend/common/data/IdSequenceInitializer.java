@@ -0,0 +1,68 @@
+package com.bank.backend.common.data;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * IDENTITY -> pooled-lo 시퀀스 전환용 초기화
+ * 기존 행이 있는 DB 에서 시퀀스(MySQL 은 xxx_seq 테이블)가 max(id) + 1 보다 작으면 끌어올린다.
+ * 값을 올리기만 하므로 여러 노드가 동시에 기동해도 id 가 되돌아가지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements InitializingBean {
+
+    // 테이블, 시퀀스
+    private static final String[][] SEQUENCES = {
+            {"history", "history_seq"},
+            {"memo", "memo_seq"},
+            {"account", "account_seq"}
+    };
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+
+        for (String[] sequence : SEQUENCES) {
+            Long maxId = jdbcTemplate.queryForObject("select max(id) from " + sequence[0], Long.class);
+            long next = maxId == null ? 1 : maxId + 1;
+
+            if (dialect.supportsSequences()) {
+                if (maxId == null) {
+                    continue;
+                }
+
+                Long current = jdbcTemplate.queryForObject(dialect.getSequenceNextValString(sequence[1]), Long.class);
+                if (current != null && current < next) {
+                    jdbcTemplate.execute("alter sequence " + sequence[1] + " restart with " + next);
+                    log.info("{} 시퀀스 시작값 조정 : {}", sequence[1], next);
+                }
+                continue;
+            }
+
+            // ddl-auto=update 로 테이블만 생성된 경우 초기 행 추가
+            Integer rows = jdbcTemplate.queryForObject("select count(*) from " + sequence[1], Integer.class);
+            if (rows == null || rows == 0) {
+                jdbcTemplate.update("insert into " + sequence[1] + " (next_val) values (?)", next);
+                log.info("{} 초기값 생성 : {}", sequence[1], next);
+                continue;
+            }
+
+            int updated = jdbcTemplate.update("update " + sequence[1] + " set next_val = ? where next_val < ?", next, next);
+            if (updated > 0) {
+                log.info("{} 시작값 조정 : {}", sequence[1], next);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.bank.backend.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica, 나머지는 primary 로 연결
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    // 현재 트랜잭션을 primary 로 보내기 위한 리소스 키 (ReplicaStalenessGuard 에서 바인딩)
+    static final Object PRIMARY_HINT = new Object();
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !TransactionSynchronizationManager.hasResource(PRIMARY_HINT)) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,98 @@
+package com.bank.backend.common.datasource;
+
+import com.bank.backend.common.event.AccountTransferredEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * replica 복제 지연 보호
+ * 최근(max-lag-ms 이내) 이체된 계좌, 계좌번호, 예금주를 조회하는 readOnly 트랜잭션은 primary 에서 읽는다.
+ * 이체가 커밋된 노드 기준으로만 기록되므로 다른 노드의 이체는 복제 지연만큼 늦게 보일 수 있다.
+ */
+@Component
+public class ReplicaStalenessGuard {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final boolean enabled;
+    private final long maxLagMillis;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReplicaStalenessGuard(@Value("${bank.datasource.replica.url:}") String replicaUrl,
+                                 @Value("${bank.datasource.replica.max-lag-ms:2000}") long maxLagMillis) {
+        this.enabled = !replicaUrl.isBlank();
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    // 이체 커밋 후 기록
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransferred(AccountTransferredEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        event.getAccountIds().forEach(id -> lastWrites.put(accountKey(id), now));
+        event.getAccountNumbers().forEach(number -> lastWrites.put(accountNumberKey(number), now));
+        event.getOwnerIds().forEach(id -> lastWrites.put(ownerKey(id), now));
+
+        if (lastWrites.size() > CLEANUP_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt > maxLagMillis);
+        }
+    }
+
+    /** 최근 이체된 계좌면 현재 트랜잭션을 primary 로 (첫 쿼리 전에 호출) */
+    public void guardAccount(Long accountId) {
+        guard(accountKey(accountId));
+    }
+
+    public void guardAccountNumber(String accountNumber) {
+        guard(accountNumberKey(accountNumber));
+    }
+
+    public void guardOwner(Long ownerId) {
+        if (ownerId != null) {
+            guard(ownerKey(ownerId));
+        }
+    }
+
+    private void guard(String key) {
+        if (!enabled || !isRecent(key)
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(ReadWriteRoutingDataSource.PRIMARY_HINT)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(ReadWriteRoutingDataSource.PRIMARY_HINT, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReadWriteRoutingDataSource.PRIMARY_HINT);
+            }
+        });
+    }
+
+    private boolean isRecent(String key) {
+        Long writtenAt = lastWrites.get(key);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt <= maxLagMillis;
+    }
+
+    private static String accountKey(Long accountId) {
+        return "a:" + accountId;
+    }
+
+    private static String accountNumberKey(String accountNumber) {
+        return "n:" + accountNumber;
+    }
+
+    private static String ownerKey(Long ownerId) {
+        return "o:" + ownerId;
+    }
+}
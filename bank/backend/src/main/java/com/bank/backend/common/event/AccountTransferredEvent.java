@@ -0,0 +1,43 @@
+package com.bank.backend.common.event;
+
+import com.bank.backend.entity.Account;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 잔액이 바뀐 계좌 정보 (이체 트랜잭션에서 발행, 커밋 후 처리)
+ */
+@Getter
+public class AccountTransferredEvent {
+
+    private final Set<Long> accountIds;
+    private final Set<String> accountNumbers;
+    private final Set<Long> ownerIds;
+
+    private AccountTransferredEvent(Set<Long> accountIds, Set<String> accountNumbers, Set<Long> ownerIds) {
+        this.accountIds = Collections.unmodifiableSet(accountIds);
+        this.accountNumbers = Collections.unmodifiableSet(accountNumbers);
+        this.ownerIds = Collections.unmodifiableSet(ownerIds);
+    }
+
+    public static AccountTransferredEvent of(Collection<Account> accounts) {
+        Set<Long> accountIds = new HashSet<>();
+        Set<String> accountNumbers = new HashSet<>();
+        Set<Long> ownerIds = new HashSet<>();
+
+        for (Account account : accounts) {
+            accountIds.add(account.getId());
+            accountNumbers.add(account.getAccountNumber());
+            ownerIds.add(account.getOwner().getId());
+        }
+        return new AccountTransferredEvent(accountIds, accountNumbers, ownerIds);
+    }
+
+    public boolean isEmpty() {
+        return accountIds.isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package com.bank.backend.common.journal;
+
+import lombok.Getter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 이체 저널의 고정 길이(640 byte) 레코드
+ * [seq 8][송금 계좌 8][수신 계좌 8][금액 4][sign 길이 2][sign 236][toSign 길이 2][toSign 236][키 길이 2][Idempotency-Key 100][예약 30][CRC32 4]
+ * CRC 가 맞지 않거나 seq 가 0 인 슬롯은 기록되지 않은(또는 쓰다 만) 레코드로 본다.
+ * Idempotency-Key 는 레코드와 함께 fsync 되고 DB 반영 시 저장된다. (키만 저장되고 이체가 유실되는 경우 방지)
+ */
+@Getter
+public class JournalRecord {
+
+    public static final int SIZE = 640;
+    public static final int SIGN_BYTES = 236;
+    public static final int KEY_BYTES = 100;
+
+    private static final int CRC_OFFSET = SIZE - 4;
+
+    private final long seq;
+    private final long sendAccountId;
+    private final long toAccountId;
+    private final int transferAmount;
+    private final String sign;
+    private final String toSign;
+    private final String idempotencyKey;
+
+    public JournalRecord(long seq, long sendAccountId, long toAccountId, int transferAmount, String sign, String toSign) {
+        this(seq, sendAccountId, toAccountId, transferAmount, sign, toSign, null);
+    }
+
+    public JournalRecord(long seq, long sendAccountId, long toAccountId, int transferAmount, String sign, String toSign,
+                         String idempotencyKey) {
+        this.seq = seq;
+        this.sendAccountId = sendAccountId;
+        this.toAccountId = toAccountId;
+        this.transferAmount = transferAmount;
+        this.sign = sign;
+        this.toSign = toSign;
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public JournalRecord withSeq(long seq) {
+        return new JournalRecord(seq, sendAccountId, toAccountId, transferAmount, sign, toSign, idempotencyKey);
+    }
+
+    /** 메모, Idempotency-Key 가 고정 길이 필드에 들어가는지 */
+    public static boolean fits(String sign, String toSign, String idempotencyKey) {
+        return byteLength(sign) <= SIGN_BYTES && byteLength(toSign) <= SIGN_BYTES && byteLength(idempotencyKey) <= KEY_BYTES;
+    }
+
+    /** out 에 SIZE 만큼 기록 */
+    public void encode(byte[] out) {
+        ByteBuffer buffer = ByteBuffer.wrap(out);
+        buffer.putLong(seq);
+        buffer.putLong(sendAccountId);
+        buffer.putLong(toAccountId);
+        buffer.putInt(transferAmount);
+        putString(buffer, sign, SIGN_BYTES);
+        putString(buffer, toSign, SIGN_BYTES);
+        putString(buffer, idempotencyKey, KEY_BYTES);
+        while (buffer.position() < CRC_OFFSET) {
+            buffer.put((byte) 0);
+        }
+        buffer.putInt(crc(out));
+    }
+
+    /** 유효한 레코드가 아니면 null */
+    public static JournalRecord decode(byte[] in) {
+        ByteBuffer buffer = ByteBuffer.wrap(in);
+        long seq = buffer.getLong();
+        if (seq <= 0 || buffer.getInt(CRC_OFFSET) != crc(in)) {
+            return null;
+        }
+
+        long sendAccountId = buffer.getLong();
+        long toAccountId = buffer.getLong();
+        int transferAmount = buffer.getInt();
+        String sign = getString(buffer, SIGN_BYTES);
+        String toSign = getString(buffer, SIGN_BYTES);
+        String idempotencyKey = getString(buffer, KEY_BYTES);
+        return new JournalRecord(seq, sendAccountId, toAccountId, transferAmount, sign, toSign, idempotencyKey);
+    }
+
+    private static void putString(ByteBuffer buffer, String value, int capacity) {
+        int start = buffer.position() + 2;
+        if (value == null) {
+            buffer.putShort((short) -1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+        // 남은 영역은 0 으로 채움 (재사용 버퍼의 이전 내용 제거)
+        while (buffer.position() < start + capacity) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer, int capacity) {
+        int length = buffer.getShort();
+        int start = buffer.position();
+        String value = null;
+        if (length >= 0) {
+            value = new String(buffer.array(), start, length, StandardCharsets.UTF_8);
+        }
+        buffer.position(start + capacity);
+        return value;
+    }
+
+    private static int byteLength(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static int crc(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, CRC_OFFSET);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,427 @@
+package com.bank.backend.common.journal;
+
+import com.bank.backend.service.JournalApplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메모리 맵 append-only 이체 저널 (bank.journal.enabled=true 일 때만 사용)
+ *
+ * - 접수된 이체는 고정 길이 레코드로 세그먼트 파일에 기록되고, fsync 가 끝난 뒤 응답한다.
+ * - fsync 는 flusher 스레드가 모아서 수행한다. (fsync 중에 들어온 레코드는 다음 fsync 에 함께 반영 : group commit)
+ * - fsync 된 레코드는 applier 스레드가 순서대로 Account, History 에 반영하고 체크포인트를 같은 트랜잭션에서 갱신한다.
+ * - 기동 시 체크포인트 이후의 레코드를 다시 적용한다.
+ * - 적용 전 출금액은 pendingDebit 으로 관리하여 잔액 검증에 포함한다. (DB 잔액은 적용 후에 반영됨)
+ * - 적용 전 Idempotency-Key 는 pendingRecord 로 조회한다. (적용되면 TransferIdempotency 에 저장됨)
+ * - fsync 가 실패하면 이후 기록을 거부하고 대기 중인 요청에 실패를 알린다. (기록된 레코드는 재기동 시 replay 로 확인)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bank.journal.enabled", havingValue = "true")
+public class TransferJournal {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+    // fsync 대기 중 flusher 상태를 다시 확인하는 주기
+    private static final long DURABLE_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final JournalApplier journalApplier;
+    private final Path directory;
+    private final int segmentRecords;
+    private final int applyBatchSize;
+    private final long shutdownTimeoutMillis;
+
+    // 기록 상태 (lock 으로 보호)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition durable = lock.newCondition();
+    private final Condition appended = lock.newCondition();
+    private final byte[] encodeBuffer = new byte[JournalRecord.SIZE];
+    private final List<MappedByteBuffer> unforced = new ArrayList<>();
+    private final List<JournalRecord> unflushed = new ArrayList<>();
+    private long nextSeq;
+    private long durableSeq;
+    private long segmentFirstSeq;
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+    private ByteBuffer segmentWriter;
+    private RuntimeException failure; // fsync 실패
+    private volatile boolean running;
+
+    // 적용 대기
+    private final BlockingQueue<JournalRecord> applyQueue = new LinkedBlockingQueue<>();
+    private final Map<Long, AtomicLong> pendingDebits = new ConcurrentHashMap<>();
+    private final Map<String, JournalRecord> pendingKeys = new ConcurrentHashMap<>();
+    private volatile long appliedSeq;
+
+    private Thread flusher;
+    private Thread applier;
+
+    public TransferJournal(JournalApplier journalApplier,
+                           @Value("${bank.journal.dir:./journal}") String directory,
+                           @Value("${bank.journal.segment-records:65536}") int segmentRecords,
+                           @Value("${bank.journal.apply-batch-size:500}") int applyBatchSize,
+                           @Value("${bank.journal.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis) {
+        this.journalApplier = journalApplier;
+        this.directory = Paths.get(directory);
+        this.segmentRecords = segmentRecords;
+        this.applyBatchSize = applyBatchSize;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        appliedSeq = journalApplier.lastAppliedSeq();
+
+        // 체크포인트 이후 레코드 재적용 대상 등록
+        long lastSeq = replay();
+        nextSeq = Math.max(lastSeq, appliedSeq) + 1;
+        durableSeq = nextSeq - 1;
+        openSegmentFor(nextSeq);
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "transfer-journal-flusher");
+        applier = new Thread(this::applyLoop, "transfer-journal-applier");
+        flusher.setDaemon(true);
+        applier.setDaemon(true);
+        flusher.start();
+        applier.start();
+
+        log.info("이체 저널 시작 : dir={}, nextSeq={}, 재적용 대기 {}건", directory.toAbsolutePath(), nextSeq, applyQueue.size());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(shutdownTimeoutMillis);
+        forceAll();
+
+        // 남은 적용 대기 건 처리 (못 끝낸 건은 다음 기동 시 재적용)
+        applier.join(shutdownTimeoutMillis);
+        applier.interrupt();
+        segmentChannel.close();
+    }
+
+    /** 레코드를 저널에 기록하고 fsync 될 때까지 대기, 부여된 순번 반환 */
+    public long append(JournalRecord record) {
+        long seq;
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("이체 저널이 종료되었습니다.");
+            }
+            if (failure != null) {
+                throw new IllegalStateException("이체 저널 기록 장애로 이체를 접수할 수 없습니다.", failure);
+            }
+
+            // 세그먼트 교체가 실패해도 순번에 빈 곳이 생기지 않도록 교체 후 순번 증가
+            seq = nextSeq;
+            if (seq >= segmentFirstSeq + segmentRecords) {
+                rollSegment(seq);
+            }
+            nextSeq++;
+
+            JournalRecord sequenced = record.withSeq(seq);
+            sequenced.encode(encodeBuffer);
+            segmentWriter.position((int) (seq - segmentFirstSeq) * JournalRecord.SIZE);
+            segmentWriter.put(encodeBuffer);
+            unflushed.add(sequenced);
+            addPending(sequenced);
+            appended.signal();
+
+            // group commit 대기 (fsync 전에 응답하면 장애 시 이체가 유실될 수 있음)
+            awaitDurable(seq);
+        } finally {
+            lock.unlock();
+        }
+        return seq;
+    }
+
+    // 기록된 레코드는 결국 반영될 수 있으므로 interrupt 로 실패를 응답하지 않고 fsync 결과까지 대기 (lock 보유 상태에서 호출)
+    private void awaitDurable(long seq) {
+        boolean interrupted = false;
+        try {
+            while (durableSeq < seq) {
+                if (failure != null || !flusher.isAlive()) {
+                    throw new IllegalStateException("이체 저널 기록에 실패했습니다. 이체 결과를 확인해주세요.", failure);
+                }
+                try {
+                    durable.awaitNanos(DURABLE_CHECK_NANOS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** 아직 DB 에 반영되지 않은 출금액 */
+    public long pendingDebit(Long accountId) {
+        AtomicLong pending = pendingDebits.get(accountId);
+        return pending == null ? 0 : pending.get();
+    }
+
+    /** 저널에 기록되었지만 아직 DB 에 반영되지 않은 같은 키의 레코드 */
+    public Optional<JournalRecord> pendingRecord(String idempotencyKey) {
+        return Optional.ofNullable(pendingKeys.get(idempotencyKey));
+    }
+
+    public long getAppliedSeq() {
+        return appliedSeq;
+    }
+
+    // 쌓인 레코드를 한 번의 fsync 로 반영
+    private void flushLoop() {
+        while (running || hasUnflushed()) {
+            List<MappedByteBuffer> buffers;
+            List<JournalRecord> records;
+            long target;
+
+            lock.lock();
+            try {
+                while (unflushed.isEmpty()) {
+                    if (!running) {
+                        return;
+                    }
+                    appended.await(100, TimeUnit.MILLISECONDS);
+                }
+                buffers = new ArrayList<>(unforced);
+                buffers.add(segment);
+                unforced.clear();
+                records = new ArrayList<>(unflushed);
+                unflushed.clear();
+                target = nextSeq - 1;
+            } catch (InterruptedException e) {
+                if (!running) {
+                    continue;
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                for (MappedByteBuffer buffer : buffers) {
+                    force(buffer);
+                }
+            } catch (RuntimeException e) {
+                // 이후 기록을 거부하고 대기 중인 append 를 깨움 (출금 예정액은 남겨 잔액 검증에 계속 포함)
+                log.error("이체 저널 fsync 실패, 저널 기록 중단", e);
+                lock.lock();
+                try {
+                    failure = e;
+                    durable.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+
+            lock.lock();
+            try {
+                durableSeq = target;
+                durable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            applyQueue.addAll(records);
+        }
+    }
+
+    // fsync 된 레코드를 순서대로 DB 에 반영
+    private void applyLoop() {
+        List<JournalRecord> batch = new ArrayList<>(applyBatchSize);
+        long backoff = 10;
+
+        while (running || !applyQueue.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    JournalRecord first = applyQueue.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    applyQueue.drainTo(batch, applyBatchSize - 1);
+                }
+
+                journalApplier.apply(batch);
+                backoff = 10;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // DB 장애 등 : 같은 배치를 재시도 (체크포인트로 중복 적용 방지)
+                log.error("이체 저널 적용 실패, {}ms 후 재시도", backoff, e);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, 5000);
+                continue;
+            }
+
+            for (JournalRecord record : batch) {
+                pendingCounter(record.getSendAccountId()).addAndGet(-record.getTransferAmount());
+                if (record.getIdempotencyKey() != null) {
+                    pendingKeys.remove(record.getIdempotencyKey(), record);
+                }
+            }
+            appliedSeq = batch.get(batch.size() - 1).getSeq();
+            batch.clear();
+            deleteAppliedSegments();
+        }
+    }
+
+    // 체크포인트 이후 레코드를 적용 대기열에 넣고 마지막 유효 순번 반환
+    private long replay() throws IOException {
+        long lastSeq = 0;
+
+        for (Path file : segmentFiles()) {
+            long firstSeq = firstSeqOf(file);
+            // 레코드 형식(크기)이나 segment-records 가 바뀐 세그먼트를 잘못 읽어 유실로 처리하지 않도록 기동 중단
+            if (Files.size(file) != (long) segmentRecords * JournalRecord.SIZE) {
+                throw new IllegalStateException("저널 세그먼트 크기가 현재 레코드 형식과 맞지 않습니다 : " + file
+                        + " (이전 버전으로 모두 적용한 뒤 세그먼트를 비우고 업그레이드해야 합니다)");
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buffer = ByteBuffer.allocate(JournalRecord.SIZE);
+                for (int slot = 0; slot < segmentRecords; slot++) {
+                    buffer.clear();
+                    if (channel.read(buffer, (long) slot * JournalRecord.SIZE) < JournalRecord.SIZE) {
+                        break;
+                    }
+
+                    JournalRecord record = JournalRecord.decode(buffer.array());
+                    if (record == null || record.getSeq() != firstSeq + slot) {
+                        break; // 기록되지 않은 영역
+                    }
+
+                    lastSeq = record.getSeq();
+                    if (record.getSeq() > appliedSeq) {
+                        applyQueue.add(record);
+                        addPending(record);
+                    }
+                }
+            }
+        }
+        return lastSeq;
+    }
+
+    private void rollSegment(long seq) {
+        unforced.add(segment);
+        try {
+            segmentChannel.close();
+            openSegmentFor(seq);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void openSegmentFor(long seq) throws IOException {
+        segmentFirstSeq = seq - ((seq - 1) % segmentRecords);
+        Path file = directory.resolve(String.format("%020d%s", segmentFirstSeq, SEGMENT_SUFFIX));
+        segmentChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * JournalRecord.SIZE);
+        segmentWriter = segment.duplicate();
+    }
+
+    // 모든 레코드가 적용된 지난 세그먼트 삭제
+    private void deleteAppliedSegments() {
+        try {
+            for (Path file : segmentFiles()) {
+                long firstSeq = firstSeqOf(file);
+                if (firstSeq + segmentRecords - 1 <= appliedSeq && firstSeq < currentSegmentFirstSeq()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("이체 저널 세그먼트 삭제 실패", e);
+        }
+    }
+
+    private long currentSegmentFirstSeq() {
+        lock.lock();
+        try {
+            return segmentFirstSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void forceAll() {
+        lock.lock();
+        try {
+            for (MappedByteBuffer buffer : unforced) {
+                buffer.force();
+            }
+            unforced.clear();
+            segment.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 테스트에서 fsync 실패를 재현하기 위해 분리
+    void force(MappedByteBuffer buffer) {
+        buffer.force();
+    }
+
+    private boolean hasUnflushed() {
+        lock.lock();
+        try {
+            return !unflushed.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.comparingLong(TransferJournal::firstSeqOf));
+        return files;
+    }
+
+    private static long firstSeqOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private void addPending(JournalRecord record) {
+        pendingCounter(record.getSendAccountId()).addAndGet(record.getTransferAmount());
+        if (record.getIdempotencyKey() != null) {
+            pendingKeys.put(record.getIdempotencyKey(), record);
+        }
+    }
+
+    private AtomicLong pendingCounter(long accountId) {
+        return pendingDebits.computeIfAbsent(accountId, id -> new AtomicLong());
+    }
+}
@@ -0,0 +1,77 @@
+package com.bank.backend.common.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계좌 ID를 key로 하는 striped lock 테이블
+ * 여러 계좌를 잠글 때는 항상 stripe 번호 오름차순으로 획득하여 교착상태를 방지한다.
+ * (같은 JVM 안에서만 유효하므로 다중 인스턴스 배포에서는 OPTIMISTIC 모드와 함께 사용)
+ */
+@Component
+public class AccountLockManager {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public AccountLockManager(@Value("${bank.transfer.lock-stripes:1024}") int stripeCount) {
+        // stripe 개수는 2의 거듭제곱으로 맞춤
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /** 전달받은 계좌들의 lock을 고정된 순서로 획득 */
+    public Locked lock(Long... accountIds) {
+        int[] indexes = Arrays.stream(accountIds)
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lockInterruptibly();
+                acquired++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            release(indexes, acquired);
+            throw new IllegalStateException("계좌 잠금 대기 중 인터럽트가 발생했습니다.", e);
+        }
+
+        return new Locked(indexes);
+    }
+
+    private int stripeOf(Long accountId) {
+        int h = Long.hashCode(accountId);
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void release(int[] indexes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+
+    /** try-with-resources 로 해제하는 lock 핸들 */
+    public class Locked implements AutoCloseable {
+        private final int[] indexes;
+
+        private Locked(int[] indexes) {
+            this.indexes = indexes;
+        }
+
+        @Override
+        public void close() {
+            release(indexes, indexes.length);
+        }
+    }
+}
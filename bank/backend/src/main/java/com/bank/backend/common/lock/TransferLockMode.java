@@ -0,0 +1,13 @@
+package com.bank.backend.common.lock;
+
+/**
+ * 계좌 이체 동시성 제어 방식
+ * - PESSIMISTIC : 기존 방식 (SERIALIZABLE + 송금 계좌 PESSIMISTIC_WRITE)
+ * - STRIPED : 프로세스 내 계좌 ID 기반 striped lock (READ_COMMITTED)
+ * - OPTIMISTIC : Account @Version 기반 낙관적 락 + 재시도 (READ_COMMITTED)
+ */
+public enum TransferLockMode {
+    PESSIMISTIC,
+    STRIPED,
+    OPTIMISTIC
+}
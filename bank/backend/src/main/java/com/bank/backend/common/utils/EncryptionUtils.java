@@ -1,30 +1,17 @@
 package com.bank.backend.common.utils;
 
-import java.security.MessageDigest;
 import java.security.SecureRandom;
 
 public class EncryptionUtils {
 
     private static final int SALT_SIZE = 16;
     public static String encryption(String str, String salt) throws Exception{
-        MessageDigest md = MessageDigest.getInstance("SHA-256");
-
-        for(int i = 0; i < 100; i++){
-            String temp = str + salt;
-            md.update(temp.getBytes());
-            str = byteToString(md.digest());
-        }
-
-        // 해싱 처리 알고리즘
-        return str;
+        // 해싱 처리 알고리즘 (SHA-256 100회 반복)
+        return HashEngine.hash(str, salt);
     }
 
     public static String byteToString(byte[] temp){
-        StringBuilder sb = new StringBuilder();
-        for(byte a : temp){
-            sb.append(String.format("%02x", a));
-        }
-        return sb.toString();
+        return HashEngine.toHex(temp);
     }
 
     public static String makeSalt() {
@@ -35,12 +22,4 @@ public class EncryptionUtils {
 
         return byteToString(temp);
     }
-
-    public static String makeAccountNumber() {
-        SecureRandom random = new SecureRandom();
-
-        long randomNumber = random.nextLong();
-        String accountNumber = String.valueOf(randomNumber).substring(2,15);
-        return accountNumber;
-    }
 }
@@ -0,0 +1,127 @@
+package com.bank.backend.common.utils;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * EncryptionUtils.encryption 의 반복 해싱 엔진
+ * 기존 구현(매 반복마다 str + salt 문자열 생성, String.format 16진수 변환)과 같은 결과를 내면서
+ * 스레드별 MessageDigest 와 미리 할당한 버퍼를 재사용한다.
+ */
+public final class HashEngine {
+
+    public static final int ITERATIONS = 100;
+
+    private static final int DIGEST_SIZE = 32; // SHA-256
+    private static final int HEX_SIZE = DIGEST_SIZE * 2;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    // 기본 charset 에서 16진수 문자가 ASCII 와 같은 바이트로 인코딩되는지 (아니면 기존 방식으로 처리)
+    private static final boolean ASCII_COMPATIBLE =
+            Arrays.equals("0123456789abcdef".getBytes(Charset.defaultCharset()), HEX);
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private HashEngine() {
+    }
+
+    /** SHA-256(str + salt) 를 100회 반복한 16진수 문자열 */
+    public static String hash(String str, String salt) {
+        if (!ASCII_COMPATIBLE || salt == null) {
+            return legacyHash(str, salt);
+        }
+
+        State state = STATE.get();
+        MessageDigest md = state.digest;
+        byte[] saltBytes = state.saltBytes(salt);
+
+        // 첫 반복은 입력 문자열을 그대로 사용
+        md.update((str + salt).getBytes());
+        digest(md, state.out);
+
+        // 이후 반복은 [이전 결과 16진수 | salt] 버퍼를 재사용
+        byte[] buffer = state.buffer(saltBytes);
+        for (int i = 1; i < ITERATIONS; i++) {
+            toHex(state.out, buffer);
+            md.update(buffer, 0, HEX_SIZE + saltBytes.length);
+            digest(md, state.out);
+        }
+
+        toHex(state.out, buffer);
+        return new String(buffer, 0, HEX_SIZE, StandardCharsets.US_ASCII);
+    }
+
+    /** 바이트 배열을 소문자 16진수 문자열로 변환 */
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_CHARS[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX_CHARS[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    private static void toHex(byte[] digest, byte[] buffer) {
+        for (int i = 0; i < DIGEST_SIZE; i++) {
+            buffer[i * 2] = HEX[(digest[i] >> 4) & 0x0f];
+            buffer[i * 2 + 1] = HEX[digest[i] & 0x0f];
+        }
+    }
+
+    private static void digest(MessageDigest md, byte[] out) {
+        try {
+            md.digest(out, 0, DIGEST_SIZE);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String legacyHash(String str, String salt) {
+        MessageDigest md = newDigest();
+        for (int i = 0; i < ITERATIONS; i++) {
+            md.update((str + salt).getBytes());
+            str = toHex(md.digest());
+        }
+        return str;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 스레드별 재사용 상태
+    private static final class State {
+
+        private final MessageDigest digest = newDigest();
+        private final byte[] out = new byte[DIGEST_SIZE];
+        private byte[] buffer = new byte[HEX_SIZE + 64];
+
+        private String lastSalt;
+        private byte[] lastSaltBytes;
+
+        private byte[] saltBytes(String salt) {
+            if (!salt.equals(lastSalt)) {
+                lastSalt = salt;
+                lastSaltBytes = salt.getBytes();
+            }
+            return lastSaltBytes;
+        }
+
+        private byte[] buffer(byte[] saltBytes) {
+            if (buffer.length < HEX_SIZE + saltBytes.length) {
+                buffer = new byte[HEX_SIZE + saltBytes.length];
+            }
+            System.arraycopy(saltBytes, 0, buffer, HEX_SIZE, saltBytes.length);
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC batch insert, 스트리밍 조회 설정
+ * History, Memo, Account 는 pooled-lo 시퀀스로 id 를 미리 할당하므로 insert 를 batch 로 묶을 수 있다.
+ * Stream 조회의 fetch size 힌트는 MySQL 드라이버에서 useCursorFetch=true 일 때만 적용된다. (없으면 결과 전체를 메모리에 올림)
+ */
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer batchHibernatePropertiesCustomizer(@Value("${bank.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+
+    // MySQL 드라이버 설정 : batch 를 multi-row insert 한 번으로 전송, fetch size 만큼씩 서버 커서로 조회
+    @Bean
+    public static BeanPostProcessor mysqlDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof HikariDataSource) {
+                    HikariDataSource dataSource = (HikariDataSource) bean;
+                    if (dataSource.getJdbcUrl() != null && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+                        dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                        dataSource.addDataSourceProperty("useCursorFetch", "true");
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
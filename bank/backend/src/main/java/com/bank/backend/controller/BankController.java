@@ -4,16 +4,26 @@ import com.bank.backend.common.utils.ApiUtils;
 import com.bank.backend.common.utils.ApiUtils.ApiResult;
 import com.bank.backend.dto.*;
 import com.bank.backend.entity.Memo;
+import com.bank.backend.service.BalanceService;
 import com.bank.backend.service.BankService;
+import com.bank.backend.service.HotAccountService;
+import com.bank.backend.service.ReconciliationService;
+import com.bank.backend.service.StandingOrderService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import lombok.extern.slf4j.Slf4j;
 import com.bank.backend.entity.History;
@@ -28,29 +38,32 @@ import javax.validation.Valid;
 public class BankController {
 
     private final BankService bankService;
+    private final BalanceService balanceService;
+    private final HotAccountService hotAccountService;
+    private final StandingOrderService standingOrderService;
+    private final ReconciliationService reconciliationService;
 
+    // 운영 API(정합성 검증) 호출용 토큰, 설정하지 않으면 운영 API 비활성화
+    @Value("${bank.admin.token:}")
+    private String adminToken;
 
     /** 계좌 목록조회 **/
-    @ApiOperation(value = "계좌 목록조회", notes = "예금주의 식별번호에 해당하는 계좌 목록을 보여주는 API", response = ApiResult.class)
+    @ApiOperation(value = "계좌 목록조회", notes = "예금주의 식별번호 목록에 해당하는 계좌 목록(accounts)과 계좌정보가 없는 식별번호(notFound)를 보여주는 API", response = ApiResult.class)
     @PostMapping("/account/list")
     public ApiResult getAccountList(@RequestBody @ApiParam(value = "예금주 식별번호 리스트",required = true) AccountListDto.Request req){
         List<String> identificationNumber = req.getIdentificationNumber();
-        List<AccountListDto.Response> result = new ArrayList<>();
 
         if(identificationNumber==null || identificationNumber.size()==0) { // 입력값을 넣지 않은 경우
             return ApiUtils.error("입력값이 없습니다", HttpStatus.BAD_REQUEST);
         }
 
-        // result 리스트에 계좌목록 추가
-        for(String number : identificationNumber){
-            try{
-                int cnt = bankService.findAccountList(result,number);
-            }catch (Exception e){
-                return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
-            }
+        // 전체 식별번호를 한 번에 조회하고, 계좌정보가 없는 식별번호는 notFound 로 반환
+        try{
+            AccountListDto.ListResponse result = bankService.findAccountList(identificationNumber);
+            return ApiUtils.success(result);
+        }catch (Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
-
-        return ApiUtils.success(result);
     }
 
     /** 계좌 상세조회 **/
@@ -67,6 +80,81 @@ public class BankController {
         return ApiUtils.success(result);
     }
 
+    /** 특정 시점 잔액 조회 **/
+    @ApiOperation(value = "특정 시점 잔액 조회", notes = "accountId에 해당하는 계좌의 특정 시점(at) 잔액을 잔액 체크포인트 기반으로 조회하는 API", response = ApiResult.class)
+    @GetMapping("/account/{accountId}/balance")
+    public ApiResult getBalanceAt(@PathVariable("accountId") Long accountId,
+                                  @ApiParam(value = "조회 시점 (yyyy-MM-ddTHH:mm:ss)", required = true) @RequestParam("at") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at){
+        try {
+            BalanceDto.Response result = balanceService.getBalanceAt(accountId, at);
+            return ApiUtils.success(result);
+        }catch (Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /** 핫 계좌 전환 **/
+    @ApiOperation(value = "핫 계좌 전환", notes = "입금이 몰리는 계좌의 잔액을 slots 개의 잔액 슬롯으로 나눠 입금을 병렬 처리하는 운영 API (이미 핫 계좌면 슬롯 수 변경, X-Admin-Token 필요)", response = ApiResult.class)
+    @PostMapping("/account/{accountId}/hot")
+    public ApiResult enableHotAccount(@PathVariable("accountId") Long accountId,
+                                      @ApiParam(value = "잔액 슬롯 수 (1 ~ 64)") @RequestParam(value = "slots", defaultValue = "8") int slots,
+                                      @ApiParam(value = "운영 API 토큰") @RequestHeader(value = "X-Admin-Token", required = false) String token){
+        if(!isAdmin(token)){
+            return ApiUtils.error("권한이 없습니다.", HttpStatus.FORBIDDEN);
+        }
+        try {
+            hotAccountService.enable(accountId, slots);
+            return ApiUtils.success("핫 계좌로 전환되었습니다.");
+        }catch (Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /** 핫 계좌 해제 **/
+    @ApiOperation(value = "핫 계좌 해제", notes = "잔액 슬롯을 계좌 잔액으로 합치고 일반 계좌로 되돌리는 운영 API (X-Admin-Token 필요)", response = ApiResult.class)
+    @DeleteMapping("/account/{accountId}/hot")
+    public ApiResult disableHotAccount(@PathVariable("accountId") Long accountId,
+                                       @ApiParam(value = "운영 API 토큰") @RequestHeader(value = "X-Admin-Token", required = false) String token){
+        if(!isAdmin(token)){
+            return ApiUtils.error("권한이 없습니다.", HttpStatus.FORBIDDEN);
+        }
+        try {
+            hotAccountService.disable(accountId);
+            return ApiUtils.success("일반 계좌로 전환되었습니다.");
+        }catch (Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /** 잔액 정합성 검증 실행 **/
+    @ApiOperation(value = "잔액 정합성 검증 실행", notes = "전체 계좌의 잔액을 거래내역과 대조하고 총액 보존 여부를 확인한 리포트를 반환하는 API", response = ApiResult.class)
+    @PostMapping("/reconciliation")
+    public ApiResult reconcile(@ApiParam(value = "운영 API 토큰") @RequestHeader(value = "X-Admin-Token", required = false) String token){
+        if(!isAdmin(token)){
+            return ApiUtils.error("권한이 없습니다.", HttpStatus.FORBIDDEN);
+        }
+        try {
+            ReconciliationDto.Report report = reconciliationService.reconcile();
+            return ApiUtils.success(report);
+        }catch (Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /** 마지막 잔액 정합성 검증 리포트 **/
+    @ApiOperation(value = "마지막 잔액 정합성 검증 리포트", notes = "가장 최근에 실행된 잔액 정합성 검증 리포트를 반환하는 API", response = ApiResult.class)
+    @GetMapping("/reconciliation")
+    public ApiResult getReconciliationReport(@ApiParam(value = "운영 API 토큰") @RequestHeader(value = "X-Admin-Token", required = false) String token){
+        if(!isAdmin(token)){
+            return ApiUtils.error("권한이 없습니다.", HttpStatus.FORBIDDEN);
+        }
+        Optional<ReconciliationDto.Report> report = reconciliationService.lastReport();
+        if(report.isEmpty()){
+            return ApiUtils.error("정합성 검증 리포트가 없습니다.", HttpStatus.BAD_REQUEST);
+        }
+        return ApiUtils.success(report.get());
+    }
+
     /** 예금주 생성 **/
     @ApiOperation(value = "예금주 생성", notes = "예금주 생성하는 API", response = ApiResult.class)
     @PostMapping("/owner/create")
@@ -104,11 +192,12 @@ public class BankController {
     /** 계좌 이체 **/
     @ApiOperation(value = "계좌 이체", notes = "계좌 이체 API", response = ApiResult.class)
     @PostMapping("/account/transfer")
-    public ApiResult transfer(@ApiParam(value = "계좌 이체에 필요한 Request Dto",required = true) @RequestBody TransferDto.Request request) throws Exception{
+    public ApiResult transfer(@ApiParam(value = "계좌 이체에 필요한 Request Dto",required = true) @RequestBody TransferDto.Request request,
+                              @ApiParam(value = "재요청 시 중복 이체 방지용 키") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) throws Exception{
         log.info("{} 계좌로 {}원 송금 요청", request.getToAccount(), request.getTransferAmount());
 
         try{
-            TransferDto.Response transferDto = bankService.transfer(request);
+            TransferDto.Response transferDto = bankService.transfer(request, idempotencyKey);
             log.info("{}에서 {}으로 송금 완료", transferDto.getSendOwner(), transferDto.getToOwner());
             return ApiUtils.success(transferDto.getMsg());
         }catch(Exception e){
@@ -116,6 +205,52 @@ public class BankController {
         }
     }
 
+    /** 일괄 계좌 이체 **/
+    @ApiOperation(value = "일괄 계좌 이체", notes = "여러 건의 계좌 이체를 하나의 트랜잭션으로 처리하고 건별 성공 여부를 반환하는 API", response = ApiResult.class)
+    @PostMapping("/account/transfer/batch")
+    public ApiResult transferBatch(@ApiParam(value = "일괄 계좌 이체에 필요한 Request Dto",required = true) @RequestBody TransferDto.BatchRequest request) {
+        List<TransferDto.Request> transfers = request.getTransfers();
+
+        if(transfers==null || transfers.size()==0) { // 입력값을 넣지 않은 경우
+            return ApiUtils.error("입력값이 없습니다", HttpStatus.BAD_REQUEST);
+        }
+
+        log.info("일괄 송금 요청 {}건", transfers.size());
+
+        try{
+            TransferDto.BatchResponse response = bankService.transferBatch(transfers);
+            log.info("일괄 송금 완료 (성공 {}건, 실패 {}건)", response.getSuccessCount(), response.getFailCount());
+            return ApiUtils.success(response);
+        }catch(Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /** 자동이체 등록 **/
+    @ApiOperation(value = "자동이체 등록", notes = "firstRunAt 부터 cycle(DAILY, WEEKLY, MONTHLY) 주기로 이체하는 자동이체를 등록하는 API", response = ApiResult.class)
+    @PostMapping("/standing-order")
+    public ApiResult createStandingOrder(@ApiParam(value = "자동이체 등록에 필요한 Request Dto",required = true) @RequestBody StandingOrderDto.Request request){
+        try{
+            StandingOrderDto.Response response = standingOrderService.create(request);
+            return ApiUtils.success(response);
+        }catch(Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /** 자동이체 해지 **/
+    @ApiOperation(value = "자동이체 해지", notes = "자동이체를 해지하는 API", response = ApiResult.class)
+    @PostMapping("/standing-order/{standingOrderId}/cancel")
+    public ApiResult cancelStandingOrder(@PathVariable("standingOrderId") Long standingOrderId,
+                                         @ApiParam(value = "자동이체 해지에 필요한 Request Dto",required = true) @RequestBody StandingOrderDto.CancelRequest request){
+        try{
+            StandingOrderDto.Response response = standingOrderService.cancel(standingOrderId, request.getIdentificationNumber());
+            return ApiUtils.success(response);
+        }catch(Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /** 계좌 실명 조회 **/
     @ApiOperation(value = "계좌 실명 조회", notes="계좌 실명 조회 API", response=ApiResult.class)
     @PostMapping("/account/certification")
@@ -129,7 +264,7 @@ public class BankController {
     }
 
     /** 계좌 거래 내역 조회 */
-    @ApiOperation(value = "계좌 거래 내역 전체 조회", notes = "계좌 거래내역을 모두 조회하는 API", response = ApiResult.class)
+    @ApiOperation(value = "계좌 거래 내역 전체 조회", notes = "계좌 거래내역을 모두 조회하는 API (거래가 많은 계좌는 /history/page 사용)", response = ApiResult.class)
     @PostMapping("/history")
     public ApiResult<?> getHistoryList(@ApiParam(value = "거래내역 조회에 필요한 요청값",required = true) @Valid @RequestBody HistoryDto.Request req) {
         try{
@@ -141,6 +276,42 @@ public class BankController {
         }
     }
 
+    /** 계좌 거래 내역 페이지 조회 */
+    @ApiOperation(value = "계좌 거래 내역 페이지 조회", notes = "기간, 거래 유형 조건으로 계좌 거래내역을 커서 기반으로 나누어 조회하는 API", response = ApiResult.class)
+    @PostMapping("/history/page")
+    public ApiResult<?> getHistoryPage(@ApiParam(value = "거래내역 페이지 조회에 필요한 요청값",required = true) @Valid @RequestBody HistoryDto.PageRequest req) {
+        try{
+            HistoryDto.PageResponse result = bankService.getHistoryPage(req);
+            return ApiUtils.success(result);
+        } catch(Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /** 계좌 거래 내역 증분 조회 */
+    @ApiOperation(value = "계좌 거래 내역 증분 조회", notes = "마지막으로 받은 거래내역 이후의 거래내역을 오래된 순으로 조회하는 API (외부 미러 동기화용)", response = ApiResult.class)
+    @PostMapping("/history/delta")
+    public ApiResult<?> getHistoryDelta(@ApiParam(value = "거래내역 증분 조회에 필요한 요청값",required = true) @Valid @RequestBody HistoryDto.DeltaRequest req) {
+        try{
+            HistoryDto.DeltaResponse result = bankService.getHistoryDelta(req);
+            return ApiUtils.success(result);
+        } catch(Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /** 상대 계좌별 월간 거래 내역 조회 */
+    @ApiOperation(value = "상대 계좌별 월간 거래 내역 조회", notes = "특정 상대 계좌와의 한 달 거래내역과 입금 / 송금 합계를 조회하는 API", response = ApiResult.class)
+    @PostMapping("/history/counterparty")
+    public ApiResult<?> getCounterpartyHistory(@ApiParam(value = "상대 계좌별 거래내역 조회에 필요한 요청값",required = true) @Valid @RequestBody HistoryDto.CounterpartyRequest req) {
+        try{
+            HistoryDto.CounterpartyResponse result = bankService.getCounterpartyHistory(req);
+            return ApiUtils.success(result);
+        } catch(Exception e){
+            return ApiUtils.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /** 상세 거래 내역 조회 */
     @ApiOperation(value = "계좌 거래 상세 내역 조회", notes = "계좌 거래내역을 상세 조회하는 API", response = ApiResult.class)
     @PostMapping("/detail_history")
@@ -177,5 +348,11 @@ public class BankController {
         }
     }
 
-
+    // 운영 API 토큰 확인 (상수 시간 비교)
+    private boolean isAdmin(String token){
+        if(adminToken.isEmpty() || token == null){
+            return false;
+        }
+        return MessageDigest.isEqual(adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
 }
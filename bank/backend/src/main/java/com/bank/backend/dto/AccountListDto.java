@@ -37,4 +37,11 @@ public class AccountListDto {
                     .build();
         }
     }
+
+    @Data
+    @Builder
+    public static class ListResponse{
+        private List<Response> accounts; // 입력한 식별번호 순서의 계좌 목록
+        private List<String> notFound; // 계좌정보가 없는 식별번호
+    }
 }
@@ -0,0 +1,18 @@
+package com.bank.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+public class BalanceDto {
+
+    @Data
+    @Builder
+    public static class Response {
+        private Long accountId; // 계좌 ID
+        private LocalDateTime at; // 조회 시점
+        private long balance; // 조회 시점의 잔액
+    }
+
+}
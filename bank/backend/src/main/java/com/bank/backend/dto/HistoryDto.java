@@ -1,14 +1,17 @@
 package com.bank.backend.dto;
 
-import com.bank.backend.entity.BankCode;
-import com.bank.backend.entity.History;
-import com.bank.backend.entity.Memo;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public class HistoryDto {
 
@@ -30,26 +33,192 @@ public class HistoryDto {
 
     }
 
+    @ApiModel(value = "계좌 거래내역 페이지 조회", description = "키셋 페이징 거래내역 조회에 필요한 요청값 DTO")
+    @Data
+    public static class PageRequest {
+
+        @ApiModelProperty(value = "식별번호")
+        @NotBlank(message = "식별번호를 입력해주세요.")
+        private String identificationNumber;
+
+        @ApiModelProperty(value = "계좌번호")
+        @NotBlank(message = "계좌번호를 입력해주세요.")
+        private String accountNumber;
+
+        @ApiModelProperty(value = "조회 시작일 (포함)")
+        private LocalDate from;
+
+        @ApiModelProperty(value = "조회 종료일 (포함)")
+        private LocalDate to;
+
+        @ApiModelProperty(value = "거래 유형 (1 : 송금, 2 : 입금)")
+        private Integer type;
+
+        // 이전 페이지 응답의 nextCursor 값, 첫 페이지는 비워둠
+        @ApiModelProperty(value = "커서 - 마지막 거래 일시")
+        private LocalDateTime cursorCreatedAt;
+
+        @ApiModelProperty(value = "커서 - 마지막 거래내역ID")
+        private Long cursorId;
+
+        @ApiModelProperty(value = "페이지 크기 (기본 20, 최대 100)")
+        private Integer size;
+
+    }
+
+    @Builder
+    @Data
+    public static class PageResponse {
+
+        private List<Response> histories;
+        private boolean hasNext;
+        private LocalDateTime nextCursorCreatedAt;
+        private Long nextCursorId;
+
+    }
+
+    @ApiModel(value = "계좌 거래내역 증분 조회", description = "마지막으로 받은 거래내역 이후의 거래내역 조회에 필요한 요청값 DTO")
+    @Data
+    public static class DeltaRequest {
+
+        @ApiModelProperty(value = "식별번호")
+        @NotBlank(message = "식별번호를 입력해주세요.")
+        private String identificationNumber;
+
+        @ApiModelProperty(value = "계좌번호")
+        @NotBlank(message = "계좌번호를 입력해주세요.")
+        private String accountNumber;
+
+        // 마지막으로 받은 거래내역의 (createdAt, id), 처음 동기화는 비워둠
+        @ApiModelProperty(value = "커서 - 마지막 거래 일시")
+        private LocalDateTime afterCreatedAt;
+
+        @ApiModelProperty(value = "커서 - 마지막 거래내역ID")
+        private Long afterId;
+
+        @ApiModelProperty(value = "조회 건수 (기본 500, 최대 1000)")
+        private Integer size;
+
+    }
+
+    @Builder
+    @Data
+    public static class DeltaResponse {
+
+        private List<Response> histories; // 오래된 순
+        private boolean hasNext;
+        private LocalDateTime serverTime; // 조회 시점의 은행 서버 시각 (커밋 지연 판단 기준)
+
+    }
+
+    @ApiModel(value = "상대 계좌별 월간 거래내역 조회", description = "상대 계좌, 연월 조건의 거래내역과 합계 조회에 필요한 요청값 DTO")
+    @Data
+    public static class CounterpartyRequest {
+
+        @ApiModelProperty(value = "식별번호")
+        @NotBlank(message = "식별번호를 입력해주세요.")
+        private String identificationNumber;
+
+        @ApiModelProperty(value = "계좌번호")
+        @NotBlank(message = "계좌번호를 입력해주세요.")
+        private String accountNumber;
+
+        @ApiModelProperty(value = "상대 계좌번호")
+        @NotBlank(message = "상대 계좌번호를 입력해주세요.")
+        private String toAccount;
+
+        @ApiModelProperty(value = "상대 계좌 은행 코드")
+        @NotNull(message = "상대 계좌 은행 코드를 입력해주세요.")
+        private Long toCode;
+
+        @ApiModelProperty(value = "연도")
+        @NotNull(message = "연도를 입력해주세요.")
+        private Integer year;
+
+        @ApiModelProperty(value = "월 (1 ~ 12)")
+        @NotNull(message = "월을 입력해주세요.")
+        private Integer month;
+
+    }
+
+    @Builder
+    @Data
+    public static class CounterpartyResponse {
+
+        private List<Response> histories;
+        private long totalIn;    // 입금 합계 (상대 계좌 -> 계좌)
+        private long totalOut;   // 송금 합계 (계좌 -> 상대 계좌)
+        private long inCount;
+        private long outCount;
+
+    }
+
+    // 거래내역 조회 결과 (History + Memo 를 한 번에 조회하는 프로젝션, 은행명은 BankCodeRegistry 에서 채움)
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+
+        private Long id;
+        private String toAccount;
+        private int type;
+        private int transferAmount;
+        private int afterBalance;
+        private boolean pending; // afterBalance 확정 전 (핫 계좌)
+        private String sign;
+        private String toSign;
+        private LocalDateTime createdAt;
+        private Long bankCodeId;
+        private String memo;
+
+    }
+
+    // 기존 History 엔티티 직렬화 결과와 동일한 필드 구성
+    @Builder
+    @Data
+    public static class Info {
+
+        private Long id;
+        private String toAccount;
+        private int type;
+        private int transferAmount;
+        private int afterBalance;
+        private boolean pending; // afterBalance 확정 전 (핫 계좌)
+        private String sign;
+        private String toSign;
+        private LocalDateTime createdAt;
+
+    }
+
     @Builder
     @Data
     public static class Response {
 
-        private History historyId;
+        private Info historyId;
         private BankCodeDto toCode;
         private String memo;
 
-        public static HistoryDto.Response toDTO(History entity) {
-            return HistoryDto.Response.builder()
-                    .historyId(entity)
-                    .toCode(BankCodeDto.fromEntity(entity.getToCode()))
-                    .build();
-        }
+        public static HistoryDto.Response toDTO(Row row, String bankName) {
+            BankCodeDto toCode = null;
+            if(row.getBankCodeId() != null){
+                toCode = new BankCodeDto();
+                toCode.setBankCodeId(row.getBankCodeId());
+                toCode.setBankName(bankName);
+            }
 
-        public static HistoryDto.Response toDTO(History entity, Memo memo) {
             return HistoryDto.Response.builder()
-                    .historyId(entity)
-                    .toCode(BankCodeDto.fromEntity(entity.getToCode()))
-                    .memo(memo.getContent())
+                    .historyId(Info.builder()
+                            .id(row.getId())
+                            .toAccount(row.getToAccount())
+                            .type(row.getType())
+                            .transferAmount(row.getTransferAmount())
+                            .afterBalance(row.getAfterBalance())
+                            .pending(row.isPending())
+                            .sign(row.getSign())
+                            .toSign(row.getToSign())
+                            .createdAt(row.getCreatedAt())
+                            .build())
+                    .toCode(toCode)
+                    .memo(row.getMemo())
                     .build();
         }
     }
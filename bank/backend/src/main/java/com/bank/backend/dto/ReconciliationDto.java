@@ -0,0 +1,35 @@
+package com.bank.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ReconciliationDto {
+
+    @Data
+    @Builder
+    public static class Report {
+        private LocalDateTime startedAt; // 시작 시각
+        private LocalDateTime finishedAt; // 종료 시각
+        private LocalDateTime cutoff; // 총액 보존 검증 기준 시각 (이 시각 이전 거래내역만 합산)
+        private long accounts; // 검증한 계좌 수
+        private long histories; // 읽은 거래내역 수
+        private long skipped; // 핫 계좌 정산 대기로 건너뛴 계좌 수
+        private long totalSent; // 기준 시각 이전 송금 합계
+        private long totalReceived; // 기준 시각 이전 입금 합계
+        private boolean conserved; // 송금 합계 = 입금 합계
+        private long mismatchCount; // 잔액 불일치 계좌 수
+        private List<Mismatch> mismatches; // 잔액 불일치 내역 (최대 1000건)
+    }
+
+    @Data
+    @Builder
+    public static class Mismatch {
+        private Long accountId; // 계좌 ID
+        private String type; // LAST_AFTER_BALANCE : 잔액 != 마지막 거래 후 잔액, HISTORY_FLOW : 잔액 != 첫 거래 전 잔액 + 입출금 합계
+        private long balance; // 계좌 잔액 (핫 계좌는 잔액 슬롯 포함)
+        private long expected; // 거래내역 기준 잔액
+    }
+}
@@ -0,0 +1,80 @@
+package com.bank.backend.dto;
+
+import com.bank.backend.entity.StandingOrder;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+public class StandingOrderDto {
+
+    @ApiModel(value = "자동이체 등록", description = "자동이체(정기 이체)를 등록하기 위한 Request Dto")
+    @Data
+    @Builder
+    public static class Request{
+        @ApiModelProperty(value = "식별번호", example = "01026807453")
+        private String identificationNumber;
+
+        @ApiModelProperty(value = "내 계좌")
+        private Long accountId;
+
+        @ApiModelProperty(value = "계좌 비밀번호 4자리")
+        private String password;
+
+        @ApiModelProperty(value = "상대 은행 코드")
+        private Long toCode;
+
+        @ApiModelProperty(value = "상대 계좌 번호")
+        private String toAccount;
+
+        @ApiModelProperty(value = "송금 금액")
+        private Integer transferAmount;
+
+        @ApiModelProperty(value = "주기 (DAILY, WEEKLY, MONTHLY)", example = "WEEKLY")
+        private StandingOrder.Cycle cycle;
+
+        @ApiModelProperty(value = "첫 이체 시각", example = "2023-10-09T00:00:00")
+        private LocalDateTime firstRunAt;
+
+        @ApiModelProperty(value = "내가 보는 메모")
+        private String sign;
+
+        @ApiModelProperty(value = "상대가 보는 메모")
+        private String toSign;
+    }
+
+    @ApiModel(value = "자동이체 해지", description = "자동이체를 해지하기 위한 Request Dto")
+    @Data
+    public static class CancelRequest{
+        @ApiModelProperty(value = "식별번호", example = "01026807453")
+        private String identificationNumber;
+    }
+
+    @Data
+    @Builder
+    public static class Response{
+        private Long standingOrderId; // 자동이체 ID
+        private Long accountId; // 송금 계좌
+        private String toAccount; // 상대 계좌 번호
+        private int transferAmount; // 송금 금액
+        private StandingOrder.Cycle cycle; // 주기
+        private LocalDateTime scheduledAt; // 다음 이체 예정 시각
+        private StandingOrder.Status status; // 상태
+        private String lastResult; // 마지막 실행 결과
+
+        public static StandingOrderDto.Response toDTO(StandingOrder entity) {
+            return StandingOrderDto.Response.builder()
+                    .standingOrderId(entity.getId())
+                    .accountId(entity.getAccountId())
+                    .toAccount(entity.getToAccount())
+                    .transferAmount(entity.getTransferAmount())
+                    .cycle(entity.getCycle())
+                    .scheduledAt(entity.getScheduledAt())
+                    .status(entity.getStatus())
+                    .lastResult(entity.getLastResult())
+                    .build();
+        }
+    }
+}
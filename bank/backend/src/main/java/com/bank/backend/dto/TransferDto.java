@@ -5,6 +5,8 @@ import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.*;
 
+import java.util.List;
+
 public class TransferDto {
     @ApiModel(value = "계좌이체", description = "계좌 이체릃 하기 위한 Request Dto")
     @Data
@@ -49,4 +51,27 @@ public class TransferDto {
         private boolean success;
 
     }
+
+    @ApiModel(value = "일괄 계좌이체", description = "여러 건의 계좌 이체를 한 번에 처리하기 위한 Request Dto")
+    @Data
+    public static class BatchRequest{
+        @ApiModelProperty(value = "이체 요청 목록")
+        private List<Request> transfers;
+    }
+
+    @Data
+    @Builder
+    public static class BatchResult{
+        private int index; // 요청 목록에서의 순서
+        private boolean success;
+        private String msg;
+    }
+
+    @Data
+    @Builder
+    public static class BatchResponse{
+        private int successCount;
+        private int failCount;
+        private List<BatchResult> results;
+    }
 }
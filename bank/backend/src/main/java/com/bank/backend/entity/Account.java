@@ -3,13 +3,19 @@ package com.bank.backend.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name="Account")
+// 계좌번호는 은행 코드 안에서만 유일 (조회도 항상 은행 코드 + 계좌번호로 함)
+// 기존 DB 는 ddl-auto 로 추가되지 않으므로 직접 생성 : ALTER TABLE account ADD CONSTRAINT uk_account_bank_code_account_number UNIQUE (bank_code_id, account_number);
+@Table(name="Account", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_bank_code_account_number", columnNames = {"bankCodeId", "accountNumber"})
+})
 @Getter @Setter
 @Builder
 @AllArgsConstructor
@@ -17,7 +23,12 @@ import java.util.List;
 public class Account {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "accountIdGenerator")
+    @GenericGenerator(name = "accountIdGenerator", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = "sequence_name", value = "account_seq"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    }) // JDBC batch insert 를 위해 IDENTITY 대신 사용 (MySQL 에서는 account_seq 테이블로 동작)
     @Column(name="id")
     private Long id;
 
@@ -46,6 +57,15 @@ public class Account {
     @Column(name="status", nullable = false)
     private boolean status;
 
+    // 핫 계좌 잔액 슬롯 수 (0 이면 일반 계좌)
+    @Column(name="balanceSlots", nullable = false, columnDefinition = "int default 0")
+    private int balanceSlots;
+
+    // 낙관적 락(OPTIMISTIC 이체 모드) 충돌 감지용 버전
+    @Version
+    @Column(name="version", nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     @JsonIgnore // JSON Serialization 오류 해결
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "bankCodeId")
@@ -56,6 +76,11 @@ public class Account {
     @JsonManagedReference
     private List<History> historyList = new ArrayList<>();
 
+    // 입금을 잔액 슬롯에 나눠 받는 계좌인지
+    public boolean isHot() {
+        return balanceSlots > 0;
+    }
+
     @PrePersist
     public void prePersist(){
         this.wrongCount = 0;
@@ -0,0 +1,45 @@
+package com.bank.backend.entity;
+
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+
+/**
+ * 핫 계좌의 잔액 슬롯
+ * 입금은 임의의 슬롯에만 더해 계좌 행 잠금 없이 병렬로 처리되고,
+ * 계좌 잔액 = Account.balance + 슬롯 합계 이다. (주기적으로 Account.balance 로 합쳐짐)
+ */
+@Entity
+@Table(name="AccountBalanceSlot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_balance_slot", columnNames = {"accountId", "slot"})
+})
+@Getter @Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountBalanceSlot {
+
+    @Id
+    @GeneratedValue(generator = "accountBalanceSlotIdGenerator")
+    @GenericGenerator(name = "accountBalanceSlotIdGenerator", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = "sequence_name", value = "account_balance_slot_seq"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    })
+    @Column(name="id")
+    private Long id;
+
+    @Column(name="accountId", nullable = false)
+    private Long accountId;
+
+    // 0 ~ (Account.balanceSlots - 1)
+    @Column(name="slot", nullable = false)
+    private int slot;
+
+    // 아직 합쳐지지 않은 입금액
+    @Column(name="balance", nullable = false)
+    private int balance;
+
+}
@@ -0,0 +1,27 @@
+package com.bank.backend.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 계좌번호 블록 할당 위치
+ * 노드는 nextSerial 부터 블록 단위로 일련번호를 예약하고 메모리에서 나눠준다.
+ */
+@Entity
+@Table(name="AccountNumberBlock")
+@Getter @Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountNumberBlock {
+
+    @Id
+    @Column(name="name", length = 50)
+    private String name;
+
+    // 다음 블록의 시작 일련번호
+    @Column(name="nextSerial", nullable = false)
+    private long nextSerial;
+
+}
@@ -0,0 +1,43 @@
+package com.bank.backend.entity;
+
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌별 잔액 체크포인트
+ * checkpointAt 시점까지(포함)의 거래내역이 모두 반영된 잔액
+ */
+@Entity
+@Table(name="BalanceCheckpoint", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_balance_checkpoint_account_at", columnNames = {"accountId", "checkpointAt"})
+})
+@Getter @Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceCheckpoint {
+
+    @Id
+    @GeneratedValue(generator = "balanceCheckpointIdGenerator")
+    @GenericGenerator(name = "balanceCheckpointIdGenerator", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = "sequence_name", value = "balance_checkpoint_seq"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    })
+    @Column(name="id")
+    private Long id;
+
+    @Column(name="accountId", nullable = false)
+    private Long accountId;
+
+    @Column(name="checkpointAt", nullable = false)
+    private LocalDateTime checkpointAt;
+
+    @Column(name="balance", nullable = false)
+    private long balance;
+
+}
@@ -2,8 +2,9 @@ package com.bank.backend.entity;
 
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -11,7 +12,14 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="History")
+@Table(name="History", indexes = {
+        // 계좌별 거래내역 키셋 페이징 (accountId, createdAt, id)
+        @Index(name = "idx_history_account_created_id", columnList = "accountId, createdAt, id"),
+        // 계좌 + 상대 계좌 + 기간 조회 (모임 멤버별 월간 내역)
+        @Index(name = "idx_history_account_to_created", columnList = "accountId, toAccount, createdAt"),
+        // 핫 계좌의 미정산 거래내역 조회
+        @Index(name = "idx_history_account_pending", columnList = "accountId, pending")
+})
 @Getter @Setter
 @Builder
 @AllArgsConstructor
@@ -20,7 +28,12 @@ import java.time.LocalDateTime;
 public class History {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "historyIdGenerator")
+    @GenericGenerator(name = "historyIdGenerator", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = "sequence_name", value = "history_seq"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    }) // JDBC batch insert 를 위해 IDENTITY 대신 사용 (MySQL 에서는 history_seq 테이블로 동작)
     @Column(name="id")
     private Long id;
 
@@ -33,10 +46,9 @@ public class History {
     private String toAccount;
 
 
-    @JsonIgnore // JSON Serialization 오류 해결
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "bankCodeId")
-    private BankCode toCode;
+    // 상대 계좌 은행 코드 (은행명은 BankCodeRegistry 에서 조회)
+    @Column(name = "bankCodeId")
+    private Long toCodeId;
 
     @Column(name="type", nullable = false)
     private int type;
@@ -47,6 +59,10 @@ public class History {
     @Column(name="afterBalance", nullable = false)
     private int afterBalance;
 
+    // 핫 계좌 거래 : 잔액 슬롯이 합쳐질 때 afterBalance 가 확정됨
+    @Column(name="pending", nullable = false, columnDefinition = "boolean default false")
+    private boolean pending;
+
     @Column(name="sign", length = 255)
     private String sign;
 
@@ -0,0 +1,27 @@
+package com.bank.backend.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 이체 저널 적용 위치 (노드별)
+ * 저널 레코드 적용과 같은 트랜잭션에서 갱신되어 재시작 시 중복 적용을 막는다.
+ */
+@Entity
+@Table(name="JournalCheckpoint")
+@Getter @Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JournalCheckpoint {
+
+    @Id
+    @Column(name="nodeId", length = 50)
+    private String nodeId;
+
+    // 마지막으로 DB 에 반영된 저널 순번
+    @Column(name="lastSeq", nullable = false)
+    private long lastSeq;
+
+}
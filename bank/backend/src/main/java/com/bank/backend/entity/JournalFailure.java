@@ -0,0 +1,68 @@
+package com.bank.backend.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * DB 에 반영하지 못한 이체 저널 레코드 (보상 처리 대상)
+ * 접수 응답이 나간 이체이므로 버리지 않고 저널 반영과 같은 트랜잭션에서 남긴 뒤 운영자가 처리한다.
+ */
+@Entity
+@Table(name="JournalFailure", indexes = {
+        @Index(name = "uk_journal_failure_node_seq", columnList = "nodeId, seq", unique = true),
+        @Index(name = "idx_journal_failure_idempotency_key", columnList = "idempotencyKey")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter @Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JournalFailure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name="nodeId", nullable = false, length = 50)
+    private String nodeId;
+
+    // 저널 순번
+    @Column(name="seq", nullable = false)
+    private long seq;
+
+    @Column(name="sendAccountId", nullable = false)
+    private long sendAccountId;
+
+    @Column(name="toAccountId", nullable = false)
+    private long toAccountId;
+
+    @Column(name="transferAmount", nullable = false)
+    private int transferAmount;
+
+    @Column(name="sign")
+    private String sign;
+
+    @Column(name="toSign")
+    private String toSign;
+
+    @Column(name="idempotencyKey", length = 100)
+    private String idempotencyKey;
+
+    // 반영하지 못한 이유
+    @Column(name="reason", nullable = false)
+    private String reason;
+
+    // 보상 처리 완료 여부
+    @Column(name="resolved", nullable = false)
+    private boolean resolved;
+
+    @Column(name="createdAt", updatable = false)
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+}
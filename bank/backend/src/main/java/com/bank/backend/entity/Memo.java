@@ -1,6 +1,8 @@
 package com.bank.backend.entity;
 
 import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,7 +20,12 @@ import java.time.LocalDateTime;
 public class Memo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "memoIdGenerator")
+    @GenericGenerator(name = "memoIdGenerator", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = "sequence_name", value = "memo_seq"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    }) // JDBC batch insert 를 위해 IDENTITY 대신 사용 (MySQL 에서는 memo_seq 테이블로 동작)
     @Column(name="id")
     private Long id;
 
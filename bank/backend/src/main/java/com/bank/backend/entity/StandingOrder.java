@@ -0,0 +1,121 @@
+package com.bank.backend.entity;
+
+import lombok.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 자동이체 (정기 이체)
+ * scheduledAt 은 이번 회차의 예정 시각, nextRunAt 은 실제로 실행을 시도할 시각
+ * (재시도 대기, 처리 중 임대 만료 시각 포함)이며 (status, nextRunAt) 인덱스로 실행 대상을 찾는다.
+ */
+@Entity
+@Table(name="StandingOrder", indexes = {
+        @Index(name = "idx_standing_order_status_next_run", columnList = "status, nextRunAt")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter @Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StandingOrder {
+
+    @Id
+    @GeneratedValue(generator = "standingOrderIdGenerator")
+    @GenericGenerator(name = "standingOrderIdGenerator", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+            @Parameter(name = "sequence_name", value = "standing_order_seq"),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+    })
+    @Column(name="id")
+    private Long id;
+
+    // 송금 계좌
+    @Column(name="accountId", nullable = false)
+    private Long accountId;
+
+    @Column(name="toCodeId", nullable = false)
+    private Long toCodeId;
+
+    @Column(name="toAccount", nullable = false)
+    private String toAccount;
+
+    @Column(name="transferAmount", nullable = false)
+    private int transferAmount;
+
+    @Column(name="sign")
+    private String sign;
+
+    @Column(name="toSign")
+    private String toSign;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name="cycle", nullable = false, length = 10)
+    private Cycle cycle;
+
+    // 첫 회차 예정 시각 (이후 회차는 여기서 주기 * 회차 만큼 더한 시각, 월말 보정 누적 방지)
+    @Column(name="firstRunAt", nullable = false)
+    private LocalDateTime firstRunAt;
+
+    // 처리(성공 또는 재시도 초과로 건너뜀)가 끝난 회차 수
+    @Column(name="runCount", nullable = false)
+    private int runCount;
+
+    @Column(name="scheduledAt", nullable = false)
+    private LocalDateTime scheduledAt;
+
+    @Column(name="nextRunAt", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    // 이번 회차의 실패 횟수
+    @Column(name="retryCount", nullable = false)
+    private int retryCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name="status", nullable = false, length = 10)
+    private Status status;
+
+    // 마지막 실행 결과 메시지
+    @Column(name="lastResult")
+    private String lastResult;
+
+    @CreatedDate
+    @Column(name="createdAt", updatable = false)
+    private LocalDateTime createdAt;
+
+    /** 이번 회차를 마치고 now 이후의 첫 회차로 이동 (서비스 중단 등으로 지난 회차는 건너뜀) */
+    public void advance(LocalDateTime now) {
+        do {
+            runCount++;
+            scheduledAt = cycle.after(firstRunAt, runCount);
+        } while (!scheduledAt.isAfter(now));
+
+        nextRunAt = scheduledAt;
+        retryCount = 0;
+    }
+
+    public enum Cycle {
+        DAILY, WEEKLY, MONTHLY;
+
+        /** first 로부터 n 회차 뒤의 시각 */
+        public LocalDateTime after(LocalDateTime first, int n) {
+            switch (this) {
+                case DAILY:
+                    return first.plusDays(n);
+                case WEEKLY:
+                    return first.plusWeeks(n);
+                default:
+                    return first.plusMonths(n);
+            }
+        }
+    }
+
+    public enum Status {
+        ACTIVE, CANCELED
+    }
+}
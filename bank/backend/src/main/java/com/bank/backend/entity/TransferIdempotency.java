@@ -0,0 +1,73 @@
+package com.bank.backend.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 이체 Idempotency-Key 와 처리 결과
+ * 이체와 같은 트랜잭션에서 저장되므로 키가 남아 있으면 이체도 반영된 것이다.
+ */
+@Entity
+@Table(name="TransferIdempotency", indexes = {
+        // 보관 기간이 지난 키 정리
+        @Index(name = "idx_transfer_idempotency_created", columnList = "createdAt")
+})
+@Getter @Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class TransferIdempotency implements Persistable<String> {
+
+    @Id
+    @Column(name="idempotencyKey", length = 100)
+    private String idempotencyKey;
+
+    // 키를 사용한 송금 계좌 (다른 계좌의 키 재사용 방지)
+    @Column(name="accountId", nullable = false)
+    private Long accountId;
+
+    // 요청 내용(송금 계좌, 상대 은행/계좌, 금액)의 SHA-256 (같은 키로 다른 이체를 요청하면 거절)
+    @Column(name="requestHash", length = 64)
+    private String requestHash;
+
+    @Column(name="msg", nullable = false)
+    private String msg;
+
+    @Column(name="sendOwner", length = 20)
+    private String sendOwner;
+
+    @Column(name="toOwner", length = 20)
+    private String toOwner;
+
+    @Column(name="createdAt", updatable = false)
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    // 키가 이미 있으면 merge(update) 대신 insert 실패로 중복을 감지하기 위해 항상 새 엔티티로 저장
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+}
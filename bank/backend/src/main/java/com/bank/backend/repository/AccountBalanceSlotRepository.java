@@ -0,0 +1,39 @@
+package com.bank.backend.repository;
+
+import com.bank.backend.entity.AccountBalanceSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+
+public interface AccountBalanceSlotRepository extends JpaRepository<AccountBalanceSlot, Long> {
+
+    // 입금 : 슬롯 한 행만 잠그고 증가
+    @Modifying
+    @Query("update AccountBalanceSlot s set s.balance = s.balance + :amount where s.accountId = :accountId and s.slot = :slot")
+    int addBalance(@Param("accountId") Long accountId, @Param("slot") int slot, @Param("amount") int amount);
+
+    // 합쳐지지 않은 입금액 합계
+    @Query("select coalesce(sum(s.balance), 0) from AccountBalanceSlot s where s.accountId = :accountId")
+    long sumBalance(@Param("accountId") Long accountId);
+
+    // 정합성 검증 : 계좌 ID 범위의 계좌별 슬롯 합계
+    @Query("select s.accountId as accountId, sum(s.balance) as balance from AccountBalanceSlot s " +
+            "where s.accountId between :fromId and :toId group by s.accountId")
+    List<SlotBalance> sumBalanceByAccountIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    interface SlotBalance {
+        Long getAccountId();
+        long getBalance();
+    }
+
+    // 합치기 : 진행 중인 입금이 끝날 때까지 모든 슬롯 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AccountBalanceSlot s where s.accountId = :accountId order by s.slot")
+    List<AccountBalanceSlot> findAllByAccountIdForUpdate(@Param("accountId") Long accountId);
+
+}
@@ -0,0 +1,18 @@
+package com.bank.backend.repository;
+
+import com.bank.backend.entity.AccountNumberBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface AccountNumberBlockRepository extends JpaRepository<AccountNumberBlock, String> {
+
+    // 블록 예약 : 노드 간 동시 예약을 막기 위해 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from AccountNumberBlock b where b.name = :name")
+    Optional<AccountNumberBlock> findByNameForUpdate(@Param("name") String name);
+}
@@ -3,11 +3,15 @@ package com.bank.backend.repository;
 import com.bank.backend.entity.Account;
 import com.bank.backend.entity.BankCode;
 import com.bank.backend.entity.Owner;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,8 +23,62 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     Optional<Account> findByBankCode_IdAndAccountNumber(Long bankCode, String accountNumber);
 
-    Optional<Account> findByAccountNumber(String accountNumber);
+    long countByOwner(Owner owner);
 
+    // 잔액 변경 전 잠금 조회 (PESSIMISTIC 이체, 저널 반영, 핫 계좌 정산), 조회 API 는 잠그지 않는 findById 사용
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<Account> findById(Long accountId);
+    @Query("select a from Account a where a.id = :accountId")
+    Optional<Account> findByIdForUpdate(@Param("accountId") Long accountId);
+
+    // 일괄 이체 : 관련 계좌 전체를 ID 오름차순으로 한 번에 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id in :accountIds order by a.id")
+    List<Account> findAllByIdInForUpdate(@Param("accountIds") Collection<Long> accountIds);
+
+    // 일괄 이체 : 상대 계좌 식별 정보 조회 (이체 트랜잭션 전에 호출되므로 primary 에서 조회)
+    @Transactional
+    @Query("select a.id as id, a.bankCode.id as bankCodeId, a.accountNumber as accountNumber from Account a where a.accountNumber in :accountNumbers")
+    List<AccountKey> findKeysByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // 이체 전에 잠글 상대 계좌의 ID만 조회 (primary)
+    @Transactional
+    @Query("select a.id from Account a where a.bankCode.id = :bankCode and a.accountNumber = :accountNumber")
+    Optional<Long> findIdByBankCodeAndAccountNumber(@Param("bankCode") Long bankCode, @Param("accountNumber") String accountNumber);
+
+    // 계좌 ID 키셋 조회 (배치 작업용)
+    @Query("select a.id from Account a where a.id > :afterId order by a.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 잔액 슬롯을 사용하는 핫 계좌 ID
+    @Query("select a.id from Account a where a.balanceSlots > 0 order by a.id")
+    List<Long> findHotAccountIds();
+
+    // 잔액 슬롯 수만 조회 (STRIPED 모드에서 상대 계좌 잠금 여부 판단, primary)
+    @Transactional
+    @Query("select a.balanceSlots from Account a where a.id = :accountId")
+    Optional<Integer> findBalanceSlotsById(@Param("accountId") Long accountId);
+
+    // 정합성 검증 : 계좌 ID 범위
+    @Query("select min(a.id) from Account a")
+    Optional<Long> findMinId();
+
+    @Query("select max(a.id) from Account a")
+    Optional<Long> findMaxId();
+
+    // 정합성 검증 : ID 범위의 계좌 잔액 (잠금 없음)
+    @Query("select a.id as id, a.balance as balance from Account a where a.id between :fromId and :toId order by a.id")
+    List<AccountBalance> findBalancesByIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    interface AccountBalance {
+        Long getId();
+        int getBalance();
+    }
+
+    // 계좌 식별 정보 projection
+    interface AccountKey {
+        Long getId();
+        Long getBankCodeId();
+        String getAccountNumber();
+    }
+
 }
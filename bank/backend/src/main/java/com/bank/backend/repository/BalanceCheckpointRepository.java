@@ -0,0 +1,16 @@
+package com.bank.backend.repository;
+
+import com.bank.backend.entity.BalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface BalanceCheckpointRepository extends JpaRepository<BalanceCheckpoint, Long> {
+
+    // at 이전(포함)의 가장 최근 체크포인트
+    Optional<BalanceCheckpoint> findFirstByAccountIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(Long accountId, LocalDateTime at);
+
+    boolean existsByAccountIdAndCheckpointAt(Long accountId, LocalDateTime checkpointAt);
+
+}
@@ -1,15 +1,124 @@
 package com.bank.backend.repository;
 
+import com.bank.backend.dto.HistoryDto;
 import com.bank.backend.entity.Account;
 import com.bank.backend.entity.History;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface HistoryRepository extends JpaRepository<History, Long> {
 
-    List<History> findByAccount(Account account);
+    String ROW_SELECT = "select new com.bank.backend.dto.HistoryDto$Row(" +
+            "h.id, h.toAccount, h.type, h.transferAmount, h.afterBalance, h.pending, h.sign, h.toSign, h.createdAt, " +
+            "h.toCodeId, m.content) " +
+            "from History h left join Memo m on m.historyId = h ";
+
+    // 계좌 전체 거래내역 스트리밍 조회 (결과 전체를 메모리에 올리지 않음, MySQL 은 useCursorFetch=true 필요 : JpaConfig)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query(ROW_SELECT + "where h.account = :account order by h.createdAt desc, h.id desc")
+    Stream<HistoryDto.Row> streamRowsByAccount(@Param("account") Account account);
+
+    // 정합성 검증 : 계좌 ID 범위의 거래내역을 계좌, 시간 순으로 스트리밍 조회 (idx_history_account_created_id 사용, fetch size 는 위와 같음)
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select h.account.id as accountId, h.type as type, h.transferAmount as transferAmount, " +
+            "h.afterBalance as afterBalance, h.pending as pending, h.createdAt as createdAt " +
+            "from History h where h.account.id between :fromId and :toId " +
+            "order by h.account.id, h.createdAt, h.id")
+    Stream<BalanceFlow> streamFlowsByAccountIdBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    interface BalanceFlow {
+        Long getAccountId();
+        int getType();
+        int getTransferAmount();
+        int getAfterBalance();
+        boolean isPending();
+        LocalDateTime getCreatedAt();
+    }
+
+    // 키셋 페이징 : (createdAt, id) 커서 이후의 거래내역을 최신순으로 조회
+    @Query(ROW_SELECT +
+            "where h.account = :account " +
+            "and (:from is null or h.createdAt >= :from) " +
+            "and (:to is null or h.createdAt < :to) " +
+            "and (:type is null or h.type = :type) " +
+            "and (:cursorCreatedAt is null or h.createdAt < :cursorCreatedAt " +
+            "     or (h.createdAt = :cursorCreatedAt and h.id < :cursorId)) " +
+            "order by h.createdAt desc, h.id desc")
+    List<HistoryDto.Row> findPageByAccount(@Param("account") Account account,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to,
+                                           @Param("type") Integer type,
+                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    // 증분 동기화 : (createdAt, id) 커서 이후의 거래내역을 오래된 순으로 조회 (idx_history_account_created_id 사용)
+    @Query(ROW_SELECT +
+            "where h.account = :account " +
+            "and (:afterCreatedAt is null or h.createdAt > :afterCreatedAt " +
+            "     or (h.createdAt = :afterCreatedAt and h.id > :afterId)) " +
+            "order by h.createdAt, h.id")
+    List<HistoryDto.Row> findRowsAfter(@Param("account") Account account,
+                                       @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+
+    // 상대 계좌와의 [from, to) 기간 거래내역 (idx_history_account_to_created 사용, 계좌번호는 은행 코드 안에서만 유일)
+    @Query(ROW_SELECT +
+            "where h.account = :account and h.toAccount = :toAccount and h.toCodeId = :toCode " +
+            "and h.createdAt >= :from and h.createdAt < :to " +
+            "order by h.createdAt desc, h.id desc")
+    List<HistoryDto.Row> findRowsByAccountAndCounterparty(@Param("account") Account account,
+                                                          @Param("toAccount") String toAccount,
+                                                          @Param("toCode") Long toCode,
+                                                          @Param("from") LocalDateTime from,
+                                                          @Param("to") LocalDateTime to);
+
+    // 상세 거래내역 조회
+    @Query(ROW_SELECT + "where h.account = :account and h.id = :historyId")
+    Optional<HistoryDto.Row> findRowByAccountAndId(@Param("account") Account account, @Param("historyId") Long historyId);
+
     Optional<History> findByAccountAndId(Account account, Long historyId);
 
+    // (from, to] 구간의 잔액 변화량 (입금 +, 송금 -)
+    @Query("select coalesce(sum(case when h.type = 2 then h.transferAmount else -h.transferAmount end), 0) " +
+            "from History h where h.account.id = :accountId and h.createdAt > :from and h.createdAt <= :to")
+    long sumBalanceDelta(@Param("accountId") Long accountId, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // (createdAt, id) 커서 이후 ~ to 구간의 잔액 변화량
+    @Query("select coalesce(sum(case when h.type = 2 then h.transferAmount else -h.transferAmount end), 0) " +
+            "from History h where h.account.id = :accountId " +
+            "and (h.createdAt > :fromCreatedAt or (h.createdAt = :fromCreatedAt and h.id > :fromId)) and h.createdAt <= :to")
+    long sumBalanceDeltaAfterCursor(@Param("accountId") Long accountId, @Param("fromCreatedAt") LocalDateTime fromCreatedAt,
+                                    @Param("fromId") Long fromId, @Param("to") LocalDateTime to);
+
+    // from 이후 전체 잔액 변화량
+    @Query("select coalesce(sum(case when h.type = 2 then h.transferAmount else -h.transferAmount end), 0) " +
+            "from History h where h.account.id = :accountId and h.createdAt > :from")
+    long sumBalanceDeltaAfter(@Param("accountId") Long accountId, @Param("from") LocalDateTime from);
+
+    // at 이전(포함)의 마지막 정산된 거래내역 (핫 계좌의 미정산 거래내역은 afterBalance 가 확정되지 않음)
+    Optional<History> findFirstByAccount_IdAndPendingFalseAndCreatedAtLessThanEqualOrderByCreatedAtDescIdDesc(Long accountId, LocalDateTime at);
+
+    // 핫 계좌의 미정산 거래내역 (발생 순)
+    List<History> findAllByAccount_IdAndPendingTrueOrderByCreatedAtAscIdAsc(Long accountId);
+
 }
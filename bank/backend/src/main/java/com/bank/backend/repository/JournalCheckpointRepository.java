@@ -0,0 +1,7 @@
+package com.bank.backend.repository;
+
+import com.bank.backend.entity.JournalCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JournalCheckpointRepository extends JpaRepository<JournalCheckpoint, String> {
+}
@@ -0,0 +1,9 @@
+package com.bank.backend.repository;
+
+import com.bank.backend.entity.JournalFailure;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JournalFailureRepository extends JpaRepository<JournalFailure, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+}
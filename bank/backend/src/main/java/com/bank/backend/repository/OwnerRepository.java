@@ -5,15 +5,18 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import java.util.Optional;
-
 public interface OwnerRepository extends JpaRepository<Owner, Long> {
 
     @Query("select distinct o from Owner o join fetch o.accountList al where o.identificationNumber = :inumber")
     public Optional<Owner> findOwnerWithAccount(@Param("inumber") String inumber);
     Optional<Owner> findByIdentificationNumber(String identificationNumber);
 
+    // 여러 예금주의 계좌 + 은행코드를 한 번에 조회
+    @Query("select distinct o from Owner o join fetch o.accountList al join fetch al.bankCode where o.identificationNumber in :inumbers")
+    List<Owner> findOwnersWithAccountIn(@Param("inumbers") Collection<String> inumbers);
+
 }
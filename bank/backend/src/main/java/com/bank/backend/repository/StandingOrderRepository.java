@@ -0,0 +1,30 @@
+package com.bank.backend.repository;
+
+import com.bank.backend.entity.StandingOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StandingOrderRepository extends JpaRepository<StandingOrder, Long> {
+
+    // 실행 시각이 된 자동이체를 잠금 (다른 노드가 잠근 행은 SKIP LOCKED 로 건너뜀, -2 = LockOptions.SKIP_LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select o from StandingOrder o where o.status = :status and o.nextRunAt <= :now order by o.nextRunAt")
+    List<StandingOrder> findDueForUpdate(@Param("status") StandingOrder.Status status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from StandingOrder o where o.id = :id")
+    Optional<StandingOrder> findByIdForUpdate(@Param("id") Long id);
+
+    List<StandingOrder> findAllByAccountIdAndStatus(Long accountId, StandingOrder.Status status);
+}
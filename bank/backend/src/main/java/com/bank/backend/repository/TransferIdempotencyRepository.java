@@ -0,0 +1,17 @@
+package com.bank.backend.repository;
+
+import com.bank.backend.entity.TransferIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface TransferIdempotencyRepository extends JpaRepository<TransferIdempotency, String> {
+
+    // 보관 기간이 지난 키 삭제
+    @Modifying
+    @Query("delete from TransferIdempotency t where t.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
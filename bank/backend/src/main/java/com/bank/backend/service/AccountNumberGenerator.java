@@ -0,0 +1,126 @@
+package com.bank.backend.service;
+
+import com.bank.backend.entity.AccountNumberBlock;
+import com.bank.backend.repository.AccountNumberBlockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 계좌번호 발급기
+ * AccountNumberBlock 에서 일련번호 블록을 미리 예약해 두고 메모리에서 순서대로 발급한다.
+ * 계좌번호 = 12자리 일련번호 + Luhn 검증 숫자 1자리 (13자리)
+ * 블록은 노드마다 겹치지 않으므로 계좌별 중복 확인 쿼리가 필요 없다. (재시작 시 남은 번호는 버린다)
+ */
+@Slf4j
+@Component
+public class AccountNumberGenerator {
+
+    private static final String BLOCK_NAME = "account";
+    private static final int SERIAL_DIGITS = 12;
+    private static final long MAX_SERIAL = 999_999_999_999L;
+
+    private final AccountNumberBlockRepository accountNumberBlockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    // 현재 블록 [next, end)
+    private long next;
+    private long end;
+
+    public AccountNumberGenerator(AccountNumberBlockRepository accountNumberBlockRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${bank.account-number.block-size:1000}") int blockSize) {
+        this.accountNumberBlockRepository = accountNumberBlockRepository;
+        this.blockSize = Math.max(1, blockSize);
+
+        // 호출한 트랜잭션이 롤백되어도 예약한 블록은 반영되어야 함
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 계좌번호 발급
+    public synchronized String next() {
+        if (next >= end) {
+            next = reserveBlock();
+            end = next + blockSize;
+        }
+        return format(next++);
+    }
+
+    // 계좌번호 형식 확인 (자릿수 + 검증 숫자)
+    public static boolean isValid(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() != SERIAL_DIGITS + 1) {
+            return false;
+        }
+        for (int i = 0; i < accountNumber.length(); i++) {
+            if (!Character.isDigit(accountNumber.charAt(i))) {
+                return false;
+            }
+        }
+        return checkDigit(accountNumber, SERIAL_DIGITS) == accountNumber.charAt(SERIAL_DIGITS) - '0';
+    }
+
+    static String format(long serial) {
+        char[] digits = new char[SERIAL_DIGITS + 1];
+        long value = serial;
+        for (int i = SERIAL_DIGITS - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        digits[SERIAL_DIGITS] = (char) ('0' + checkDigit(new String(digits, 0, SERIAL_DIGITS), SERIAL_DIGITS));
+        return new String(digits);
+    }
+
+    // Luhn 검증 숫자 (앞 length 자리 기준)
+    private static int checkDigit(String digits, int length) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = length - 1; i >= 0; i--) {
+            int digit = digits.charAt(i) - '0';
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    // 블록 예약 후 시작 일련번호 반환
+    private long reserveBlock() {
+        try {
+            return transactionTemplate.execute(status -> doReserveBlock());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 초기 행을 만든 경우 다시 예약
+            return transactionTemplate.execute(status -> doReserveBlock());
+        }
+    }
+
+    private long doReserveBlock() {
+        AccountNumberBlock block = accountNumberBlockRepository.findByNameForUpdate(BLOCK_NAME).orElse(null);
+
+        if (block == null) {
+            accountNumberBlockRepository.saveAndFlush(AccountNumberBlock.builder()
+                    .name(BLOCK_NAME)
+                    .nextSerial(1 + (long) blockSize)
+                    .build());
+            log.info("계좌번호 블록 초기화 : [1, {})", 1 + (long) blockSize);
+            return 1;
+        }
+
+        long start = block.getNextSerial();
+        if (start + blockSize - 1 > MAX_SERIAL) {
+            throw new IllegalStateException("발급 가능한 계좌번호가 모두 소진되었습니다.");
+        }
+        block.setNextSerial(start + blockSize);
+        return start;
+    }
+}
@@ -0,0 +1,13 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.BalanceDto;
+
+import java.time.LocalDateTime;
+
+public interface BalanceService {
+
+    public BalanceDto.Response getBalanceAt(Long accountId, LocalDateTime at) throws Exception;
+
+    public int createCheckpoints(LocalDateTime checkpointAt);
+
+}
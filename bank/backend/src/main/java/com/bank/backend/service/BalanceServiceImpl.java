@@ -0,0 +1,131 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.exception.NotFoundException;
+import com.bank.backend.dto.BalanceDto;
+import com.bank.backend.entity.BalanceCheckpoint;
+import com.bank.backend.entity.History;
+import com.bank.backend.repository.AccountRepository;
+import com.bank.backend.repository.BalanceCheckpointRepository;
+import com.bank.backend.repository.HistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BalanceServiceImpl implements BalanceService {
+
+    // 체크포인트 생성 시 한 트랜잭션에서 처리할 계좌 수
+    private static final int CHECKPOINT_CHUNK_SIZE = 500;
+
+    private final AccountRepository accountRepository;
+    private final HistoryRepository historyRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final HotAccountService hotAccountService;
+
+    /** 특정 시점의 잔액 조회 (가장 가까운 체크포인트 + 이후 거래내역 변화량) */
+    @Override
+    public BalanceDto.Response getBalanceAt(Long accountId, LocalDateTime at) throws Exception {
+        if(!accountRepository.existsById(accountId)){
+            throw new NotFoundException(accountId + "를 accountId로 가지는 계좌가 존재하지 않습니다");
+        }
+
+        return BalanceDto.Response.builder()
+                .accountId(accountId)
+                .at(at)
+                .balance(balanceAt(accountId, at))
+                .build();
+    }
+
+    /** 매일 0시 기준 잔액 체크포인트 생성 (0시 직전 거래가 모두 커밋된 뒤 실행) */
+    @Scheduled(cron = "${bank.balance-checkpoint.cron:0 5 0 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void createDailyCheckpoints() {
+        LocalDateTime checkpointAt = LocalDate.now().atStartOfDay();
+        int created = createCheckpoints(checkpointAt);
+        log.info("잔액 체크포인트 생성 완료 ({}) : {}건", checkpointAt, created);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 계좌 묶음 단위로 트랜잭션 처리
+    public int createCheckpoints(LocalDateTime checkpointAt) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        int created = 0;
+        Long afterId = 0L;
+
+        while (true) {
+            List<Long> accountIds = accountRepository.findIdsAfter(afterId, PageRequest.of(0, CHECKPOINT_CHUNK_SIZE));
+            if(accountIds.isEmpty()){
+                break;
+            }
+
+            try {
+                Integer count = template.execute(status -> createCheckpoints(accountIds, checkpointAt));
+                created += count == null ? 0 : count;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 같은 체크포인트를 먼저 만든 경우
+                log.warn("잔액 체크포인트 중복 생성 : {} ~ {}", accountIds.get(0), accountIds.get(accountIds.size() - 1));
+            }
+            afterId = accountIds.get(accountIds.size() - 1);
+        }
+
+        return created;
+    }
+
+    private int createCheckpoints(List<Long> accountIds, LocalDateTime checkpointAt) {
+        int created = 0;
+
+        for (Long accountId : accountIds) {
+            if(balanceCheckpointRepository.existsByAccountIdAndCheckpointAt(accountId, checkpointAt)){
+                continue;
+            }
+
+            balanceCheckpointRepository.save(BalanceCheckpoint.builder()
+                    .accountId(accountId)
+                    .checkpointAt(checkpointAt)
+                    .balance(balanceAt(accountId, checkpointAt))
+                    .build());
+            created++;
+        }
+
+        return created;
+    }
+
+    private long balanceAt(Long accountId, LocalDateTime at) {
+        // 체크포인트가 있으면 이후 변화량만 합산
+        Optional<BalanceCheckpoint> checkpoint = balanceCheckpointRepository
+                .findFirstByAccountIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(accountId, at);
+        if(checkpoint.isPresent()){
+            return checkpoint.get().getBalance()
+                    + historyRepository.sumBalanceDelta(accountId, checkpoint.get().getCheckpointAt(), at);
+        }
+
+        // 체크포인트 이전 : at 직전의 정산된 거래 후 잔액 + 이후 변화량 (미정산 거래내역의 afterBalance 는 사용하지 않음)
+        Optional<History> last = historyRepository.findFirstByAccount_IdAndPendingFalseAndCreatedAtLessThanEqualOrderByCreatedAtDescIdDesc(accountId, at);
+        if(last.isPresent()){
+            History history = last.get();
+            return history.getAfterBalance()
+                    + historyRepository.sumBalanceDeltaAfterCursor(accountId, history.getCreatedAt(), history.getId(), at);
+        }
+
+        // at 이전에 정산된 거래가 없음 : 현재 잔액(핫 계좌는 잔액 슬롯 포함)에서 at 이후 변화량을 뺌
+        return hotAccountService.balanceOf(accountRepository.findById(accountId)
+                .orElseThrow(() -> new NotFoundException(accountId + "를 accountId로 가지는 계좌가 존재하지 않습니다")))
+                - historyRepository.sumBalanceDeltaAfter(accountId, at);
+    }
+}
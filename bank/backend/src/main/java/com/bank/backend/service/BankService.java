@@ -12,7 +12,7 @@ import java.util.Map;
 
 public interface BankService {
 
-    public int findAccountList(List<AccountListDto.Response> result, String number) throws Exception;
+    public AccountListDto.ListResponse findAccountList(List<String> numbers) throws Exception;
 
     public AccountDetailDto.Response findByAccountId(Long accountId) throws Exception;
 
@@ -20,6 +20,12 @@ public interface BankService {
 
     public List<HistoryDto.Response> getHistoryList(HistoryDto.Request req) throws Exception;
 
+    public HistoryDto.PageResponse getHistoryPage(HistoryDto.PageRequest req) throws Exception;
+
+    public HistoryDto.DeltaResponse getHistoryDelta(HistoryDto.DeltaRequest req) throws Exception;
+
+    public HistoryDto.CounterpartyResponse getCounterpartyHistory(HistoryDto.CounterpartyRequest req) throws Exception;
+
     public HistoryDto.Response getDetailHistory(HistoryDto.Request req) throws Exception;
 
     public MemoDto.Response writeMemo(MemoDto.Request req) throws Exception;
@@ -32,6 +38,12 @@ public interface BankService {
 
     public TransferDto.Response transfer(TransferDto.Request request) throws Exception;
 
+    public TransferDto.Response transfer(TransferDto.Request request, String idempotencyKey) throws Exception;
+
+    public TransferDto.Response transferAuthorized(TransferDto.Request request, String idempotencyKey) throws Exception;
+
+    public TransferDto.BatchResponse transferBatch(List<TransferDto.Request> requests) throws Exception;
+
     public OwnerDto.Response createOwner(OwnerDto.Response response);
 
     public AccountDto.Response createAccount(Owner owner, AccountDto.Request request) throws Exception;
@@ -1,21 +1,44 @@
 package com.bank.backend.service;
 
+import com.bank.backend.common.cache.AccountReadCoalescer;
+import com.bank.backend.common.cache.OwnerIdentityCache;
+import com.bank.backend.common.data.BankCodeRegistry;
+import com.bank.backend.common.datasource.ReplicaStalenessGuard;
+import com.bank.backend.common.event.AccountTransferredEvent;
 import com.bank.backend.common.exception.NotFoundException;
+import com.bank.backend.common.journal.JournalRecord;
+import com.bank.backend.common.journal.TransferJournal;
+import com.bank.backend.common.lock.AccountLockManager;
+import com.bank.backend.common.lock.TransferLockMode;
 import com.bank.backend.common.utils.EncryptionUtils;
 import com.bank.backend.dto.*;
 import com.bank.backend.entity.*;
 import com.bank.backend.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Optional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -23,52 +46,135 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class BankServiceImpl implements BankService {
 
-    @Value("${owner.salt}")
-    private String SALT;
+    // 예금주별 최대 계좌 수
+    private static final int MAX_ACCOUNT_COUNT = 5;
+
+    // 계좌 목록 조회 최대 식별번호 수
+    private static final int MAX_ACCOUNT_LIST_SIZE = 1000;
+
+    // 일괄 이체 최대 건수
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    // 거래내역 페이지 크기
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final int DEFAULT_HISTORY_DELTA_SIZE = 500;
+    private static final int MAX_HISTORY_DELTA_SIZE = 1000;
+
+    // 이체 동시성 제어 방식 (PESSIMISTIC, STRIPED, OPTIMISTIC)
+    @Value("${bank.transfer.lock-mode:PESSIMISTIC}")
+    private TransferLockMode transferLockMode;
+
+    // OPTIMISTIC 모드의 최대 시도 횟수
+    @Value("${bank.transfer.optimistic-retry:5}")
+    private int optimisticRetry;
 
     private final AccountRepository accountRepository;
     private final BankCodeRepository bankCodeRepository;
+    private final BankCodeRegistry bankCodeRegistry;
     private final HistoryRepository historyRepository;
     private final OwnerRepository ownerRepository;
     private final MemoRepository memoRepository;
+    private final JournalFailureRepository journalFailureRepository;
+    private final AccountLockManager accountLockManager;
+    private final OwnerIdentityCache ownerIdentityCache;
+    private final Optional<TransferJournal> transferJournal; // bank.journal.enabled=true 일 때만 존재
+    private final PlatformTransactionManager transactionManager;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final TransferIdempotencyStore transferIdempotencyStore;
+    private final HotAccountService hotAccountService;
+    private final ReplicaStalenessGuard replicaStalenessGuard;
+    private final AccountReadCoalescer accountReadCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
 
     @Override
-    public int findAccountList(List<AccountListDto.Response> result, String number) throws Exception{
-        // number 해싱 후 조회
-        String hashed_number = EncryptionUtils.encryption(number,SALT);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // DB 조회를 맡은 요청만 트랜잭션 시작
+    public AccountListDto.ListResponse findAccountList(List<String> numbers) throws Exception{
+        if(numbers.size() > MAX_ACCOUNT_LIST_SIZE){
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 식별번호는 최대 " + MAX_ACCOUNT_LIST_SIZE + "개입니다.");
+        }
 
-        Owner owner = ownerRepository.findOwnerWithAccount(hashed_number)
-                .orElseThrow(()->new NotFoundException(number + " 에 해당하는 계좌정보가 존재하지 않습니다"));
+        // 식별번호 일괄 해싱 (입력 순서 유지, 중복 제거)
+        Map<String, String> hashedNumbers = new LinkedHashMap<>();
+        for (String number : numbers) {
+            if(!hashedNumbers.containsKey(number)){
+                hashedNumbers.put(number, ownerIdentityCache.hash(number));
+            }
+        }
 
-        int cnt = 0;
+        // 같은 식별번호 목록의 동시 조회는 DB 조회 한 번으로 응답
+        return accountReadCoalescer.get("list:" + String.join(",", hashedNumbers.values()),
+                () -> readInTransaction(() -> loadAccountList(hashedNumbers)),
+                response -> response.getAccounts().stream()
+                        .map(AccountListDto.Response::getAccountId)
+                        .collect(Collectors.toList()));
+    }
+
+    private AccountListDto.ListResponse loadAccountList(Map<String, String> hashedNumbers) throws Exception {
+        // 최근 이체한 예금주가 있으면 primary 에서 조회 (replica 복제 지연)
+        for (String number : hashedNumbers.keySet()) {
+            replicaStalenessGuard.guardOwner(ownerIdentityCache.get(number).getOwnerId());
+        }
 
-        for (Account account : owner.getAccountList()) {
-            AccountListDto.Response tmp = AccountListDto.Response.toDTO(account);
-            result.add(tmp);
-            cnt+=1;
+        // 예금주, 계좌, 은행코드를 IN 쿼리 한 번으로 조회
+        Map<String, Owner> owners = new HashMap<>();
+        for (Owner owner : ownerRepository.findOwnersWithAccountIn(hashedNumbers.values())) {
+            owners.put(owner.getIdentificationNumber(), owner);
         }
 
-        return cnt; // 조회한 계좌목록 갯수 리턴
+        List<AccountListDto.Response> accounts = new ArrayList<>();
+        List<String> notFound = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : hashedNumbers.entrySet()) {
+            Owner owner = owners.get(entry.getValue());
+            if(owner == null){
+                notFound.add(entry.getKey());
+                continue;
+            }
+
+            for (Account account : owner.getAccountList()) {
+                AccountListDto.Response tmp = AccountListDto.Response.toDTO(account);
+                tmp.setBalance(hotAccountService.balanceOf(account)); // 핫 계좌는 잔액 슬롯 포함
+                accounts.add(tmp);
+            }
+        }
 
+        return AccountListDto.ListResponse.builder()
+                .accounts(accounts)
+                .notFound(notFound)
+                .build();
     }
 
     @Override
-    @Transactional(isolation= Isolation.SERIALIZABLE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // DB 조회를 맡은 요청만 트랜잭션 시작
     public AccountDetailDto.Response findByAccountId(Long accountId) throws Exception {
+        // 같은 계좌의 동시 조회는 DB 조회 한 번으로 응답
+        return accountReadCoalescer.get("detail:" + accountId,
+                () -> readInTransaction(() -> loadAccountDetail(accountId)),
+                response -> List.of(response.getAccountId()));
+    }
+
+    private AccountDetailDto.Response loadAccountDetail(Long accountId) {
+        // 잠금 없는 스냅샷 조회 (진행 중인 이체를 기다리지 않음), 방금 이체된 계좌면 primary 에서 조회
+        replicaStalenessGuard.guardAccount(accountId);
+
         Account account = accountRepository.findById(accountId).orElseThrow(() -> new NotFoundException(accountId + "를 accountId로 가지는 계좌가 존재하지 않습니다"));
 
-        return AccountDetailDto.Response.toDTO(account);
+        AccountDetailDto.Response response = AccountDetailDto.Response.toDTO(account);
+        response.setBalance(hotAccountService.balanceOf(account)); // 핫 계좌는 잔액 슬롯 포함
+        return response;
     }
 
     // 식별번호의 존재 여부만 파악하는 메서드
     @Override
     public OwnerDto.Response certification(OwnerDto.Request request) throws Exception{
         // 식별번호 해싱
-        String identification = EncryptionUtils.encryption(request.getIdentificationNumber(), SALT);
+        String identification = ownerIdentityCache.hash(request.getIdentificationNumber());
 
         // 식별 번호 조회
-        Optional<Owner> owner = ownerRepository.findByIdentificationNumber(identification);
+        Optional<Owner> owner = findOwner(request.getIdentificationNumber());
 
         // 존재하는 경우
         if(owner.isPresent()){
@@ -88,11 +194,8 @@ public class BankServiceImpl implements BankService {
 
     @Override
     public OwnerDto.Response certification(AccountDto.Request request) throws Exception{
-        // 식별번호 해싱
-        String identification = EncryptionUtils.encryption(request.getIdentificationNumber(), SALT);
-
         // 식별 번호 조회
-        Optional<Owner> owner = ownerRepository.findByIdentificationNumber(identification);
+        Optional<Owner> owner = findOwner(request.getIdentificationNumber());
 
         // 존재하는 경우
         if(owner.isPresent()){
@@ -111,6 +214,9 @@ public class BankServiceImpl implements BankService {
     public OwnerDto.Response createOwner(OwnerDto.Response response) {
         // 예금주 생성
         ownerRepository.save(response.getOwner());
+
+        // 이전에 조회된 캐시 항목 제거
+        ownerIdentityCache.evictByHash(response.getOwner().getIdentificationNumber());
         return response;
     }
 
@@ -118,20 +224,20 @@ public class BankServiceImpl implements BankService {
     @Override
     @Transactional
     public AccountDto.Response createAccount(Owner owner, AccountDto.Request request) throws Exception{
-        // 계좌 개수 확인
-        boolean creatable = countAccount(owner.getIdentificationNumber());
-
-        // 개수의 초과
-        if(!creatable){
+        // 계좌 개수 확인 (예금주는 인증 단계에서 조회된 엔티티 사용)
+        if(accountRepository.countByOwner(owner) >= MAX_ACCOUNT_COUNT){
             throw new Exception("생성가능한 계좌의 수가 초과했습니다.");
         }
 
-        // 은행 코드 탐색
-        BankCode bankCode = bankCodeRepository.findById(request.getBankCode())
-                .orElseThrow(() -> new NoSuchElementException("유요하지 않은 은행코드입니다."));
+        // 은행 코드 검증 (메모리의 은행 코드 사용, 계좌에는 FK 참조만 설정)
+        String bankName = bankCodeRegistry.nameOf(request.getBankCode());
+        if(bankName == null){
+            throw new NoSuchElementException("유요하지 않은 은행코드입니다.");
+        }
+        BankCode bankCode = bankCodeRepository.getReferenceById(request.getBankCode());
 
-        // 계좌번호 생성
-        String accountNumber = EncryptionUtils.makeAccountNumber();
+        // 계좌번호 발급 (미리 예약된 블록에서 발급하므로 중복 확인 불필요)
+        String accountNumber = accountNumberGenerator.next();
 
         // 계좌에 대한 salt 생성
         String tempSalt = EncryptionUtils.makeSalt();
@@ -150,20 +256,16 @@ public class BankServiceImpl implements BankService {
                 .salt(tempSalt) // 암호화 키
                 .build();
 
-        // 계좌 저장
-        accountRepository.save(account);
-
-        // 저장한 계좌의 ID
-        Account searchAccount = accountRepository.findByAccountNumber(account.getAccountNumber())
-                .orElseThrow(() -> new NoSuchElementException("계좌 등록이 정상적으로 이루어지지 않았습니다."));
+        // 계좌 저장 (ID 는 시퀀스에서 persist 시점에 할당됨)
+        Account savedAccount = accountRepository.save(account);
 
         // 완료 반환
         return AccountDto.Response.builder()
                 .msg("계좌 생성이 완료되었습니다.")
-                .bankName(bankCode.getBankName())
+                .bankName(bankName)
                 .accountNumber(account.getAccountNumber())
                 .ownerName(account.getOwner().getOwnerName())
-                .accountId(searchAccount.getId())
+                .accountId(savedAccount.getId())
                 .success(true)
                 .build();
     }
@@ -175,11 +277,8 @@ public class BankServiceImpl implements BankService {
         Owner owner = ownerRepository.findByIdentificationNumber(identification)
                 .orElseThrow(() -> new NoSuchElementException("예금주가 존재하지 않습니다."));
 
-        // 계좌 목록 조회
-        List<Account> accountList = accountRepository.findAllByOwner(owner);
-
         // 계좌 개수 제한
-        if(accountList.size() >= 5){
+        if(accountRepository.countByOwner(owner) >= MAX_ACCOUNT_COUNT){
             return false;
         }
 
@@ -191,62 +290,197 @@ public class BankServiceImpl implements BankService {
     @Override
     public List<HistoryDto.Response> getHistoryList(HistoryDto.Request req) throws Exception {
 
-        String identificationNumber = EncryptionUtils.encryption(req.getIdentificationNumber(), SALT);
+        // 방금 이체된 계좌면 primary 에서 조회 (replica 복제 지연)
+        replicaStalenessGuard.guardAccountNumber(req.getAccountNumber());
+
+        // 해당 예금주 탐색
+        Owner owner = findOwner(req.getIdentificationNumber())
+                .orElseThrow(()-> new Exception("잘못된 식별번호 입니다."));
+
+        // 해당 예금주의 계좌 탐색
+        Account account = accountRepository.findByOwnerAndAccountNumber(owner, req.getAccountNumber())
+                .orElseThrow(()-> new Exception("회원님의 계좌 정보와 일치하지 않습니다."));
+
+        // 계좌별 거래 내역 + 메모 스트리밍 조회 (단일 쿼리)
+        // 응답 형식(전체 목록)은 기존 그대로이므로 응답 DTO 목록은 메모리에 모임 : 거래가 많은 계좌는 getHistoryPage 사용
+        try (Stream<HistoryDto.Row> history = historyRepository.streamRowsByAccount(account)) {
+            return history.map(this::toHistoryResponse).collect(Collectors.toList());
+        }
+    }
+
+    /** 계좌 거래 내역 페이지 조회 (키셋 페이징) */
+    @Override
+    public HistoryDto.PageResponse getHistoryPage(HistoryDto.PageRequest req) throws Exception {
+
+        int size = req.getSize() == null ? DEFAULT_HISTORY_PAGE_SIZE : req.getSize();
+        if(size < 1 || size > MAX_HISTORY_PAGE_SIZE){
+            throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_HISTORY_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        if((req.getCursorCreatedAt() == null) != (req.getCursorId() == null)){
+            throw new IllegalArgumentException("커서 정보가 올바르지 않습니다.");
+        }
+
+        // 방금 이체된 계좌면 primary 에서 조회 (replica 복제 지연)
+        replicaStalenessGuard.guardAccountNumber(req.getAccountNumber());
+
+        // 해당 예금주 탐색
+        Owner owner = findOwner(req.getIdentificationNumber())
+                .orElseThrow(()-> new Exception("잘못된 식별번호 입니다."));
+
+        // 해당 예금주의 계좌 탐색
+        Account account = accountRepository.findByOwnerAndAccountNumber(owner, req.getAccountNumber())
+                .orElseThrow(()-> new Exception("회원님의 계좌 정보와 일치하지 않습니다."));
+
+        // 조회 기간 [from 00:00, to + 1일 00:00)
+        LocalDateTime from = req.getFrom() == null ? null : req.getFrom().atStartOfDay();
+        LocalDateTime to = req.getTo() == null ? null : req.getTo().plusDays(1).atStartOfDay();
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<HistoryDto.Row> history = historyRepository.findPageByAccount(account, from, to, req.getType(),
+                req.getCursorCreatedAt(), req.getCursorId(), PageRequest.of(0, size + 1));
+
+        boolean hasNext = history.size() > size;
+        if(hasNext){
+            history = history.subList(0, size);
+        }
+
+        List<HistoryDto.Response> ret = new ArrayList<>();
+        for (HistoryDto.Row row : history) {
+            ret.add(toHistoryResponse(row));
+        }
+
+        HistoryDto.Row last = history.isEmpty() ? null : history.get(history.size() - 1);
+
+        return HistoryDto.PageResponse.builder()
+                .histories(ret)
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCursorId(hasNext ? last.getId() : null)
+                .build();
+    }
+
+    /** 계좌 거래 내역 증분 조회 (외부 미러 동기화용) */
+    @Override
+    public HistoryDto.DeltaResponse getHistoryDelta(HistoryDto.DeltaRequest req) throws Exception {
+
+        int size = req.getSize() == null ? DEFAULT_HISTORY_DELTA_SIZE : req.getSize();
+        if(size < 1 || size > MAX_HISTORY_DELTA_SIZE){
+            throw new IllegalArgumentException("조회 건수는 1 ~ " + MAX_HISTORY_DELTA_SIZE + " 사이여야 합니다.");
+        }
+
+        if((req.getAfterCreatedAt() == null) != (req.getAfterId() == null)){
+            throw new IllegalArgumentException("커서 정보가 올바르지 않습니다.");
+        }
+
+        // 방금 이체된 계좌면 primary 에서 조회 (replica 복제 지연)
+        replicaStalenessGuard.guardAccountNumber(req.getAccountNumber());
 
         // 해당 예금주 탐색
-        Owner owner = ownerRepository.findByIdentificationNumber(identificationNumber)
+        Owner owner = findOwner(req.getIdentificationNumber())
                 .orElseThrow(()-> new Exception("잘못된 식별번호 입니다."));
 
         // 해당 예금주의 계좌 탐색
         Account account = accountRepository.findByOwnerAndAccountNumber(owner, req.getAccountNumber())
                 .orElseThrow(()-> new Exception("회원님의 계좌 정보와 일치하지 않습니다."));
 
-        // 계좌별 거래 내역 조회
-        List<History> history = historyRepository.findByAccount(account);
+        // 조회 전 시각 : 이 시각 이전에 생성된 거래내역 중 아직 커밋되지 않은 것은 호출 측이 정착 시간으로 거름
+        LocalDateTime serverTime = LocalDateTime.now();
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<HistoryDto.Row> history = historyRepository.findRowsAfter(account, req.getAfterCreatedAt(), req.getAfterId(),
+                PageRequest.of(0, size + 1));
+
+        boolean hasNext = history.size() > size;
+        if(hasNext){
+            history = history.subList(0, size);
+        }
 
         List<HistoryDto.Response> ret = new ArrayList<>();
+        for (HistoryDto.Row row : history) {
+            ret.add(toHistoryResponse(row));
+        }
+
+        return HistoryDto.DeltaResponse.builder()
+                .histories(ret)
+                .hasNext(hasNext)
+                .serverTime(serverTime)
+                .build();
+    }
+
+    /** 상대 계좌별 월간 거래 내역 + 입출금 합계 조회 */
+    @Override
+    public HistoryDto.CounterpartyResponse getCounterpartyHistory(HistoryDto.CounterpartyRequest req) throws Exception {
+
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.of(req.getYear(), req.getMonth());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("조회 연월이 올바르지 않습니다.");
+        }
 
-        for(int i=0; i<history.size(); i++){
-            Optional<Memo> memo = memoRepository.findByHistoryId(history.get(i)); // 거래 내역의 메모 조회
+        // 방금 이체된 계좌면 primary 에서 조회 (replica 복제 지연)
+        replicaStalenessGuard.guardAccountNumber(req.getAccountNumber());
 
-            if(memo.isEmpty()){ // 해당 거래 내역에 대한 메모가 없을 때
-                ret.add(HistoryDto.Response.toDTO(history.get(i)));
-            } else { // 작성 된 메모가 있을 때
-                ret.add(HistoryDto.Response.toDTO(history.get(i), memo.get()));
+        // 해당 예금주 탐색
+        Owner owner = findOwner(req.getIdentificationNumber())
+                .orElseThrow(()-> new Exception("잘못된 식별번호 입니다."));
+
+        // 해당 예금주의 계좌 탐색
+        Account account = accountRepository.findByOwnerAndAccountNumber(owner, req.getAccountNumber())
+                .orElseThrow(()-> new Exception("회원님의 계좌 정보와 일치하지 않습니다."));
+
+        // 조회 기간 [해당 월 1일 00:00, 다음 달 1일 00:00)
+        LocalDateTime from = yearMonth.atDay(1).atStartOfDay();
+        LocalDateTime to = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
+
+        // 상대 계좌와의 거래만 조회하고 합계도 같은 결과로 계산 (응답 크기 = 한 달 동안의 해당 멤버 거래 수)
+        List<HistoryDto.Response> ret = new ArrayList<>();
+        long totalIn = 0, totalOut = 0, inCount = 0, outCount = 0;
+        for (HistoryDto.Row row : historyRepository.findRowsByAccountAndCounterparty(account, req.getToAccount(), req.getToCode(), from, to)) {
+            ret.add(toHistoryResponse(row));
+            if(row.getType() == 2){
+                totalIn += row.getTransferAmount();
+                inCount++;
+            }else{
+                totalOut += row.getTransferAmount();
+                outCount++;
             }
         }
 
-        return ret;
+        return HistoryDto.CounterpartyResponse.builder()
+                .histories(ret)
+                .totalIn(totalIn)
+                .totalOut(totalOut)
+                .inCount(inCount)
+                .outCount(outCount)
+                .build();
     }
 
     /** 상세 거래 내역 조회 */
     @Override
     public HistoryDto.Response getDetailHistory(HistoryDto.Request req) throws Exception {
 
-        String identificationNumber = EncryptionUtils.encryption(req.getIdentificationNumber(), SALT);
+        // 방금 이체된 계좌면 primary 에서 조회 (replica 복제 지연)
+        replicaStalenessGuard.guardAccountNumber(req.getAccountNumber());
 
         // 해당 예금주 탐색
-        Owner owner = ownerRepository.findByIdentificationNumber(identificationNumber)
+        Owner owner = findOwner(req.getIdentificationNumber())
                 .orElseThrow(()-> new Exception("잘못된 식별번호 입니다."));
 
         // 해당 예금주의 계좌 탐색
         Account account = accountRepository.findByOwnerAndAccountNumber(owner, req.getAccountNumber())
                 .orElseThrow(()-> new Exception("회원님의 계좌 정보와 일치하지 않습니다."));
 
-        // 상세 거래 내역 조회
-        History detailHistory = historyRepository.findByAccountAndId(account, req.getHistoryId())
+        // 상세 거래 내역 + 메모 조회
+        HistoryDto.Row detailHistory = historyRepository.findRowByAccountAndId(account, req.getHistoryId())
                 .orElseThrow(()-> new Exception("거래 내역 정보가 없습니다."));
 
-        // 거래 내역의 메모 조회
-        Optional<Memo> memo = memoRepository.findByHistoryId(detailHistory);
-
-        // 해당 거래 내역에 대한 메모가 없을 때
-        if(memo.isEmpty()){
-            return HistoryDto.Response.toDTO(detailHistory);
-        }
+        return toHistoryResponse(detailHistory);
+    }
 
-        // 작성 된 메모가 있을 때
-        return HistoryDto.Response.toDTO(detailHistory, memo.get());
+    private HistoryDto.Response toHistoryResponse(HistoryDto.Row row) {
+        return HistoryDto.Response.toDTO(row, bankCodeRegistry.nameOf(row.getBankCodeId()));
     }
 
     /** 거래 상세 내역 - 메모 작성 */
@@ -254,10 +488,8 @@ public class BankServiceImpl implements BankService {
     @Transactional
     public MemoDto.Response writeMemo(MemoDto.Request req) throws Exception {
 
-        String identificationNumber = EncryptionUtils.encryption(req.getIdentificationNumber(), SALT);
-
         // 해당 예금주 탐색
-        Owner owner = ownerRepository.findByIdentificationNumber(identificationNumber)
+        Owner owner = findOwner(req.getIdentificationNumber())
                 .orElseThrow(()-> new Exception("잘못된 식별번호 입니다."));
 
         // 해당 예금주의 계좌 탐색
@@ -300,7 +532,7 @@ public class BankServiceImpl implements BankService {
         return AccountCertificationDto.Response.builder()
                 .accountNumber(account.getAccountNumber())
                 .ownerName(account.getOwner().getOwnerName())
-                .bankName(account.getBankCode().getBankName())
+                .bankName(bankCodeRegistry.nameOf(account.getBankCode().getId()))
                 .msg("계좌 조회에 성공했습니다.")
                 .success(true)
                 .build();
@@ -308,47 +540,194 @@ public class BankServiceImpl implements BankService {
 
     // 계좌 이체
     @Override
-    @Transactional(isolation= Isolation.SERIALIZABLE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TransferDto.Response transfer(TransferDto.Request request) throws Exception{
-        // 송금인 조회(사실은 필요 없을 수도), 혹시 모른 경우 대비해서 실행(계좌는 있는데 예금주가 존재하지 않는 경우) => DB 데이터 손실
-        Owner owner = ownerRepository.findByIdentificationNumber(EncryptionUtils.encryption(request.getIdentificationNumber(), SALT))
-                .orElseThrow(() -> new NoSuchElementException("예금주가 존재하지 않습니다."));
+        return transfer(request, null);
+    }
 
-        // 송금인 계좌 ID를 받아옴
-        Account sendAccount = accountRepository.findById(request.getAccountId())
-                .orElseThrow(() -> new NoSuchElementException("계좌 정보가 존재하지 않습니다."));
+    // 계좌 이체 (Idempotency-Key 가 있으면 같은 키의 재요청은 저장된 응답을 반환)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션 경계는 이체 모드별로 직접 관리
+    public TransferDto.Response transfer(TransferDto.Request request, String idempotencyKey) throws Exception{
+        return transfer(request, idempotencyKey, false);
+    }
 
-        if(!sendAccount.isStatus()){
-            throw new NoSuchElementException("정지된 계좌입니다.");
+    // 등록 시 인증을 마친 이체 (자동이체) : 예금주, 비밀번호 검증만 생략하고 같은 이체 방식(잠금, Idempotency-Key)으로 처리
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TransferDto.Response transferAuthorized(TransferDto.Request request, String idempotencyKey) throws Exception{
+        return transfer(request, idempotencyKey, true);
+    }
+
+    @SuppressWarnings("try") // lock 변수는 블록 종료 시 해제용
+    private TransferDto.Response transfer(TransferDto.Request request, String idempotencyKey, boolean preAuthorized) throws Exception{
+        if(idempotencyKey == null){
+            return executeTransfer(request, null, preAuthorized);
         }
 
-        // 상대방 계좌 조회
-        Account toAccount = accountRepository.findByBankCode_IdAndAccountNumber(request.getToCode(), request.getToAccount())
+        TransferIdempotencyStore.validate(idempotencyKey);
+        try (TransferIdempotencyStore.Locked locked = transferIdempotencyStore.lock(idempotencyKey)) {
+            // 재요청 : 계좌 락 없이 저장된 응답 반환
+            Optional<TransferDto.Response> stored = transferIdempotencyStore.find(idempotencyKey, request);
+            if(stored.isPresent()){
+                return stored.get();
+            }
+
+            // 저널 모드 : 저널에는 기록되었지만 아직 DB 에 반영되지 않은 같은 키
+            Optional<JournalRecord> journaled = transferJournal.flatMap(journal -> journal.pendingRecord(idempotencyKey));
+            if(journaled.isPresent()){
+                return journaledResponse(journaled.get(), request);
+            }
+
+            // 저널 모드 : 접수되었지만 DB 에 반영하지 못해 보상 처리 중인 키 (다시 이체하지 않음)
+            if(transferJournal.isPresent() && journalFailureRepository.existsByIdempotencyKey(idempotencyKey)){
+                throw new IllegalStateException("처리 중 오류가 발생해 확인 중인 이체입니다. 고객센터에 문의해주세요.");
+            }
+
+            try {
+                return executeTransfer(request, idempotencyKey, preAuthorized);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드에서 같은 키의 요청이 먼저 커밋된 경우 : 이 요청의 이체는 롤백되었으므로 먼저 처리된 응답 반환
+                return transferIdempotencyStore.find(idempotencyKey, request)
+                        .orElseThrow(() -> e);
+            }
+        }
+    }
+
+    // 잠금 충돌(데드락, 직렬화 실패, 잠금 대기 초과, 버전 충돌)로 실패한 이체는 유형별로 집계
+    private TransferDto.Response executeTransfer(TransferDto.Request request, String idempotencyKey, boolean preAuthorized) throws Exception{
+        try {
+            return dispatchTransfer(request, idempotencyKey, preAuthorized);
+        } catch (Exception e) {
+            String conflict = conflictType(e);
+            if(conflict != null){
+                meterRegistry.counter("bank.transfer.conflict", "type", conflict).increment();
+            }
+            throw e;
+        }
+    }
+
+    private TransferDto.Response dispatchTransfer(TransferDto.Request request, String idempotencyKey, boolean preAuthorized) throws Exception{
+        if(transferJournal.isPresent()){
+            return transferWithJournal(request, idempotencyKey, transferJournal.get(), preAuthorized);
+        }
+
+        switch (transferLockMode){
+            case STRIPED:
+                return transferWithStripedLock(request, idempotencyKey, preAuthorized);
+            case OPTIMISTIC:
+                return transferWithOptimisticRetry(request, idempotencyKey, preAuthorized);
+            default:
+                // 기존 방식 : SERIALIZABLE + 송금 계좌 PESSIMISTIC_WRITE
+                return executeInTransaction(Isolation.SERIALIZABLE,
+                        () -> recordIdempotency(idempotencyKey, request, doTransfer(request, accountRepository::findByIdForUpdate, preAuthorized)));
+        }
+    }
+
+    // 이체와 같은 트랜잭션에서 Idempotency-Key 저장
+    private TransferDto.Response recordIdempotency(String idempotencyKey, TransferDto.Request request, TransferDto.Response response) {
+        if(idempotencyKey == null){
+            return response;
+        }
+        return transferIdempotencyStore.record(idempotencyKey, request.getAccountId(),
+                TransferIdempotencyStore.requestHash(request), response);
+    }
+
+    // 송금/수신 계좌의 striped lock 을 잡은 뒤 READ_COMMITTED 로 이체
+    @SuppressWarnings("try") // lock 변수는 블록 종료 시 해제용
+    private TransferDto.Response transferWithStripedLock(TransferDto.Request request, String idempotencyKey, boolean preAuthorized) throws Exception {
+        Long toAccountId = accountRepository.findIdByBankCodeAndAccountNumber(request.getToCode(), request.getToAccount())
                 .orElseThrow(() -> new NoSuchElementException("상대방 계좌 정보가 존재하지 않습니다."));
 
-        // 비밀번호 길이 오류
-        if(request.getPassword().toString().length() != 4){
-            throw new NoSuchElementException("비밀번호의 길이가 맞지 않습니다.");
+        // 핫 계좌로의 입금은 잔액 슬롯에만 더하므로 상대 계좌는 잠그지 않음
+        boolean hotToAccount = accountRepository.findBalanceSlotsById(toAccountId).orElse(0) > 0;
+        Long[] lockIds = hotToAccount ? new Long[]{request.getAccountId()} : new Long[]{request.getAccountId(), toAccountId};
+
+        try (AccountLockManager.Locked locked = accountLockManager.lock(lockIds)) {
+            // lock 해제 전에 커밋되어야 다음 이체가 변경된 잔액을 읽음
+            return executeInTransaction(Isolation.READ_COMMITTED,
+                    () -> recordIdempotency(idempotencyKey, request, doTransfer(request, accountRepository::findById, preAuthorized)));
         }
+    }
 
-        // 해시 생성
-        String password = EncryptionUtils.encryption(request.getPassword(), sendAccount.getSalt());
+    // 락 없이 READ_COMMITTED 로 이체하고, 버전 충돌 시 제한된 횟수만큼 재시도
+    private TransferDto.Response transferWithOptimisticRetry(TransferDto.Request request, String idempotencyKey, boolean preAuthorized) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return executeInTransaction(Isolation.READ_COMMITTED,
+                        () -> recordIdempotency(idempotencyKey, request, doTransfer(request, accountRepository::findById, preAuthorized)));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= optimisticRetry) {
+                    throw new IllegalStateException("다른 거래와 충돌하여 이체에 실패했습니다. 잠시 후 다시 시도해주세요.", e);
+                }
+                log.debug("이체 버전 충돌, 재시도 {}/{}", attempt, optimisticRetry);
+                meterRegistry.counter("bank.transfer.retry", "mode", TransferLockMode.OPTIMISTIC.name()).increment();
+                Thread.sleep(ThreadLocalRandom.current().nextLong(1, 10L * attempt + 1));
+            }
+        }
+    }
 
-        // 비밀번호 조회
-        if(!password.equals(sendAccount.getPassword())){
-            // 틀린 횟수 추가
-            sendAccount.setWrongCount(sendAccount.getWrongCount() + 1);
+    private <T> T executeInTransaction(Isolation isolation, Callable<T> callback) throws Exception {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setIsolationLevel(isolation.value());
+        return execute(template, callback);
+    }
 
-            // 계좌 상태 확인
-            if(sendAccount.getWrongCount() >= 5){
-                sendAccount.setStatus(false);
+    // 조회 전용 트랜잭션 (replica 라우팅 대상)
+    private <T> T readInTransaction(Callable<T> callback) throws Exception {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return execute(template, callback);
+    }
 
-                // 계좌 정지
-                throw new NoSuchElementException("비밀번호 5회 실패로 계좌가 정지됩니다.");
+    private <T> T execute(TransactionTemplate template, Callable<T> callback) throws Exception {
+        try {
+            return template.execute(status -> {
+                try {
+                    return callback.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CheckedExceptionHolder(e);
+                }
+            });
+        } catch (CheckedExceptionHolder e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    // 예외 원인을 따라가며 잠금 충돌 유형 판별 (충돌이 아니면 null)
+    static String conflictType(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if(cause instanceof OptimisticLockingFailureException){
+                return "optimistic";
+            }
+            if(cause instanceof SQLException){
+                SQLException sqlException = (SQLException) cause;
+                // MySQL 1213, H2 40001 : 데드락 / 직렬화 실패
+                if("40001".equals(sqlException.getSQLState()) || sqlException.getErrorCode() == 1213){
+                    return "deadlock";
+                }
+                // MySQL 1205, H2 HYT00 : 잠금 대기 시간 초과
+                if("HYT00".equals(sqlException.getSQLState()) || sqlException.getErrorCode() == 1205){
+                    return "lock-timeout";
+                }
             }
-            // 비밀번호 오류
-            throw new NoSuchElementException("비밀번호가 일치하지 않습니다.");
         }
+        return null;
+    }
+
+    // TransactionTemplate 콜백 밖으로 checked exception 을 전달하기 위한 래퍼
+    private static class CheckedExceptionHolder extends RuntimeException {
+        CheckedExceptionHolder(Exception cause) {
+            super(cause);
+        }
+    }
+
+    private TransferDto.Response doTransfer(TransferDto.Request request, Function<Long, Optional<Account>> sendAccountLoader, boolean preAuthorized) throws Exception{
+        TransferTarget target = prepareTransfer(request, sendAccountLoader, preAuthorized);
+        Account sendAccount = target.sendAccount;
+        Account toAccount = target.toAccount;
 
         // 거래금액
         Integer transferAmount = request.getTransferAmount();
@@ -359,27 +738,15 @@ public class BankServiceImpl implements BankService {
         // 이체 후 잔액
         Integer receiveBalance = toAccount.getBalance() + transferAmount;
 
-        // 잔액 부족
-        if(sendBalance < 0){
-            throw new NoSuchElementException("잔액이 부족합니다.");
-        }
-
-        if(request.getSign() == ""){
-            request.setSign(sendAccount.getOwner().getOwnerName());
-        }
-
-        if(request.getToSign() == ""){
-            request.setToSign(toAccount.getOwner().getOwnerName());
-        }
-
         // 보내는 사람의 기록
         History send = History.builder()
                 .account(sendAccount) // 보내는 사람 계좌 ID
                 .toAccount(toAccount.getAccountNumber()) // 받는 사람 계좌 번호
-                .toCode(toAccount.getBankCode()) // 받는 사람 계좌 은행 코드
+                .toCodeId(toAccount.getBankCode().getId()) // 받는 사람 계좌 은행 코드
                 .type(1) // 1 : 송금
                 .transferAmount(transferAmount) // 거래금액
                 .afterBalance(sendBalance) // 송금 후 잔액
+                .pending(sendAccount.isHot()) // 핫 계좌는 정산 시 잔액 확정
                 .sign(request.getSign()) // 보내는 사람이 보는 메모
                 .toSign(request.getToSign()) // 받는 사람이 보는 메모
                 .build();
@@ -388,24 +755,28 @@ public class BankServiceImpl implements BankService {
         History receive = History.builder()
                 .account(toAccount) // 받는 사람 계좌 ID
                 .toAccount(sendAccount.getAccountNumber()) // 보내는 사람 계좌
-                .toCode(sendAccount.getBankCode()) // 보내는 사람 계좌 은행 코드
+                .toCodeId(sendAccount.getBankCode().getId()) // 보내는 사람 계좌 은행 코드
                 .type(2) // 2 : 입금
                 .transferAmount(transferAmount) // 거래금액
                 .afterBalance(toAccount.getBalance() + transferAmount) // 입금 후 잔액
+                .pending(toAccount.isHot()) // 핫 계좌는 정산 시 잔액 확정
                 .sign(request.getToSign()) // 받는 사람이 보는 메모
                 .toSign(request.getSign()) // 보내는 사람이 보는 메모
                 .build();
 
-        // 계좌 잔액 변경
+        // 계좌 잔액 변경 (핫 계좌 입금은 계좌 행 대신 잔액 슬롯에 반영)
         sendAccount.setBalance(sendBalance);
-        toAccount.setBalance(receiveBalance);
+        if(toAccount.isHot()){
+            hotAccountService.credit(toAccount, transferAmount);
+        } else {
+            toAccount.setBalance(receiveBalance);
+        }
 
         // 기록 저장
         historyRepository.save(send);
         historyRepository.save(receive);
 
-        // 비밀번호 오류 횟수 초기화
-        sendAccount.setWrongCount(0);
+        eventPublisher.publishEvent(AccountTransferredEvent.of(List.of(sendAccount, toAccount)));
 
         // 이체 성공
         return TransferDto.Response.builder()
@@ -416,14 +787,370 @@ public class BankServiceImpl implements BankService {
                 .build();
     }
 
+    // 이체 요청 검증 (예금주, 계좌 상태, 비밀번호, 잔액), preAuthorized 면 예금주, 비밀번호 검증 생략
+    private TransferTarget prepareTransfer(TransferDto.Request request, Function<Long, Optional<Account>> sendAccountLoader, boolean preAuthorized) throws Exception{
+        if(!preAuthorized){
+            // 송금인 조회(사실은 필요 없을 수도), 혹시 모른 경우 대비해서 실행(계좌는 있는데 예금주가 존재하지 않는 경우) => DB 데이터 손실
+            findOwner(request.getIdentificationNumber())
+                    .orElseThrow(() -> new NoSuchElementException("예금주가 존재하지 않습니다."));
+        }
+
+        // 송금인 계좌 ID를 받아옴
+        Account sendAccount = sendAccountLoader.apply(request.getAccountId())
+                .orElseThrow(() -> new NoSuchElementException("계좌 정보가 존재하지 않습니다."));
+
+        if(!sendAccount.isStatus()){
+            throw new NoSuchElementException("정지된 계좌입니다.");
+        }
+
+        // 상대방 계좌 조회
+        Account toAccount = accountRepository.findByBankCode_IdAndAccountNumber(request.getToCode(), request.getToAccount())
+                .orElseThrow(() -> new NoSuchElementException("상대방 계좌 정보가 존재하지 않습니다."));
+
+        // 같은 계좌면 송금/입금 잔액이 한 엔티티에서 계산되어 입금액만큼 잔액이 늘어나므로 거절
+        if(sendAccount.getId().equals(toAccount.getId())){
+            throw new IllegalArgumentException("같은 계좌로는 이체할 수 없습니다.");
+        }
+
+        // 거래금액
+        Integer transferAmount = request.getTransferAmount();
+        if(transferAmount == null || transferAmount <= 0){
+            throw new IllegalArgumentException("거래금액이 올바르지 않습니다.");
+        }
+
+        if(!preAuthorized){
+            // 비밀번호 길이 오류
+            if(request.getPassword().toString().length() != 4){
+                throw new NoSuchElementException("비밀번호의 길이가 맞지 않습니다.");
+            }
+
+            // 해시 생성
+            String password = EncryptionUtils.encryption(request.getPassword(), sendAccount.getSalt());
+
+            // 비밀번호 조회
+            if(!password.equals(sendAccount.getPassword())){
+                // 틀린 횟수 추가
+                sendAccount.setWrongCount(sendAccount.getWrongCount() + 1);
+
+                // 계좌 상태 확인
+                if(sendAccount.getWrongCount() >= 5){
+                    sendAccount.setStatus(false);
+
+                    // 계좌 정지
+                    throw new NoSuchElementException("비밀번호 5회 실패로 계좌가 정지됩니다.");
+                }
+                // 비밀번호 오류
+                throw new NoSuchElementException("비밀번호가 일치하지 않습니다.");
+            }
+        }
+
+        // 잔액 부족 (저널에 접수되었지만 아직 반영되지 않은 출금액, 핫 계좌의 잔액 슬롯 포함)
+        if(hotAccountService.balanceOf(sendAccount) - pendingDebit(sendAccount.getId()) - transferAmount < 0){
+            throw new NoSuchElementException("잔액이 부족합니다.");
+        }
+
+        if(request.getSign() == ""){
+            request.setSign(sendAccount.getOwner().getOwnerName());
+        }
+
+        if(request.getToSign() == ""){
+            request.setToSign(toAccount.getOwner().getOwnerName());
+        }
+
+        // 비밀번호 오류 횟수 초기화
+        sendAccount.setWrongCount(0);
+
+        return new TransferTarget(sendAccount, toAccount);
+    }
+
+    private static class TransferTarget {
+        private final Account sendAccount;
+        private final Account toAccount;
+
+        TransferTarget(Account sendAccount, Account toAccount) {
+            this.sendAccount = sendAccount;
+            this.toAccount = toAccount;
+        }
+    }
+
+    // 저널 모드 : 검증 후 저널에 기록하고 fsync 가 끝나면 응답 (DB 반영은 비동기)
+    // Idempotency-Key 는 저널 레코드에 함께 기록되고 JournalApplier 가 이체를 반영할 때 같은 트랜잭션에서 저장한다.
+    @SuppressWarnings("try") // lock 변수는 블록 종료 시 해제용
+    private TransferDto.Response transferWithJournal(TransferDto.Request request, String idempotencyKey, TransferJournal journal, boolean preAuthorized) throws Exception {
+        if(!JournalRecord.fits(request.getSign(), request.getToSign(), idempotencyKey)){
+            throw new IllegalArgumentException("메모 또는 Idempotency-Key 가 너무 깁니다.");
+        }
+
+        Long toAccountId = accountRepository.findIdByBankCodeAndAccountNumber(request.getToCode(), request.getToAccount())
+                .orElseThrow(() -> new NoSuchElementException("상대방 계좌 정보가 존재하지 않습니다."));
+
+        // 같은 송금 계좌의 검증과 저널 기록을 직렬화 (출금 예정액 반영 전 중복 검증 방지)
+        try (AccountLockManager.Locked locked = accountLockManager.lock(request.getAccountId())) {
+            TransferDto.Response response = executeInTransaction(Isolation.READ_COMMITTED, () -> {
+                TransferTarget target = prepareTransfer(request, accountRepository::findByIdForUpdate, preAuthorized);
+                return TransferDto.Response.builder()
+                        .msg("이체가 정상적으로 수행되었습니다.")
+                        .sendOwner(target.sendAccount.getOwner().getOwnerName())
+                        .toOwner(target.toAccount.getOwner().getOwnerName())
+                        .success(true)
+                        .build();
+            });
+
+            journal.append(new JournalRecord(0, request.getAccountId(), toAccountId,
+                    request.getTransferAmount(), request.getSign(), request.getToSign(), idempotencyKey));
+            return response;
+        }
+    }
+
+    // 저널에 기록된 같은 키의 재요청 : 처음 요청과 같은지 확인하고 같은 응답 반환
+    private TransferDto.Response journaledResponse(JournalRecord record, TransferDto.Request request) throws Exception {
+        return readInTransaction(() -> {
+            Account sendAccount = accountRepository.findById(record.getSendAccountId())
+                    .orElseThrow(() -> new NoSuchElementException("계좌 정보가 존재하지 않습니다."));
+            Account toAccount = accountRepository.findById(record.getToAccountId())
+                    .orElseThrow(() -> new NoSuchElementException("상대방 계좌 정보가 존재하지 않습니다."));
+
+            TransferIdempotencyStore.checkSameRequest(sendAccount.getId(), TransferIdempotencyStore.requestHash(sendAccount.getId(),
+                    toAccount.getBankCode().getId(), toAccount.getAccountNumber(), record.getTransferAmount()), request);
+
+            return TransferDto.Response.builder()
+                    .msg("이체가 정상적으로 수행되었습니다.")
+                    .sendOwner(sendAccount.getOwner().getOwnerName())
+                    .toOwner(toAccount.getOwner().getOwnerName())
+                    .success(true)
+                    .build();
+        });
+    }
+
+    // 저널에 접수되었지만 아직 DB 에 반영되지 않은 출금액
+    private long pendingDebit(Long accountId) {
+        return transferJournal.map(journal -> journal.pendingDebit(accountId)).orElse(0L);
+    }
+
+    // 일괄 계좌 이체
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 트랜잭션 경계는 직접 관리
+    @SuppressWarnings("try") // lock 변수는 블록 종료 시 해제용
+    public TransferDto.BatchResponse transferBatch(List<TransferDto.Request> requests) throws Exception {
+        if(requests.size() > MAX_BATCH_SIZE){
+            throw new IllegalArgumentException("한 번에 요청할 수 있는 이체는 " + MAX_BATCH_SIZE + "건 입니다.");
+        }
+
+        // 상대 계좌 ID 일괄 조회 (은행코드:계좌번호 -> 계좌 ID)
+        Set<String> toAccountNumbers = requests.stream()
+                .map(TransferDto.Request::getToAccount)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<String, Long> toAccountIds = new HashMap<>();
+        if(!toAccountNumbers.isEmpty()){
+            for (AccountRepository.AccountKey key : accountRepository.findKeysByAccountNumberIn(toAccountNumbers)) {
+                toAccountIds.put(accountKey(key.getBankCodeId(), key.getAccountNumber()), key.getId());
+            }
+        }
+
+        // 잠글 계좌 목록 (ID 오름차순)
+        TreeSet<Long> accountIds = new TreeSet<>(toAccountIds.values());
+        requests.stream()
+                .map(TransferDto.Request::getAccountId)
+                .filter(Objects::nonNull)
+                .forEach(accountIds::add);
+
+        if(transferLockMode == TransferLockMode.STRIPED){
+            try (AccountLockManager.Locked locked = accountLockManager.lock(accountIds.toArray(new Long[0]))) {
+                return executeInTransaction(Isolation.READ_COMMITTED,
+                        () -> doTransferBatch(requests, toAccountIds, accountIds));
+            }
+        }
+
+        return executeInTransaction(Isolation.READ_COMMITTED,
+                () -> doTransferBatch(requests, toAccountIds, accountIds));
+    }
+
+    private TransferDto.BatchResponse doTransferBatch(List<TransferDto.Request> requests, Map<String, Long> toAccountIds, Collection<Long> accountIds) throws Exception {
+        // 관련 계좌 전체를 한 번에 잠금
+        Map<Long, Account> accounts = new HashMap<>();
+        if(!accountIds.isEmpty()){
+            for (Account account : accountRepository.findAllByIdInForUpdate(accountIds)) {
+                accounts.put(account.getId(), account);
+            }
+        }
+
+        Map<String, Boolean> ownerExists = new HashMap<>(); // 식별번호별 예금주 존재 여부 (해싱 1회)
+        Map<String, Boolean> passwordMatches = new HashMap<>(); // 송금 계좌 + 비밀번호별 검증 결과 (해싱 1회)
+
+        List<History> histories = new ArrayList<>();
+        List<TransferDto.BatchResult> results = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        Set<Account> transferred = new HashSet<>();
+        int successCount = 0;
+
+        for (int i = 0; i < requests.size(); i++) {
+            TransferDto.Request request = requests.get(i);
+            String msg;
+
+            try {
+                // 예금주 확인
+                boolean exists = ownerExists.computeIfAbsent(String.valueOf(request.getIdentificationNumber()), this::existsOwner);
+                if(!exists){
+                    throw new NoSuchElementException("예금주가 존재하지 않습니다.");
+                }
+
+                Account sendAccount = accounts.get(request.getAccountId());
+                if(sendAccount == null){
+                    throw new NoSuchElementException("계좌 정보가 존재하지 않습니다.");
+                }
+
+                if(!sendAccount.isStatus()){
+                    throw new NoSuchElementException("정지된 계좌입니다.");
+                }
+
+                Account toAccount = accounts.get(toAccountIds.get(accountKey(request.getToCode(), request.getToAccount())));
+                if(toAccount == null){
+                    throw new NoSuchElementException("상대방 계좌 정보가 존재하지 않습니다.");
+                }
+
+                if(sendAccount == toAccount){
+                    throw new IllegalArgumentException("같은 계좌로는 이체할 수 없습니다.");
+                }
+
+                if(request.getPassword() == null || request.getPassword().length() != 4){
+                    throw new NoSuchElementException("비밀번호의 길이가 맞지 않습니다.");
+                }
+
+                // 비밀번호 검증 (송금 계좌 + 비밀번호 조합당 1회)
+                String passwordKey = sendAccount.getId() + ":" + request.getPassword();
+                Boolean matches = passwordMatches.get(passwordKey);
+                if(matches == null){
+                    matches = EncryptionUtils.encryption(request.getPassword(), sendAccount.getSalt()).equals(sendAccount.getPassword());
+                    passwordMatches.put(passwordKey, matches);
+
+                    if(!matches){
+                        // 틀린 횟수 추가, 5회 이상이면 계좌 정지
+                        sendAccount.setWrongCount(sendAccount.getWrongCount() + 1);
+                        if(sendAccount.getWrongCount() >= 5){
+                            sendAccount.setStatus(false);
+                            throw new NoSuchElementException("비밀번호 5회 실패로 계좌가 정지됩니다.");
+                        }
+                    }
+                }
+                if(!matches){
+                    throw new NoSuchElementException("비밀번호가 일치하지 않습니다.");
+                }
+
+                Integer transferAmount = request.getTransferAmount();
+                if(transferAmount == null || transferAmount <= 0){
+                    throw new IllegalArgumentException("거래금액이 올바르지 않습니다.");
+                }
+
+                // 잔액 부족 (저널 출금 예정액, 핫 계좌의 잔액 슬롯 포함)
+                int sendBalance = sendAccount.getBalance() - transferAmount;
+                if(hotAccountService.balanceOf(sendAccount) - transferAmount - pendingDebit(sendAccount.getId()) < 0){
+                    throw new NoSuchElementException("잔액이 부족합니다.");
+                }
+                int receiveBalance = toAccount.getBalance() + transferAmount;
+
+                String sign = isBlank(request.getSign()) ? sendAccount.getOwner().getOwnerName() : request.getSign();
+                String toSign = isBlank(request.getToSign()) ? toAccount.getOwner().getOwnerName() : request.getToSign();
+
+                // 보내는 사람의 기록
+                histories.add(History.builder()
+                        .account(sendAccount)
+                        .toAccount(toAccount.getAccountNumber())
+                        .toCodeId(toAccount.getBankCode().getId())
+                        .type(1) // 1 : 송금
+                        .transferAmount(transferAmount)
+                        .afterBalance(sendBalance)
+                        .pending(sendAccount.isHot())
+                        .sign(sign)
+                        .toSign(toSign)
+                        .createdAt(now)
+                        .build());
+
+                // 받는 사람의 기록
+                histories.add(History.builder()
+                        .account(toAccount)
+                        .toAccount(sendAccount.getAccountNumber())
+                        .toCodeId(sendAccount.getBankCode().getId())
+                        .type(2) // 2 : 입금
+                        .transferAmount(transferAmount)
+                        .afterBalance(receiveBalance)
+                        .pending(toAccount.isHot())
+                        .sign(toSign)
+                        .toSign(sign)
+                        .createdAt(now)
+                        .build());
+
+                // 계좌 잔액 변경 (커밋 시 반영, 핫 계좌 입금은 계좌 행 대신 잔액 슬롯에 반영)
+                sendAccount.setBalance(sendBalance);
+                if(toAccount.isHot()){
+                    hotAccountService.credit(toAccount, transferAmount);
+                } else {
+                    toAccount.setBalance(receiveBalance);
+                }
+                sendAccount.setWrongCount(0);
+                transferred.add(sendAccount);
+                transferred.add(toAccount);
+
+                msg = "이체가 정상적으로 수행되었습니다.";
+                successCount++;
+                results.add(TransferDto.BatchResult.builder().index(i).success(true).msg(msg).build());
+            } catch (NoSuchElementException | IllegalArgumentException e) {
+                results.add(TransferDto.BatchResult.builder().index(i).success(false).msg(e.getMessage()).build());
+            }
+        }
+
+        // 거래 기록 일괄 저장 (JDBC batch insert)
+        historyRepository.saveAll(histories);
+
+        if(!transferred.isEmpty()){
+            eventPublisher.publishEvent(AccountTransferredEvent.of(transferred));
+        }
+
+        return TransferDto.BatchResponse.builder()
+                .successCount(successCount)
+                .failCount(requests.size() - successCount)
+                .results(results)
+                .build();
+    }
+
+    private boolean existsOwner(String identificationNumber) {
+        try {
+            return findOwner(identificationNumber).isPresent();
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    // 식별번호로 예금주 조회 (해시, 예금주 ID 캐시 사용)
+    private Optional<Owner> findOwner(String identificationNumber) throws Exception {
+        OwnerIdentityCache.CachedOwner entry = ownerIdentityCache.get(identificationNumber);
+
+        if(entry.getOwnerId() != null){
+            Optional<Owner> owner = ownerRepository.findById(entry.getOwnerId());
+            if(owner.isPresent()){
+                return owner;
+            }
+        }
+
+        Optional<Owner> owner = ownerRepository.findByIdentificationNumber(entry.getHash());
+        owner.ifPresent(o -> ownerIdentityCache.putOwnerId(identificationNumber, o.getId()));
+        return owner;
+    }
+
+    private static String accountKey(Long bankCode, String accountNumber) {
+        return bankCode + ":" + accountNumber;
+    }
+
+    private static boolean isBlank(String str) {
+        return str == null || str.isEmpty();
+    }
+
     @Override
     @Transactional
     public PasswordDto.Response resetPassword(PasswordDto.Request request)  throws Exception{
-        // 식별번호 암호화
-        String identification = EncryptionUtils.encryption(request.getIdentificationNumber(), SALT);
-
         // 식별번호 조회
-        Owner owner = ownerRepository.findByIdentificationNumber(identification)
+        Owner owner = findOwner(request.getIdentificationNumber())
                 .orElseThrow(() -> new NoSuchElementException("예금주가 존재하지 않습니다."));
 
         // 예금주와 계좌번호로 계좌 1개 조회
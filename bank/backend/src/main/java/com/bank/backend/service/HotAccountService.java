@@ -0,0 +1,17 @@
+package com.bank.backend.service;
+
+import com.bank.backend.entity.Account;
+
+public interface HotAccountService {
+
+    public void enable(Long accountId, int slots) throws Exception;
+
+    public void disable(Long accountId) throws Exception;
+
+    public void credit(Account account, int amount);
+
+    public int balanceOf(Account account);
+
+    public int fold(Long accountId);
+
+}
@@ -0,0 +1,173 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.exception.NotFoundException;
+import com.bank.backend.entity.Account;
+import com.bank.backend.entity.AccountBalanceSlot;
+import com.bank.backend.entity.History;
+import com.bank.backend.repository.AccountBalanceSlotRepository;
+import com.bank.backend.repository.AccountRepository;
+import com.bank.backend.repository.HistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 핫 계좌 (입금이 몰리는 모임 계좌 등)
+ * 입금은 N 개의 잔액 슬롯 중 임의의 슬롯에 더해지고 계좌 행은 잠그지 않는다.
+ * 출금과 잔액 조회는 Account.balance + 슬롯 합계를 사용한다.
+ * 핫 계좌의 거래내역은 pending 으로 저장되고, 슬롯을 합칠 때 발생 순서대로 afterBalance 가 확정된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotAccountServiceImpl implements HotAccountService {
+
+    private static final int MAX_SLOTS = 64;
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final HistoryRepository historyRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /** 핫 계좌 전환 (이미 핫 계좌면 슬롯 수 변경) */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void enable(Long accountId, int slots) throws Exception {
+        if(slots < 1 || slots > MAX_SLOTS){
+            throw new IllegalArgumentException("잔액 슬롯 수는 1 ~ " + MAX_SLOTS + " 사이여야 합니다.");
+        }
+
+        Account account = lockAccount(accountId);
+        List<AccountBalanceSlot> current = foldLocked(account);
+        settlePending(account);
+
+        for (AccountBalanceSlot slot : current) {
+            if(slot.getSlot() >= slots){
+                accountBalanceSlotRepository.delete(slot);
+            }
+        }
+        for (int i = current.size(); i < slots; i++) {
+            accountBalanceSlotRepository.save(AccountBalanceSlot.builder()
+                    .accountId(accountId)
+                    .slot(i)
+                    .balance(0)
+                    .build());
+        }
+
+        account.setBalanceSlots(slots);
+    }
+
+    /** 일반 계좌로 복귀 (남은 슬롯 잔액을 합친 뒤 슬롯 삭제) */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void disable(Long accountId) throws Exception {
+        Account account = lockAccount(accountId);
+        accountBalanceSlotRepository.deleteAll(foldLocked(account));
+        settlePending(account);
+        account.setBalanceSlots(0);
+    }
+
+    /** 입금 : 호출한 이체 트랜잭션 안에서 임의의 슬롯에 더함 */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void credit(Account account, int amount) {
+        int slot = ThreadLocalRandom.current().nextInt(account.getBalanceSlots());
+        if(accountBalanceSlotRepository.addBalance(account.getId(), slot, amount) != 1){
+            throw new IllegalStateException("잔액 슬롯이 존재하지 않습니다 : " + account.getId() + "-" + slot);
+        }
+    }
+
+    /** 슬롯을 포함한 잔액 */
+    @Override
+    @Transactional(readOnly = true)
+    public int balanceOf(Account account) {
+        if(!account.isHot()){
+            return account.getBalance();
+        }
+        return Math.toIntExact(account.getBalance() + accountBalanceSlotRepository.sumBalance(account.getId()));
+    }
+
+    /** 슬롯 잔액을 계좌 잔액으로 합치고 미정산 거래내역의 afterBalance 확정, 정산된 거래내역 수 반환 */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int fold(Long accountId) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        Integer settled = template.execute(status -> {
+            Account account = accountRepository.findByIdForUpdate(accountId).orElse(null);
+            if(account == null || !account.isHot()){
+                return 0;
+            }
+            foldLocked(account);
+            return settlePending(account);
+        });
+        return settled == null ? 0 : settled;
+    }
+
+    // 핫 계좌 주기적 정산
+    @Scheduled(fixedDelayString = "${bank.hot-account.fold-delay-ms:1000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void foldAll() {
+        for (Long accountId : accountRepository.findHotAccountIds()) {
+            try {
+                fold(accountId);
+            } catch (Exception e) {
+                log.warn("핫 계좌 {} 잔액 슬롯 정산 실패 : {}", accountId, e.getMessage());
+            }
+        }
+    }
+
+    private Account lockAccount(Long accountId) throws NotFoundException {
+        return accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new NotFoundException(accountId + "를 accountId로 가지는 계좌가 존재하지 않습니다"));
+    }
+
+    // 계좌가 잠긴 상태에서 호출 : 모든 슬롯을 잠그고 (진행 중인 입금 대기) 계좌 잔액으로 이동
+    private List<AccountBalanceSlot> foldLocked(Account account) {
+        List<AccountBalanceSlot> slots = accountBalanceSlotRepository.findAllByAccountIdForUpdate(account.getId());
+
+        long sum = 0;
+        for (AccountBalanceSlot slot : slots) {
+            sum += slot.getBalance();
+            slot.setBalance(0);
+        }
+        account.setBalance(Math.toIntExact(account.getBalance() + sum));
+        return slots;
+    }
+
+    // 미정산 거래내역의 afterBalance 를 발생 순서대로 확정 (계좌, 슬롯이 모두 잠긴 상태)
+    private int settlePending(Account account) {
+        List<History> pending = historyRepository.findAllByAccount_IdAndPendingTrueOrderByCreatedAtAscIdAsc(account.getId());
+        if(pending.isEmpty()){
+            return 0;
+        }
+
+        // 미정산분을 모두 반영한 잔액에서 역산한 시작 잔액
+        long balance = account.getBalance();
+        for (History history : pending) {
+            balance -= delta(history);
+        }
+
+        for (History history : pending) {
+            balance += delta(history);
+            history.setAfterBalance(Math.toIntExact(balance));
+            history.setPending(false);
+        }
+        return pending.size();
+    }
+
+    private static long delta(History history) {
+        return history.getType() == 2 ? history.getTransferAmount() : -history.getTransferAmount();
+    }
+}
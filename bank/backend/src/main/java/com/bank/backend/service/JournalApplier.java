@@ -0,0 +1,195 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.event.AccountTransferredEvent;
+import com.bank.backend.common.journal.JournalRecord;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.Account;
+import com.bank.backend.entity.History;
+import com.bank.backend.entity.JournalCheckpoint;
+import com.bank.backend.entity.JournalFailure;
+import com.bank.backend.entity.TransferIdempotency;
+import com.bank.backend.repository.AccountRepository;
+import com.bank.backend.repository.HistoryRepository;
+import com.bank.backend.repository.JournalCheckpointRepository;
+import com.bank.backend.repository.JournalFailureRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 이체 저널 레코드를 Account, History 에 반영
+ * 체크포인트를 같은 트랜잭션에서 갱신하므로 재시도, 재기동 시에도 한 번만 반영된다.
+ * 레코드에 Idempotency-Key 가 있으면 이체와 같은 트랜잭션에서 키와 응답을 저장한다.
+ * 반영할 수 없는 레코드는 JournalFailure 에 남기고 bank.journal.failed 를 올린다. (접수된 이체를 버리지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bank.journal.enabled", havingValue = "true")
+public class JournalApplier {
+
+    @Value("${bank.journal.node-id:default}")
+    private String nodeId;
+
+    private final AccountRepository accountRepository;
+    private final HistoryRepository historyRepository;
+    private final JournalCheckpointRepository journalCheckpointRepository;
+    private final JournalFailureRepository journalFailureRepository;
+    private final HotAccountService hotAccountService;
+    private final TransferIdempotencyStore transferIdempotencyStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Transactional(readOnly = true)
+    public long lastAppliedSeq() {
+        return journalCheckpointRepository.findById(nodeId)
+                .map(JournalCheckpoint::getLastSeq)
+                .orElse(0L);
+    }
+
+    @Transactional
+    public void apply(List<JournalRecord> records) {
+        JournalCheckpoint checkpoint = journalCheckpointRepository.findById(nodeId)
+                .orElseGet(() -> journalCheckpointRepository.save(JournalCheckpoint.builder()
+                        .nodeId(nodeId)
+                        .lastSeq(0)
+                        .build()));
+
+        List<History> histories = new ArrayList<>();
+        Set<Account> transferred = new HashSet<>();
+
+        for (JournalRecord record : records) {
+            // 이미 반영된 레코드
+            if (record.getSeq() <= checkpoint.getLastSeq()) {
+                continue;
+            }
+
+            // 접수 시 거절되지만 이전 저널 파일에 남아 있을 수 있음 : 같은 계좌면 한 엔티티로 잔액이 계산되어 돈이 생기므로 반영하지 않음
+            if (record.getSendAccountId() == record.getToAccountId()) {
+                fail(record, "self-transfer", "같은 계좌로의 이체");
+                checkpoint.setLastSeq(record.getSeq());
+                continue;
+            }
+            if (record.getTransferAmount() <= 0) {
+                fail(record, "invalid-amount", "올바르지 않은 거래금액");
+                checkpoint.setLastSeq(record.getSeq());
+                continue;
+            }
+
+            // 계좌 ID 오름차순으로 잠금
+            Account first = lock(Math.min(record.getSendAccountId(), record.getToAccountId()));
+            Account second = lock(Math.max(record.getSendAccountId(), record.getToAccountId()));
+            Account sendAccount = first.getId() == record.getSendAccountId() ? first : second;
+            Account toAccount = sendAccount == first ? second : first;
+
+            String idempotencyKey = record.getIdempotencyKey();
+            String requestHash = TransferIdempotencyStore.requestHash(sendAccount.getId(), toAccount.getBankCode().getId(),
+                    toAccount.getAccountNumber(), record.getTransferAmount());
+            if (idempotencyKey != null) {
+                Optional<TransferIdempotency> stored = transferIdempotencyStore.findEntry(idempotencyKey);
+                if (stored.isPresent() && requestHash.equals(stored.get().getRequestHash())) {
+                    // 같은 키의 같은 요청이 다른 노드에서 먼저 반영됨 : 한 번만 이체
+                    log.warn("이체 저널 {}번 : 이미 처리된 Idempotency-Key 라 반영하지 않음", record.getSeq());
+                    checkpoint.setLastSeq(record.getSeq());
+                    continue;
+                }
+                if (stored.isPresent()) {
+                    fail(record, "idempotency-conflict", "다른 요청에 사용된 Idempotency-Key");
+                    checkpoint.setLastSeq(record.getSeq());
+                    continue;
+                }
+            }
+
+            int transferAmount = record.getTransferAmount();
+            int sendBalance = sendAccount.getBalance() - transferAmount;
+
+            // 접수 시 출금 예정액까지 검증하므로 정상적으로는 발생하지 않음 (핫 계좌는 잔액 슬롯 포함)
+            if (hotAccountService.balanceOf(sendAccount) - transferAmount < 0) {
+                fail(record, "insufficient-balance", "잔액 부족");
+                checkpoint.setLastSeq(record.getSeq());
+                continue;
+            }
+            int receiveBalance = toAccount.getBalance() + transferAmount;
+
+            // 보내는 사람의 기록
+            histories.add(History.builder()
+                    .account(sendAccount)
+                    .toAccount(toAccount.getAccountNumber())
+                    .toCodeId(toAccount.getBankCode().getId())
+                    .type(1) // 1 : 송금
+                    .transferAmount(transferAmount)
+                    .afterBalance(sendBalance)
+                    .pending(sendAccount.isHot())
+                    .sign(record.getSign())
+                    .toSign(record.getToSign())
+                    .build());
+
+            // 받는 사람의 기록
+            histories.add(History.builder()
+                    .account(toAccount)
+                    .toAccount(sendAccount.getAccountNumber())
+                    .toCodeId(sendAccount.getBankCode().getId())
+                    .type(2) // 2 : 입금
+                    .transferAmount(transferAmount)
+                    .afterBalance(receiveBalance)
+                    .pending(toAccount.isHot())
+                    .sign(record.getToSign())
+                    .toSign(record.getSign())
+                    .build());
+
+            sendAccount.setBalance(sendBalance);
+            toAccount.setBalance(receiveBalance);
+            transferred.add(sendAccount);
+            transferred.add(toAccount);
+            if (idempotencyKey != null) {
+                transferIdempotencyStore.record(idempotencyKey, sendAccount.getId(), requestHash, TransferDto.Response.builder()
+                        .msg("이체가 정상적으로 수행되었습니다.")
+                        .sendOwner(sendAccount.getOwner().getOwnerName())
+                        .toOwner(toAccount.getOwner().getOwnerName())
+                        .success(true)
+                        .build());
+            }
+            checkpoint.setLastSeq(record.getSeq());
+        }
+
+        historyRepository.saveAll(histories);
+
+        if (!transferred.isEmpty()) {
+            eventPublisher.publishEvent(AccountTransferredEvent.of(transferred));
+        }
+    }
+
+    // 반영하지 못한 레코드를 보상 처리 대상으로 저장하고 알림
+    private void fail(JournalRecord record, String type, String reason) {
+        log.error("이체 저널 {}번 반영 불가 : {} (계좌 {} -> {}, {}원)", record.getSeq(), reason,
+                record.getSendAccountId(), record.getToAccountId(), record.getTransferAmount());
+        journalFailureRepository.save(JournalFailure.builder()
+                .nodeId(nodeId)
+                .seq(record.getSeq())
+                .sendAccountId(record.getSendAccountId())
+                .toAccountId(record.getToAccountId())
+                .transferAmount(record.getTransferAmount())
+                .sign(record.getSign())
+                .toSign(record.getToSign())
+                .idempotencyKey(record.getIdempotencyKey())
+                .reason(reason)
+                .build());
+        meterRegistry.counter("bank.journal.failed", "type", type).increment();
+    }
+
+    private Account lock(long accountId) {
+        return accountRepository.findByIdForUpdate(accountId)
+                .orElseThrow(() -> new IllegalStateException("저널 반영 대상 계좌가 없습니다 : " + accountId));
+    }
+}
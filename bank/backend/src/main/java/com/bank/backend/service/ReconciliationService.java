@@ -0,0 +1,13 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.ReconciliationDto;
+
+import java.util.Optional;
+
+public interface ReconciliationService {
+
+    public ReconciliationDto.Report reconcile();
+
+    public Optional<ReconciliationDto.Report> lastReport();
+
+}
@@ -0,0 +1,312 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.ReconciliationDto;
+import com.bank.backend.repository.AccountBalanceSlotRepository;
+import com.bank.backend.repository.AccountRepository;
+import com.bank.backend.repository.HistoryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * 잔액 정합성 검증
+ * 계좌 ID 범위를 fork/join 으로 나눠 병렬로 검증하고, 범위마다 잠금 없는 읽기 전용 트랜잭션(REPEATABLE_READ 스냅샷)에서
+ * 거래내역을 계좌, 시간 순으로 스트리밍하며 계좌별로
+ *  - 잔액 = 마지막 거래의 afterBalance
+ *  - 잔액 = 첫 거래 전 잔액 + 입출금 합계
+ * 를 확인한다. 송금 합계 = 입금 합계(총액 보존)는 모든 범위가 같은 결과를 보도록 기준 시각(cutoff) 이전 거래내역으로 합산한다.
+ */
+@Slf4j
+@Service
+public class ReconciliationServiceImpl implements ReconciliationService {
+
+    private static final int MAX_REPORTED_MISMATCHES = 1000;
+
+    private final AccountRepository accountRepository;
+    private final HistoryRepository historyRepository;
+    private final AccountBalanceSlotRepository accountBalanceSlotRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final long rangeSize;
+    private final int parallelism;
+    private final long settleSeconds;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<ReconciliationDto.Report> lastReport = new AtomicReference<>();
+    private final Timer durationTimer;
+
+    public ReconciliationServiceImpl(AccountRepository accountRepository,
+                                     HistoryRepository historyRepository,
+                                     AccountBalanceSlotRepository accountBalanceSlotRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${bank.reconciliation.range-size:10000}") long rangeSize,
+                                     @Value("${bank.reconciliation.parallelism:4}") int parallelism,
+                                     @Value("${bank.reconciliation.settle-seconds:60}") long settleSeconds,
+                                     MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.historyRepository = historyRepository;
+        this.accountBalanceSlotRepository = accountBalanceSlotRepository;
+        this.transactionManager = transactionManager;
+        this.rangeSize = rangeSize;
+        this.parallelism = parallelism;
+        this.settleSeconds = settleSeconds;
+
+        this.durationTimer = Timer.builder("bank.reconciliation.duration")
+                .description("잔액 정합성 검증 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("bank.reconciliation.mismatches", lastReport, report -> report.get() == null ? 0 : report.get().getMismatchCount())
+                .description("마지막 정합성 검증의 잔액 불일치 계좌 수")
+                .register(meterRegistry);
+        Gauge.builder("bank.reconciliation.unconserved", lastReport,
+                        report -> report.get() == null ? 0 : report.get().getTotalSent() - report.get().getTotalReceived())
+                .description("마지막 정합성 검증의 송금 합계 - 입금 합계")
+                .register(meterRegistry);
+    }
+
+    // 매일 장 마감 후 실행
+    @Scheduled(cron = "${bank.reconciliation.cron:0 30 0 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcileDaily() {
+        ReconciliationDto.Report report = reconcile();
+        if (report.getMismatchCount() > 0 || !report.isConserved()) {
+            log.error("잔액 정합성 검증 실패 : 불일치 계좌 {}건, 송금 합계 {}, 입금 합계 {}",
+                    report.getMismatchCount(), report.getTotalSent(), report.getTotalReceived());
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 범위별로 읽기 전용 트랜잭션 사용
+    public ReconciliationDto.Report reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("정합성 검증이 이미 실행 중입니다.");
+        }
+
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime cutoff = startedAt.minusSeconds(settleSeconds);
+            long start = System.nanoTime();
+
+            RangeResult result = new RangeResult();
+            Optional<Long> minId = accountRepository.findMinId();
+            Optional<Long> maxId = accountRepository.findMaxId();
+            if (minId.isPresent() && maxId.isPresent()) {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                try {
+                    result = pool.invoke(new RangeTask(minId.get(), maxId.get(), cutoff));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+
+            ReconciliationDto.Report report = ReconciliationDto.Report.builder()
+                    .startedAt(startedAt)
+                    .finishedAt(LocalDateTime.now())
+                    .cutoff(cutoff)
+                    .accounts(result.accounts)
+                    .histories(result.histories)
+                    .skipped(result.skipped)
+                    .totalSent(result.sent)
+                    .totalReceived(result.received)
+                    .conserved(result.sent == result.received)
+                    .mismatchCount(result.mismatchCount)
+                    .mismatches(result.mismatches)
+                    .build();
+
+            durationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            lastReport.set(report);
+            log.info("잔액 정합성 검증 완료 : 계좌 {}건, 거래내역 {}건, 불일치 {}건, 총액 보존 {}",
+                    report.getAccounts(), report.getHistories(), report.getMismatchCount(), report.isConserved());
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public Optional<ReconciliationDto.Report> lastReport() {
+        return Optional.ofNullable(lastReport.get());
+    }
+
+    // [fromId, toId] 범위 검증 (rangeSize 이하가 될 때까지 반으로 나눔)
+    private class RangeTask extends RecursiveTask<RangeResult> {
+        private final long fromId;
+        private final long toId;
+        private final LocalDateTime cutoff;
+
+        RangeTask(long fromId, long toId, LocalDateTime cutoff) {
+            this.fromId = fromId;
+            this.toId = toId;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected RangeResult compute() {
+            if (toId - fromId + 1 <= rangeSize) {
+                return reconcileRange(fromId, toId, cutoff);
+            }
+
+            long mid = fromId + (toId - fromId) / 2;
+            RangeTask left = new RangeTask(fromId, mid, cutoff);
+            RangeTask right = new RangeTask(mid + 1, toId, cutoff);
+            left.fork();
+            RangeResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+
+    private RangeResult reconcileRange(long fromId, long toId, LocalDateTime cutoff) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        return template.execute(status -> {
+            RangeResult result = new RangeResult();
+
+            // 범위의 계좌 잔액, 핫 계좌 슬롯 합계를 먼저 읽고 거래내역만 스트리밍 (한 커넥션에 열린 결과셋은 하나)
+            List<AccountRepository.AccountBalance> accounts = accountRepository.findBalancesByIdBetween(fromId, toId);
+            Map<Long, Long> slotBalances = new HashMap<>();
+            for (AccountBalanceSlotRepository.SlotBalance slot : accountBalanceSlotRepository.sumBalanceByAccountIdBetween(fromId, toId)) {
+                slotBalances.put(slot.getAccountId(), slot.getBalance());
+            }
+
+            try (Stream<HistoryRepository.BalanceFlow> flows = historyRepository.streamFlowsByAccountIdBetween(fromId, toId)) {
+                Iterator<HistoryRepository.BalanceFlow> iterator = flows.iterator();
+                HistoryRepository.BalanceFlow flow = iterator.hasNext() ? iterator.next() : null;
+
+                for (AccountRepository.AccountBalance account : accounts) {
+                    AccountFlow accountFlow = new AccountFlow();
+
+                    while (flow != null && flow.getAccountId() <= account.getId()) {
+                        if (flow.getAccountId().equals(account.getId())) {
+                            accountFlow.add(flow);
+                        }
+                        result.addFlow(flow, cutoff);
+                        flow = iterator.hasNext() ? iterator.next() : null;
+                    }
+
+                    result.check(account.getId(), account.getBalance() + slotBalances.getOrDefault(account.getId(), 0L), accountFlow);
+                }
+
+                while (flow != null) {
+                    result.addFlow(flow, cutoff);
+                    flow = iterator.hasNext() ? iterator.next() : null;
+                }
+            }
+            return result;
+        });
+    }
+
+    // 계좌 하나의 거래내역 요약
+    private static class AccountFlow {
+        private long count;
+        private long firstAfterBalance;
+        private long firstAmount;
+        private long lastAfterBalance;
+        private long net;
+        private boolean pending;
+
+        void add(HistoryRepository.BalanceFlow flow) {
+            long amount = flow.getType() == 1 ? -flow.getTransferAmount() : flow.getTransferAmount();
+            if (count == 0) {
+                firstAfterBalance = flow.getAfterBalance();
+                firstAmount = amount;
+            }
+            lastAfterBalance = flow.getAfterBalance();
+            net += amount;
+            pending |= flow.isPending();
+            count++;
+        }
+    }
+
+    // 범위 검증 결과 (병합 가능)
+    private static class RangeResult {
+        private long accounts;
+        private long histories;
+        private long skipped;
+        private long sent;
+        private long received;
+        private long mismatchCount;
+        private final List<ReconciliationDto.Mismatch> mismatches = new ArrayList<>();
+
+        void addFlow(HistoryRepository.BalanceFlow flow, LocalDateTime cutoff) {
+            histories++;
+            if (flow.getCreatedAt() != null && flow.getCreatedAt().isBefore(cutoff)) {
+                if (flow.getType() == 1) {
+                    sent += flow.getTransferAmount();
+                } else {
+                    received += flow.getTransferAmount();
+                }
+            }
+        }
+
+        void check(Long accountId, long balance, AccountFlow flow) {
+            accounts++;
+            if (flow.count == 0) {
+                return;
+            }
+
+            // 핫 계좌의 미정산 거래는 afterBalance 가 확정되지 않음
+            if (flow.pending) {
+                skipped++;
+                return;
+            }
+
+            if (flow.lastAfterBalance != balance) {
+                addMismatch(accountId, "LAST_AFTER_BALANCE", balance, flow.lastAfterBalance);
+            } else if (flow.firstAfterBalance - flow.firstAmount + flow.net != balance) {
+                addMismatch(accountId, "HISTORY_FLOW", balance, flow.firstAfterBalance - flow.firstAmount + flow.net);
+            }
+        }
+
+        private void addMismatch(Long accountId, String type, long balance, long expected) {
+            mismatchCount++;
+            if (mismatches.size() < MAX_REPORTED_MISMATCHES) {
+                mismatches.add(ReconciliationDto.Mismatch.builder()
+                        .accountId(accountId)
+                        .type(type)
+                        .balance(balance)
+                        .expected(expected)
+                        .build());
+            }
+        }
+
+        RangeResult merge(RangeResult other) {
+            accounts += other.accounts;
+            histories += other.histories;
+            skipped += other.skipped;
+            sent += other.sent;
+            received += other.received;
+            mismatchCount += other.mismatchCount;
+            for (ReconciliationDto.Mismatch mismatch : other.mismatches) {
+                if (mismatches.size() >= MAX_REPORTED_MISMATCHES) {
+                    break;
+                }
+                mismatches.add(mismatch);
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.StandingOrderDto;
+
+import java.time.LocalDateTime;
+
+public interface StandingOrderService {
+
+    public StandingOrderDto.Response create(StandingOrderDto.Request request) throws Exception;
+
+    public StandingOrderDto.Response cancel(Long standingOrderId, String identificationNumber) throws Exception;
+
+    public int runDue(LocalDateTime now);
+
+}
@@ -0,0 +1,325 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.cache.OwnerIdentityCache;
+import com.bank.backend.common.data.BankCodeRegistry;
+import com.bank.backend.common.utils.EncryptionUtils;
+import com.bank.backend.dto.StandingOrderDto;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.Account;
+import com.bank.backend.entity.StandingOrder;
+import com.bank.backend.repository.AccountRepository;
+import com.bank.backend.repository.StandingOrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자동이체 등록, 해지, 실행
+ * 실행 시각이 된 자동이체를 (status, nextRunAt) 인덱스로 chunk 단위로 잠가 가져오고 (다른 노드가 잠근 행은 건너뜀),
+ * 고정 크기 스레드 풀에서 일반 이체와 같은 경로(잠금 방식, Idempotency-Key)로 실행한다.
+ * 같은 시각에 몰린 자동이체도 chunk 크기, 스레드 수 이상으로 동시에 DB 에 몰리지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class StandingOrderServiceImpl implements StandingOrderService {
+
+    private static final int MAX_RESULT_LENGTH = 200;
+
+    private final StandingOrderRepository standingOrderRepository;
+    private final AccountRepository accountRepository;
+    private final BankCodeRegistry bankCodeRegistry;
+    private final OwnerIdentityCache ownerIdentityCache;
+    private final BankService bankService;
+    private final PlatformTransactionManager transactionManager;
+
+    private final int chunkSize;
+    private final int maxRetries;
+    private final long retryDelaySeconds;
+    private final long leaseSeconds;
+    private final ExecutorService executor;
+
+    private final Counter successCounter;
+    private final Counter retryCounter;
+    private final Counter skipCounter;
+
+    public StandingOrderServiceImpl(StandingOrderRepository standingOrderRepository,
+                                    AccountRepository accountRepository,
+                                    BankCodeRegistry bankCodeRegistry,
+                                    OwnerIdentityCache ownerIdentityCache,
+                                    BankService bankService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${bank.standing-order.chunk-size:200}") int chunkSize,
+                                    @Value("${bank.standing-order.parallelism:4}") int parallelism,
+                                    @Value("${bank.standing-order.max-retries:3}") int maxRetries,
+                                    @Value("${bank.standing-order.retry-delay-seconds:600}") long retryDelaySeconds,
+                                    @Value("${bank.standing-order.lease-seconds:300}") long leaseSeconds,
+                                    MeterRegistry meterRegistry) {
+        this.standingOrderRepository = standingOrderRepository;
+        this.accountRepository = accountRepository;
+        this.bankCodeRegistry = bankCodeRegistry;
+        this.ownerIdentityCache = ownerIdentityCache;
+        this.bankService = bankService;
+        this.transactionManager = transactionManager;
+        this.chunkSize = chunkSize;
+        this.maxRetries = maxRetries;
+        this.retryDelaySeconds = retryDelaySeconds;
+        this.leaseSeconds = leaseSeconds;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "standing-order-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.successCounter = Counter.builder("bank.standing-order.run")
+                .tag("result", "success")
+                .description("자동이체 실행 결과")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("bank.standing-order.run")
+                .tag("result", "retry")
+                .description("자동이체 실행 결과")
+                .register(meterRegistry);
+        this.skipCounter = Counter.builder("bank.standing-order.run")
+                .tag("result", "skip")
+                .description("자동이체 실행 결과")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /** 자동이체 등록 (예금주, 계좌 비밀번호 확인) */
+    @Override
+    @Transactional(noRollbackFor = NoSuchElementException.class) // 비밀번호 오류 횟수는 저장
+    public StandingOrderDto.Response create(StandingOrderDto.Request request) throws Exception {
+        if(request.getAccountId() == null || request.getToCode() == null || request.getToAccount() == null
+                || request.getCycle() == null || request.getFirstRunAt() == null){
+            throw new IllegalArgumentException("입력값이 없습니다.");
+        }
+
+        if(request.getTransferAmount() == null || request.getTransferAmount() <= 0){
+            throw new IllegalArgumentException("거래금액이 올바르지 않습니다.");
+        }
+
+        if(request.getFirstRunAt().isBefore(LocalDateTime.now())){
+            throw new IllegalArgumentException("첫 이체 시각은 현재 이후여야 합니다.");
+        }
+
+        if(!bankCodeRegistry.contains(request.getToCode())){
+            throw new IllegalArgumentException("존재하지 않는 은행 코드입니다.");
+        }
+
+        Account account = findOwnedAccount(request.getAccountId(), request.getIdentificationNumber());
+
+        if(!account.isStatus()){
+            throw new NoSuchElementException("정지된 계좌입니다.");
+        }
+
+        // 비밀번호 확인
+        if(request.getPassword() == null || request.getPassword().length() != 4){
+            throw new NoSuchElementException("비밀번호의 길이가 맞지 않습니다.");
+        }
+
+        if(!EncryptionUtils.encryption(request.getPassword(), account.getSalt()).equals(account.getPassword())){
+            // 틀린 횟수 추가, 5회 이상이면 계좌 정지
+            account.setWrongCount(account.getWrongCount() + 1);
+            if(account.getWrongCount() >= 5){
+                account.setStatus(false);
+                throw new NoSuchElementException("비밀번호 5회 실패로 계좌가 정지됩니다.");
+            }
+            throw new NoSuchElementException("비밀번호가 일치하지 않습니다.");
+        }
+        account.setWrongCount(0);
+
+        Long toAccountId = accountRepository.findIdByBankCodeAndAccountNumber(request.getToCode(), request.getToAccount())
+                .orElseThrow(() -> new NoSuchElementException("상대방 계좌 정보가 존재하지 않습니다."));
+
+        if(toAccountId.equals(account.getId())){
+            throw new IllegalArgumentException("같은 계좌로는 자동이체를 등록할 수 없습니다.");
+        }
+
+        StandingOrder standingOrder = standingOrderRepository.save(StandingOrder.builder()
+                .accountId(account.getId())
+                .toCodeId(request.getToCode())
+                .toAccount(request.getToAccount())
+                .transferAmount(request.getTransferAmount())
+                .sign(request.getSign())
+                .toSign(request.getToSign())
+                .cycle(request.getCycle())
+                .firstRunAt(request.getFirstRunAt())
+                .runCount(0)
+                .scheduledAt(request.getFirstRunAt())
+                .nextRunAt(request.getFirstRunAt())
+                .retryCount(0)
+                .status(StandingOrder.Status.ACTIVE)
+                .build());
+
+        return StandingOrderDto.Response.toDTO(standingOrder);
+    }
+
+    /** 자동이체 해지 */
+    @Override
+    @Transactional
+    public StandingOrderDto.Response cancel(Long standingOrderId, String identificationNumber) throws Exception {
+        StandingOrder standingOrder = standingOrderRepository.findByIdForUpdate(standingOrderId)
+                .orElseThrow(() -> new NoSuchElementException("자동이체 정보가 존재하지 않습니다."));
+
+        findOwnedAccount(standingOrder.getAccountId(), identificationNumber);
+
+        standingOrder.setStatus(StandingOrder.Status.CANCELED);
+        return StandingOrderDto.Response.toDTO(standingOrder);
+    }
+
+    // 자동이체 주기 실행
+    @Scheduled(fixedDelayString = "${bank.standing-order.poll-delay-ms:1000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void runScheduled() {
+        int processed = runDue(LocalDateTime.now());
+        if(processed > 0){
+            log.info("자동이체 {}건 실행", processed);
+        }
+    }
+
+    /** now 기준 실행 시각이 된 자동이체를 모두 실행하고 실행한 건수 반환 */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // chunk 잠금, 건별 이체, 결과 반영을 각각의 트랜잭션으로 처리
+    public int runDue(LocalDateTime now) {
+        int processed = 0;
+
+        while (true) {
+            List<StandingOrder> claimed = claim(now);
+            if(claimed.isEmpty()){
+                break;
+            }
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (StandingOrder standingOrder : claimed) {
+                futures.add(executor.submit(() -> execute(standingOrder, now)));
+            }
+            for (Future<?> future : futures) {
+                await(future);
+            }
+            processed += claimed.size();
+
+            if(claimed.size() < chunkSize){
+                break;
+            }
+        }
+        return processed;
+    }
+
+    // 실행 대상 chunk 를 잠그고 임대 시각까지 다른 노드의 실행 대상에서 제외 (노드 장애 시 임대 만료 후 다시 실행)
+    private List<StandingOrder> claim(LocalDateTime now) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        return template.execute(status -> {
+            List<StandingOrder> due = standingOrderRepository.findDueForUpdate(StandingOrder.Status.ACTIVE, now, PageRequest.of(0, chunkSize));
+            due.forEach(standingOrder -> standingOrder.setNextRunAt(now.plusSeconds(leaseSeconds)));
+            return due;
+        });
+    }
+
+    // 이번 회차 이체 (회차별 Idempotency-Key 로 임대 만료 후 재실행되어도 한 번만 이체)
+    private void execute(StandingOrder standingOrder, LocalDateTime now) {
+        TransferDto.Request request = TransferDto.Request.builder()
+                .accountId(standingOrder.getAccountId())
+                .toCode(standingOrder.getToCodeId())
+                .toAccount(standingOrder.getToAccount())
+                .transferAmount(standingOrder.getTransferAmount())
+                .sign(standingOrder.getSign() == null ? "" : standingOrder.getSign())
+                .toSign(standingOrder.getToSign() == null ? "" : standingOrder.getToSign())
+                .build();
+        String idempotencyKey = "standing-order:" + standingOrder.getId() + ":" + standingOrder.getScheduledAt();
+
+        String failure = null;
+        try {
+            bankService.transferAuthorized(request, idempotencyKey);
+        } catch (Exception e) {
+            failure = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            log.debug("자동이체 {} 실행 실패 : {}", standingOrder.getId(), failure);
+        }
+
+        try {
+            complete(standingOrder.getId(), standingOrder.getScheduledAt(), failure, now);
+        } catch (Exception e) {
+            // 결과 반영 실패 시 임대 만료 후 다시 실행 (이체는 Idempotency-Key 로 중복 방지)
+            log.warn("자동이체 {} 결과 반영 실패 : {}", standingOrder.getId(), e.getMessage());
+        }
+    }
+
+    // 성공 : 다음 회차로, 실패 : 재시도 횟수 안에서 대기 후 재시도, 초과 시 이번 회차 건너뜀
+    private void complete(Long standingOrderId, LocalDateTime scheduledAt, String failure, LocalDateTime now) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.executeWithoutResult(status -> {
+            StandingOrder standingOrder = standingOrderRepository.findByIdForUpdate(standingOrderId).orElse(null);
+            if(standingOrder == null || !standingOrder.getScheduledAt().equals(scheduledAt)){
+                // 다른 노드가 이미 처리한 회차
+                return;
+            }
+
+            if(failure == null){
+                standingOrder.setLastResult("이체 완료 (" + scheduledAt + ")");
+                standingOrder.advance(now);
+                successCounter.increment();
+            } else if(standingOrder.getRetryCount() >= maxRetries){
+                standingOrder.setLastResult(truncate("이체 실패, 회차 건너뜀 (" + scheduledAt + ") : " + failure));
+                standingOrder.advance(now);
+                skipCounter.increment();
+            } else {
+                standingOrder.setRetryCount(standingOrder.getRetryCount() + 1);
+                standingOrder.setNextRunAt(now.plusSeconds(retryDelaySeconds * standingOrder.getRetryCount()));
+                standingOrder.setLastResult(truncate("이체 실패, 재시도 대기 (" + scheduledAt + ") : " + failure));
+                retryCounter.increment();
+            }
+        });
+    }
+
+    // 예금주 본인의 계좌인지 확인
+    private Account findOwnedAccount(Long accountId, String identificationNumber) throws Exception {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new NoSuchElementException("계좌 정보가 존재하지 않습니다."));
+
+        if(identificationNumber == null
+                || !account.getOwner().getIdentificationNumber().equals(ownerIdentityCache.hash(identificationNumber))){
+            throw new NoSuchElementException("회원님의 계좌 정보와 일치하지 않습니다.");
+        }
+        return account;
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("자동이체 실행 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            log.warn("자동이체 실행 오류 : {}", e.getCause().getMessage());
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_RESULT_LENGTH ? message : message.substring(0, MAX_RESULT_LENGTH);
+    }
+}
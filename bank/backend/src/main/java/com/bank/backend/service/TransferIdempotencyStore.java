@@ -0,0 +1,210 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.utils.HashEngine;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.TransferIdempotency;
+import com.bank.backend.repository.TransferIdempotencyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이체 Idempotency-Key 저장소
+ * 최근 키는 메모리 LRU 에서, 나머지는 TransferIdempotency 테이블에서 찾는다.
+ * 키는 이체 트랜잭션 안에서 저장되고 커밋 후에만 LRU 에 올라간다.
+ * 같은 노드로 동시에 들어온 같은 키의 요청은 키 striped lock 에서 기다렸다가 저장된 응답을 받는다.
+ * 같은 키로 요청 내용(송금 계좌, 상대 계좌, 금액)이 다른 이체를 요청하면 거절한다.
+ * (다른 노드와의 동시 요청은 테이블 PK 충돌로 한쪽 이체가 롤백된다)
+ */
+@Slf4j
+@Component
+public class TransferIdempotencyStore {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private final TransferIdempotencyRepository transferIdempotencyRepository;
+    private final int maxSize;
+    private final long retentionHours;
+    private final LinkedHashMap<String, TransferIdempotency> entries;
+    private final ReentrantLock[] stripes;
+
+    private final Counter replayCounter;
+
+    public TransferIdempotencyStore(TransferIdempotencyRepository transferIdempotencyRepository,
+                                    @Value("${bank.idempotency.cache-size:10000}") int maxSize,
+                                    @Value("${bank.idempotency.retention-hours:24}") long retentionHours,
+                                    MeterRegistry meterRegistry) {
+        this.transferIdempotencyRepository = transferIdempotencyRepository;
+        this.maxSize = maxSize;
+        this.retentionHours = retentionHours;
+
+        // 접근 순서 기준 LRU
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TransferIdempotency> eldest) {
+                return size() > TransferIdempotencyStore.this.maxSize;
+            }
+        };
+
+        this.stripes = new ReentrantLock[256];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        this.replayCounter = Counter.builder("bank.transfer.idempotent.replay")
+                .description("Idempotency-Key 로 저장된 응답을 돌려준 횟수")
+                .register(meterRegistry);
+    }
+
+    /** 키 형식 확인 */
+    public static void validate(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+    }
+
+    /** 같은 키의 요청을 노드 안에서 직렬화 (계좌 락보다 먼저 획득) */
+    public Locked lock(String idempotencyKey) {
+        ReentrantLock stripe = stripes[(idempotencyKey.hashCode() & 0x7fffffff) % stripes.length];
+        try {
+            stripe.lockInterruptibly();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Idempotency-Key 잠금 대기 중 인터럽트가 발생했습니다.", e);
+        }
+        return new Locked(stripe);
+    }
+
+    /** 요청 내용 해시 */
+    public static String requestHash(Long accountId, Long toCode, String toAccount, Integer transferAmount) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((accountId + "|" + toCode + "|" + toAccount + "|" + transferAmount)
+                    .getBytes(StandardCharsets.UTF_8));
+            return HashEngine.toHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String requestHash(TransferDto.Request request) {
+        return requestHash(request.getAccountId(), request.getToCode(), request.getToAccount(), request.getTransferAmount());
+    }
+
+    /** 키를 처음 사용한 요청과 같은 요청인지 확인 */
+    public static void checkSameRequest(Long accountId, String requestHash, TransferDto.Request request) {
+        if (!accountId.equals(request.getAccountId())) {
+            throw new IllegalArgumentException("다른 계좌의 이체에 사용된 Idempotency-Key 입니다.");
+        }
+        // requestHash 가 없는 키는 해시 저장 이전에 기록된 키
+        if (requestHash != null && !requestHash.equals(requestHash(request))) {
+            throw new IllegalArgumentException("다른 이체 요청에 사용된 Idempotency-Key 입니다.");
+        }
+    }
+
+    /** 이미 처리된 키라면 저장된 응답 반환 (계좌 락 없음, 방금 저장된 키도 보이도록 primary 에서 조회) */
+    @Transactional
+    public Optional<TransferDto.Response> find(String idempotencyKey, TransferDto.Request request) {
+        TransferIdempotency entry;
+        synchronized (entries) {
+            entry = entries.get(idempotencyKey);
+        }
+
+        if (entry == null) {
+            entry = transferIdempotencyRepository.findById(idempotencyKey).orElse(null);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            put(entry);
+        }
+
+        checkSameRequest(entry.getAccountId(), entry.getRequestHash(), request);
+
+        replayCounter.increment();
+        return Optional.of(TransferDto.Response.builder()
+                .msg(entry.getMsg())
+                .sendOwner(entry.getSendOwner())
+                .toOwner(entry.getToOwner())
+                .success(true)
+                .build());
+    }
+
+    /** 이체 트랜잭션(저널 모드는 저널 반영 트랜잭션) 안에서 호출 : 키와 응답을 저장하고 커밋되면 LRU 에 등록 */
+    public TransferDto.Response record(String idempotencyKey, Long accountId, String requestHash, TransferDto.Response response) {
+        TransferIdempotency entry = transferIdempotencyRepository.saveAndFlush(TransferIdempotency.builder()
+                .idempotencyKey(idempotencyKey)
+                .accountId(accountId)
+                .requestHash(requestHash)
+                .msg(response.getMsg())
+                .sendOwner(response.getSendOwner())
+                .toOwner(response.getToOwner())
+                .build());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(entry);
+                }
+            });
+        }
+        return response;
+    }
+
+    /** 저장된 키 (저널 반영 시 다른 노드에서 먼저 처리된 키인지 확인) */
+    @Transactional
+    public Optional<TransferIdempotency> findEntry(String idempotencyKey) {
+        return transferIdempotencyRepository.findById(idempotencyKey);
+    }
+
+    // 보관 기간이 지난 키 정리
+    @Scheduled(cron = "${bank.idempotency.purge-cron:0 30 * * * *}")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        int deleted = transferIdempotencyRepository.deleteByCreatedAtBefore(before);
+
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.getCreatedAt() != null && entry.getCreatedAt().isBefore(before));
+        }
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key 정리 : {}건", deleted);
+        }
+    }
+
+    private void put(TransferIdempotency entry) {
+        synchronized (entries) {
+            entries.put(entry.getIdempotencyKey(), entry);
+        }
+    }
+
+    /** try-with-resources 로 해제하는 lock 핸들 */
+    public static class Locked implements AutoCloseable {
+        private final ReentrantLock stripe;
+
+        private Locked(ReentrantLock stripe) {
+            this.stripe = stripe;
+        }
+
+        @Override
+        public void close() {
+            stripe.unlock();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.bank.backend.common.cache;
+
+import com.bank.backend.common.event.AccountTransferredEvent;
+import com.bank.backend.entity.Account;
+import com.bank.backend.entity.Owner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountReadCoalescerTest {
+
+    private static final int WAITERS = 8;
+
+    @Test
+    void concurrentReadsShareOneLoad() throws Exception {
+        AccountReadCoalescer coalescer = new AccountReadCoalescer(0, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WAITERS);
+
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < WAITERS; i++) {
+                results.add(executor.submit(() -> coalescer.get("detail:1", () -> {
+                    loads.incrementAndGet();
+                    release.await(10, TimeUnit.SECONDS);
+                    return 100;
+                }, value -> List.of(1L))));
+            }
+
+            // 첫 요청이 조회 중인 동안 나머지 요청이 합류할 시간
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo(100);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(coalescer.coalescingRatio()).isEqualTo((WAITERS - 1) / (double) WAITERS);
+
+        // window 0 : 조회가 끝나면 결과를 재사용하지 않음
+        assertThat(coalescer.get("detail:1", () -> 200, value -> List.of(1L))).isEqualTo(200);
+    }
+
+    @Test
+    void windowResultIsInvalidatedByTransfer() throws Exception {
+        AccountReadCoalescer coalescer = new AccountReadCoalescer(60_000, new SimpleMeterRegistry());
+
+        assertThat(coalescer.get("detail:1", () -> 100, value -> List.of(1L))).isEqualTo(100);
+        assertThat(coalescer.get("detail:2", () -> 100, value -> List.of(2L))).isEqualTo(100);
+        assertThat(coalescer.get("detail:1", () -> 90, value -> List.of(1L))).isEqualTo(100);
+
+        coalescer.onTransferred(AccountTransferredEvent.of(List.of(account(1L), account(3L))));
+
+        // 이체된 계좌만 새로 조회
+        assertThat(coalescer.get("detail:1", () -> 90, value -> List.of(1L))).isEqualTo(90);
+        assertThat(coalescer.get("detail:2", () -> 80, value -> List.of(2L))).isEqualTo(100);
+    }
+
+    @Test
+    void failedLoadIsNotReused() throws Exception {
+        AccountReadCoalescer coalescer = new AccountReadCoalescer(60_000, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> coalescer.get("detail:1", () -> {
+            throw new IllegalStateException("db");
+        }, value -> List.of(1L))).isInstanceOf(IllegalStateException.class);
+
+        assertThat(coalescer.get("detail:1", () -> 100, value -> List.<Long>of(1L))).isEqualTo(100);
+    }
+
+    private Account account(Long id) {
+        return Account.builder()
+                .id(id)
+                .accountNumber("acc" + id)
+                .owner(Owner.builder().id(id).build())
+                .build();
+    }
+}
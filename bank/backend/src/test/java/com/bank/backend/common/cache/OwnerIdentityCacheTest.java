@@ -0,0 +1,67 @@
+package com.bank.backend.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OwnerIdentityCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void hitsUntilTtlExpires() throws Exception {
+        OwnerIdentityCache cache = new OwnerIdentityCache("salt", 10, 600, meterRegistry);
+
+        OwnerIdentityCache.CachedOwner first = cache.get("01000000001");
+        cache.putOwnerId("01000000001", 7L);
+        OwnerIdentityCache.CachedOwner second = cache.get("01000000001");
+
+        assertThat(second.getHash()).isEqualTo(first.getHash());
+        assertThat(second.getOwnerId()).isEqualTo(7L);
+        assertThat(cache.hash("01000000002")).isNotEqualTo(first.getHash());
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(2);
+
+        // TTL 0 : 저장 직후 만료
+        OwnerIdentityCache expiring = new OwnerIdentityCache("salt", 10, 0, new SimpleMeterRegistry());
+        expiring.get("01000000001");
+        expiring.putOwnerId("01000000001", 7L);
+        assertThat(expiring.get("01000000001").getOwnerId()).isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        OwnerIdentityCache cache = new OwnerIdentityCache("salt", 2, 600, meterRegistry);
+
+        cache.get("01000000001");
+        cache.get("01000000002");
+        cache.get("01000000001"); // 최근 사용
+        cache.get("01000000003"); // 01000000002 제거
+
+        assertThat(cache.size()).isEqualTo(2);
+        double misses = count("miss");
+        cache.get("01000000001");
+        assertThat(count("miss")).isEqualTo(misses);
+        cache.get("01000000002");
+        assertThat(count("miss")).isEqualTo(misses + 1);
+    }
+
+    @Test
+    void evictsByHash() throws Exception {
+        OwnerIdentityCache cache = new OwnerIdentityCache("salt", 10, 600, meterRegistry);
+
+        String hash = cache.hash("01000000001");
+        cache.putOwnerId("01000000001", 7L);
+        cache.get("01000000002");
+
+        cache.evictByHash(hash);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("01000000001").getOwnerId()).isNull();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("bank.owner.cache").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,51 @@
+package com.bank.backend.common.data;
+
+import com.bank.backend.entity.BankCode;
+import com.bank.backend.repository.BankCodeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 은행 코드 참조 데이터 : 기동 시 적재된 코드 조회, 없는 코드, 추가된 코드의 reload 반영 검증
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bankcode;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@ActiveProfiles("test")
+class BankCodeRegistryTest {
+
+    @Autowired
+    private BankCodeRegistry bankCodeRegistry;
+
+    @Autowired
+    private BankCodeRepository bankCodeRepository;
+
+    @Test
+    void looksUpLoadedCodes() {
+        assertThat(bankCodeRegistry.nameOf(88L)).isEqualTo("신한은행");
+        assertThat(bankCodeRegistry.nameOf(2L)).isEqualTo("KDB산업은행");
+        assertThat(bankCodeRegistry.contains(92L)).isTrue();
+    }
+
+    @Test
+    void unknownCodesAreAbsent() {
+        assertThat(bankCodeRegistry.nameOf(1L)).isNull();
+        assertThat(bankCodeRegistry.nameOf(10_000L)).isNull();
+        assertThat(bankCodeRegistry.nameOf(-1L)).isNull();
+        assertThat(bankCodeRegistry.nameOf(null)).isNull();
+        assertThat(bankCodeRegistry.contains(1L)).isFalse();
+    }
+
+    @Test
+    void reloadPicksUpNewCodes() {
+        bankCodeRepository.save(new BankCode(120L, "테스트은행"));
+        assertThat(bankCodeRegistry.contains(120L)).isFalse();
+
+        bankCodeRegistry.reload();
+
+        assertThat(bankCodeRegistry.nameOf(120L)).isEqualTo("테스트은행");
+        assertThat(bankCodeRegistry.nameOf(88L)).isEqualTo("신한은행");
+    }
+}
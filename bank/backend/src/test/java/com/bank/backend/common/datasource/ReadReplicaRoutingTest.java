@@ -0,0 +1,166 @@
+package com.bank.backend.common.datasource;
+
+import com.bank.backend.common.data.BankCodeRegistry;
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.AccountListDto;
+import com.bank.backend.dto.HistoryDto;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.Owner;
+import com.bank.backend.service.BankService;
+import com.bank.backend.service.BankTestFixture;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * readOnly 트랜잭션의 replica 라우팅과 복제 지연 보호 검증
+ * 내장 DB 두 개를 primary / replica 로 사용하고, replica 복제는 H2 SCRIPT 스냅샷으로 흉내낸다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bankprimary;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "bank.datasource.replica.url=jdbc:h2:mem:bankreplica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "bank.datasource.replica.username=sa",
+        "bank.datasource.replica.max-lag-ms=" + ReadReplicaRoutingTest.MAX_LAG_MILLIS
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadReplicaRoutingTest {
+
+    static final long MAX_LAG_MILLIS = 300;
+
+    private static final String IDENTIFICATION_NUMBER = "01077770000";
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BankCodeRegistry bankCodeRegistry;
+
+    private AccountDto.Response send;
+    private AccountDto.Response receive;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        // 스키마, 은행 코드 복제
+        syncReplica();
+
+        BankTestFixture fixture = new BankTestFixture(bankService);
+        Owner owner = fixture.createOwner(IDENTIFICATION_NUMBER, "replica");
+        send = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "send");
+        receive = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "receive");
+
+        bankService.transfer(transferRequest());
+        bankService.transfer(transferRequest());
+
+        Thread.sleep(MAX_LAG_MILLIS * 2);
+        syncReplica();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        String readOnlyDatabase = readOnly.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+        String readWriteDatabase = readWrite.execute(status -> jdbcTemplate.queryForObject("select database()", String.class));
+
+        assertThat(readOnlyDatabase).isEqualToIgnoringCase("bankreplica");
+        assertThat(readWriteDatabase).isEqualToIgnoringCase("bankprimary");
+    }
+
+    @Test
+    void recentlyTransferredAccountIsReadFromPrimary() throws Exception {
+        int replicated = bankService.getHistoryList(historyRequest()).size();
+        int replicatedBalance = balanceOf(send.getAccountNumber());
+
+        bankService.transfer(transferRequest());
+
+        // 복제 전이지만 방금 이체한 계좌는 primary 에서 조회
+        assertThat(bankService.getHistoryList(historyRequest())).hasSize(replicated + 1);
+        assertThat(balanceOf(send.getAccountNumber())).isEqualTo(replicatedBalance - 10);
+
+        // 지연 허용 시간이 지나면 다시 replica (아직 복제되지 않은 상태)
+        Thread.sleep(MAX_LAG_MILLIS * 2);
+        assertThat(bankService.getHistoryList(historyRequest())).hasSize(replicated);
+        assertThat(balanceOf(send.getAccountNumber())).isEqualTo(replicatedBalance);
+
+        syncReplica();
+        assertThat(bankService.getHistoryList(historyRequest())).hasSize(replicated + 1);
+    }
+
+    @Test
+    void bankCodesAreLoadedFromPrimary() {
+        // 아직 replica 에 복제되지 않은 은행 코드를 적재 전 registry 가 처음 조회
+        new JdbcTemplate(primaryDataSource).update("insert into bank_code (id, bank_name) values (?, ?)", 96L, "복제전은행");
+        ReflectionTestUtils.setField(bankCodeRegistry, "names", null);
+
+        assertThat(bankCodeRegistry.nameOf(96L)).isEqualTo("복제전은행");
+        assertThat(bankCodeRegistry.nameOf(88L)).isEqualTo("신한은행");
+    }
+
+    // primary 스냅샷으로 replica 를 교체
+    private void syncReplica() throws Exception {
+        File script = File.createTempFile("bank-replica", ".sql");
+        try {
+            String path = script.getAbsolutePath().replace('\\', '/');
+            new JdbcTemplate(primaryDataSource).execute("SCRIPT TO '" + path + "'");
+
+            JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+            replica.execute("DROP ALL OBJECTS");
+            replica.execute("RUNSCRIPT FROM '" + path + "'");
+        } finally {
+            script.delete();
+        }
+    }
+
+    private int balanceOf(String accountNumber) throws Exception {
+        AccountListDto.ListResponse response = bankService.findAccountList(List.of(IDENTIFICATION_NUMBER));
+        return response.getAccounts().stream()
+                .filter(account -> account.getAccountNumber().equals(accountNumber))
+                .findFirst()
+                .orElseThrow()
+                .getBalance();
+    }
+
+    private HistoryDto.Request historyRequest() {
+        HistoryDto.Request request = new HistoryDto.Request();
+        request.setIdentificationNumber(IDENTIFICATION_NUMBER);
+        request.setAccountNumber(send.getAccountNumber());
+        return request;
+    }
+
+    private TransferDto.Request transferRequest() {
+        return BankTestFixture.transferRequest(IDENTIFICATION_NUMBER, send, receive, 10);
+    }
+}
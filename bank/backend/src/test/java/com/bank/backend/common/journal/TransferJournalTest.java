@@ -0,0 +1,274 @@
+package com.bank.backend.common.journal;
+
+import com.bank.backend.service.JournalApplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class TransferJournalTest {
+
+    private static final int SEGMENT_RECORDS = 8;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appliesRecordsInOrderAcrossSegments() throws Exception {
+        RecordingApplier applier = new RecordingApplier(0, false);
+        TransferJournal journal = journal(applier);
+        journal.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 20; i++) {
+            executor.submit(() -> journal.append(new JournalRecord(0, 1L, 2L, 100, "보냄", null)));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        waitUntil(() -> journal.getAppliedSeq() == 20);
+        journal.stop();
+
+        assertThat(applier.seqs()).containsExactlyElementsOf(range(1, 20));
+        assertThat(applier.applied.get(0).getSign()).isEqualTo("보냄");
+        assertThat(applier.applied.get(0).getToSign()).isNull();
+        assertThat(journal.pendingDebit(1L)).isZero();
+    }
+
+    @Test
+    void replaysUnappliedRecordsAfterRestart() throws Exception {
+        // DB 반영이 계속 실패하는 상태에서 종료
+        TransferJournal crashed = journal(new RecordingApplier(0, true));
+        crashed.start();
+        for (int i = 0; i < 5; i++) {
+            crashed.append(new JournalRecord(0, 1L, 2L, 100, "sign", "toSign"));
+        }
+        crashed.stop();
+
+        // 체크포인트가 2번까지 반영된 상태로 재기동
+        RecordingApplier applier = new RecordingApplier(2, false);
+        TransferJournal restarted = journal(applier);
+        restarted.start();
+        assertThat(restarted.pendingDebit(1L)).isLessThanOrEqualTo(300);
+
+        waitUntil(() -> restarted.getAppliedSeq() == 5);
+        restarted.append(new JournalRecord(0, 1L, 2L, 100, "sign", "toSign"));
+        waitUntil(() -> restarted.getAppliedSeq() == 6);
+        restarted.stop();
+
+        assertThat(applier.seqs()).containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void stopsReplayAtTornRecord() throws Exception {
+        TransferJournal crashed = journal(new RecordingApplier(0, true));
+        crashed.start();
+        for (int i = 0; i < 3; i++) {
+            crashed.append(new JournalRecord(0, 1L, 2L, 100, "sign", "toSign"));
+        }
+        crashed.stop();
+
+        // 마지막 레코드를 쓰다 만 상태로 만듦
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.collect(Collectors.toList()).get(0);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(2L * JournalRecord.SIZE + 40);
+            file.write(new byte[]{1, 2, 3});
+        }
+
+        RecordingApplier applier = new RecordingApplier(0, false);
+        TransferJournal restarted = journal(applier);
+        restarted.start();
+        waitUntil(() -> restarted.getAppliedSeq() == 2);
+
+        // 손상된 3번 자리부터 다시 기록
+        assertThat(restarted.append(new JournalRecord(0, 1L, 2L, 100, "sign", "toSign"))).isEqualTo(3);
+        waitUntil(() -> restarted.getAppliedSeq() == 3);
+        restarted.stop();
+
+        assertThat(applier.seqs()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void tracksIdempotencyKeyUntilApplied() throws Exception {
+        // 반영 실패 중 : 키는 저널에만 있음
+        TransferJournal crashed = journal(new RecordingApplier(0, true));
+        crashed.start();
+        crashed.append(new JournalRecord(0, 1L, 2L, 100, "sign", "toSign", "key-1"));
+        assertThat(crashed.pendingRecord("key-1")).get().extracting(JournalRecord::getSeq).isEqualTo(1L);
+        crashed.stop();
+
+        // 재기동 후 재적용 전까지 키 유지, 반영되면 제거
+        RecordingApplier applier = new RecordingApplier(0, false);
+        TransferJournal restarted = journal(applier);
+        restarted.start();
+        waitUntil(() -> restarted.getAppliedSeq() == 1);
+        restarted.stop();
+
+        assertThat(applier.applied.get(0).getIdempotencyKey()).isEqualTo("key-1");
+        assertThat(restarted.pendingRecord("key-1")).isEmpty();
+    }
+
+    @Test
+    void refusesSegmentsOfAnotherRecordSize() throws Exception {
+        // 이전 형식(512 byte 레코드) 세그먼트
+        Files.write(directory.resolve(String.format("%020d.journal", 1)), new byte[SEGMENT_RECORDS * 512]);
+
+        assertThatThrownBy(() -> journal(new RecordingApplier(0, false)).start())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void fsyncFailureReleasesWaitersAndRefusesRecords() throws Exception {
+        TransferJournal journal = new TransferJournal(new RecordingApplier(0, false), directory.toString(), SEGMENT_RECORDS, 3, 500) {
+            @Override
+            void force(MappedByteBuffer buffer) {
+                throw new UncheckedIOException(new IOException("disk full"));
+            }
+        };
+        journal.start();
+
+        // 대기 중이던 요청은 실패를 받고, 이후 요청은 바로 거절 (무한 대기 없음)
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertThatThrownBy(() -> journal.append(new JournalRecord(0, 1L, 2L, 100, "sign", "toSign")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("이체 저널 기록에 실패했습니다. 이체 결과를 확인해주세요.");
+            assertThatThrownBy(() -> journal.append(new JournalRecord(0, 1L, 2L, 100, "sign", "toSign")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("이체 저널 기록 장애로 이체를 접수할 수 없습니다.");
+        });
+        // 기록된 레코드의 출금액은 잔액 검증에 계속 포함
+        assertThat(journal.pendingDebit(1L)).isEqualTo(100);
+        journal.stop();
+    }
+
+    @Test
+    void interruptDoesNotFailWrittenRecord() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TransferJournal journal = new TransferJournal(new RecordingApplier(0, false), directory.toString(), SEGMENT_RECORDS, 3, 500) {
+            @Override
+            void force(MappedByteBuffer buffer) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.force(buffer);
+            }
+        };
+        journal.start();
+
+        AtomicLong seq = new AtomicLong();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread appender = new Thread(() -> {
+            seq.set(journal.append(new JournalRecord(0, 1L, 2L, 100, "sign", "toSign")));
+            interrupted.set(Thread.currentThread().isInterrupted());
+        });
+        appender.start();
+
+        // 레코드가 기록된 뒤 fsync 대기 중에 interrupt
+        waitUntil(() -> journal.pendingDebit(1L) == 100);
+        appender.interrupt();
+        Thread.sleep(200);
+        assertThat(appender.isAlive()).isTrue();
+
+        release.countDown();
+        appender.join(5_000);
+        assertThat(seq.get()).isEqualTo(1);
+        assertThat(interrupted.get()).isTrue();
+
+        waitUntil(() -> journal.getAppliedSeq() == 1);
+        journal.stop();
+    }
+
+    @Test
+    void encodesAndDecodesRecord() {
+        byte[] bytes = new byte[JournalRecord.SIZE];
+        new JournalRecord(7, 11L, 13L, 5000, "월급", "", "dondoc:mission:3").encode(bytes);
+
+        JournalRecord decoded = JournalRecord.decode(bytes);
+        assertThat(decoded.getSeq()).isEqualTo(7);
+        assertThat(decoded.getSendAccountId()).isEqualTo(11L);
+        assertThat(decoded.getToAccountId()).isEqualTo(13L);
+        assertThat(decoded.getTransferAmount()).isEqualTo(5000);
+        assertThat(decoded.getSign()).isEqualTo("월급");
+        assertThat(decoded.getToSign()).isEmpty();
+        assertThat(decoded.getIdempotencyKey()).isEqualTo("dondoc:mission:3");
+
+        bytes[20] ^= 1;
+        assertThat(JournalRecord.decode(bytes)).isNull();
+        assertThat(JournalRecord.fits("가".repeat(100), null, null)).isFalse();
+        assertThat(JournalRecord.fits(null, null, "k".repeat(101))).isFalse();
+    }
+
+    private TransferJournal journal(JournalApplier applier) {
+        return new TransferJournal(applier, directory.toString(), SEGMENT_RECORDS, 3, 500);
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    // DB 대신 반영된 레코드를 기록하는 applier
+    private static class RecordingApplier extends JournalApplier {
+
+        private final long lastAppliedSeq;
+        private final boolean failing;
+        private final List<JournalRecord> applied = new CopyOnWriteArrayList<>();
+
+        RecordingApplier(long lastAppliedSeq, boolean failing) {
+            super(null, null, null, null, null, null, null, null);
+            this.lastAppliedSeq = lastAppliedSeq;
+            this.failing = failing;
+        }
+
+        @Override
+        public long lastAppliedSeq() {
+            return lastAppliedSeq;
+        }
+
+        @Override
+        public void apply(List<JournalRecord> records) {
+            if (failing) {
+                throw new IllegalStateException("DB 장애");
+            }
+            applied.addAll(records);
+        }
+
+        List<Long> seqs() {
+            return applied.stream().map(JournalRecord::getSeq).collect(Collectors.toList());
+        }
+    }
+}
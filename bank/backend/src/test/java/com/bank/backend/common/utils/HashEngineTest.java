@@ -0,0 +1,70 @@
+package com.bank.backend.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HashEngine 결과가 기존 EncryptionUtils 구현과 같은지 검증
+ */
+class HashEngineTest {
+
+    @Test
+    void sameAsLegacyImplementation() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < 200; i++) {
+            String str = String.valueOf(random.nextLong(0, Long.MAX_VALUE));
+            String salt = EncryptionUtils.makeSalt();
+
+            assertThat(HashEngine.hash(str, salt)).isEqualTo(legacy(str, salt));
+        }
+    }
+
+    @Test
+    void sameAsLegacyWithLongOrEmptySalt() throws Exception {
+        String longSalt = "salt".repeat(50);
+
+        assertThat(HashEngine.hash("01012345678", longSalt)).isEqualTo(legacy("01012345678", longSalt));
+        assertThat(HashEngine.hash("01012345678", "")).isEqualTo(legacy("01012345678", ""));
+        assertThat(HashEngine.hash("", "salt")).isEqualTo(legacy("", "salt"));
+    }
+
+    @Test
+    void toHexMatchesFormat() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        StringBuilder expected = new StringBuilder();
+        for (byte b : bytes) {
+            expected.append(String.format("%02x", b));
+        }
+
+        assertThat(HashEngine.toHex(bytes)).isEqualTo(expected.toString());
+    }
+
+    // HashEngine 도입 이전 구현
+    private static String legacy(String str, String salt) throws Exception {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+
+        for (int i = 0; i < 100; i++) {
+            String temp = str + salt;
+            md.update(temp.getBytes());
+            str = legacyHex(md.digest());
+        }
+        return str;
+    }
+
+    private static String legacyHex(byte[] temp) {
+        StringBuilder sb = new StringBuilder();
+        for (byte a : temp) {
+            sb.append(String.format("%02x", a));
+        }
+        return sb.toString();
+    }
+}
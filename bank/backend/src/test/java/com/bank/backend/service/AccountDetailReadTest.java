@@ -0,0 +1,84 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDetailDto;
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계좌 상세 조회가 이체 중인 계좌의 잠금을 기다리지 않는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AccountDetailReadTest {
+
+    private static final String IDENTIFICATION_NUMBER = "01044440000";
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AccountDto.Response account;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        account = new BankTestFixture(bankService).createAccount(IDENTIFICATION_NUMBER, "detail");
+    }
+
+    @Test
+    void detailReadDoesNotWaitForTransferLock() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // 이체 중인 트랜잭션처럼 계좌 행 잠금을 잡고 대기
+            Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager).execute(status -> {
+                accountRepository.findByIdForUpdate(account.getAccountId()).orElseThrow();
+                locked.countDown();
+                try {
+                    release.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 잠금 대기 시간(LOCK_TIMEOUT 10초)보다 훨씬 짧게 응답해야 함
+            long start = System.nanoTime();
+            AccountDetailDto.Response detail = bankService.findByAccountId(account.getAccountId());
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertThat(detail.getAccountId()).isEqualTo(account.getAccountId());
+            assertThat(elapsedMillis).isLessThan(2_000);
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
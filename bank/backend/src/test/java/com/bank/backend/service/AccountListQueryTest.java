@@ -0,0 +1,96 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.cache.OwnerIdentityCache;
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.AccountListDto;
+import com.bank.backend.entity.Owner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 식별번호의 계좌 목록을 쿼리 한 번으로 조회하고, 입력 순서와 미존재 식별번호를 유지하는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AccountListQueryTest {
+
+    private static final int OWNERS = 5;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OwnerIdentityCache ownerIdentityCache;
+
+    private BankTestFixture fixture;
+    private final List<String> identificationNumbers = new ArrayList<>();
+    private final List<String> accountNumbers = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() throws Exception {
+        fixture = new BankTestFixture(bankService);
+        for (int i = 0; i < OWNERS; i++) {
+            String identificationNumber = String.format("0105550%04d", i);
+            AccountDto.Response account = fixture.createAccount(identificationNumber, "list" + i);
+            identificationNumbers.add(identificationNumber);
+            accountNumbers.add(account.getAccountNumber());
+        }
+    }
+
+    @Test
+    void resolvesAllNumbersWithOneQuery() throws Exception {
+        // 역순 + 존재하지 않는 식별번호 포함
+        List<String> request = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = OWNERS - 1; i >= 0; i--) {
+            request.add(identificationNumbers.get(i));
+            expected.add(accountNumbers.get(i));
+            if (i == 2) {
+                request.add("01055509999");
+            }
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        AccountListDto.ListResponse response = bankService.findAccountList(request);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(response.getAccounts().stream().map(AccountListDto.Response::getAccountNumber).collect(Collectors.toList()))
+                .containsExactlyElementsOf(expected);
+        assertThat(response.getAccounts()).allMatch(account -> "신한은행".equals(account.getBankName()));
+        assertThat(response.getNotFound()).containsExactly("01055509999");
+    }
+
+    @Test
+    void createOwnerEvictsCachedIdentity() throws Exception {
+        String identificationNumber = "01055508888";
+        assertThat(bankService.findAccountList(List.of(identificationNumber)).getNotFound())
+                .containsExactly(identificationNumber);
+
+        // 조회된 식별번호의 캐시 항목은 예금주 생성 시 제거
+        int cached = ownerIdentityCache.size();
+        Owner owner = fixture.createOwner(identificationNumber, "list-new");
+        assertThat(ownerIdentityCache.size()).isEqualTo(cached - 1);
+
+        fixture.createAccount(owner, identificationNumber, "list-new");
+        assertThat(bankService.findAccountList(List.of(identificationNumber)).getAccounts()).hasSize(1);
+    }
+}
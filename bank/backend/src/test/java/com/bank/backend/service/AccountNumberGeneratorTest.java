@@ -0,0 +1,101 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.entity.Account;
+import com.bank.backend.entity.Owner;
+import com.bank.backend.repository.AccountRepository;
+import com.bank.backend.repository.BankCodeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 계좌번호 발급 : 블록 경계를 넘는 동시 발급에서도 중복이 없고 검증 숫자가 맞는지 확인
+ * 계좌번호 유일 제약은 은행 코드 안에서만 적용되는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 500;
+    private static final String IDENTIFICATION_NUMBER = "01011150000";
+
+    @Autowired
+    private AccountNumberGenerator accountNumberGenerator;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BankCodeRepository bankCodeRepository;
+
+    @Test
+    void concurrentNumbersAreUniqueAndValid() throws Exception {
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                for (int n = 0; n < PER_THREAD; n++) {
+                    numbers.add(accountNumberGenerator.next());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(numbers).hasSize(THREADS * PER_THREAD);
+        assertThat(numbers).allMatch(AccountNumberGenerator::isValid);
+    }
+
+    @Test
+    void checkDigitDetectsTypo() {
+        String number = AccountNumberGenerator.format(123_456_789L);
+
+        assertThat(number).isEqualTo("0001234567897");
+        assertThat(AccountNumberGenerator.isValid(number)).isTrue();
+        assertThat(AccountNumberGenerator.isValid("0001234567887")).isFalse();
+        assertThat(AccountNumberGenerator.isValid("000123456789")).isFalse();
+    }
+
+    @Test
+    void accountNumberIsUniquePerBankCode() throws Exception {
+        BankTestFixture fixture = new BankTestFixture(bankService);
+        Owner owner = fixture.createOwner(IDENTIFICATION_NUMBER, "unique");
+        AccountDto.Response account = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "unique");
+
+        // 다른 은행 코드의 같은 계좌번호는 허용
+        accountRepository.saveAndFlush(account(owner, 2L, account.getAccountNumber()));
+        assertThat(accountRepository.findIdByBankCodeAndAccountNumber(2L, account.getAccountNumber())).isPresent();
+
+        // 같은 은행 코드 안에서는 중복 불가
+        assertThatThrownBy(() -> accountRepository.saveAndFlush(account(owner, 88L, account.getAccountNumber())))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private Account account(Owner owner, Long bankCode, String accountNumber) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .accountName("external")
+                .bankCode(bankCodeRepository.getReferenceById(bankCode))
+                .password("password")
+                .owner(owner)
+                .balance(0)
+                .salt("salt")
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.entity.Owner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 특정 시점 잔액 조회 : 체크포인트 이전, 체크포인트 + 변화량 모두 거래내역과 일치하는지 검증
+ * 핫 계좌는 정산 전 거래내역(afterBalance 미확정)이 있어도 실제 잔액과 일치하는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BalanceCheckpointTest {
+
+    private static final String IDENTIFICATION_NUMBER = "01066660000";
+    private static final String HOT_IDENTIFICATION_NUMBER = "01066660001";
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private HotAccountService hotAccountService;
+
+    private BankTestFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new BankTestFixture(bankService);
+    }
+
+    @Test
+    void balanceAtMatchesHistory() throws Exception {
+        Owner owner = fixture.createOwner(IDENTIFICATION_NUMBER, "balance");
+        AccountDto.Response send = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "send");
+        AccountDto.Response receive = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "receive");
+        long initial = fixture.balance(send);
+
+        LocalDateTime beforeAll = now();
+        transfer(send, receive, 100, 3);
+        LocalDateTime afterFirst = now();
+
+        // 체크포인트 생성 후 추가 거래
+        assertThat(balanceService.createCheckpoints(afterFirst)).isGreaterThanOrEqualTo(2);
+        assertThat(balanceService.createCheckpoints(afterFirst)).isZero();
+        transfer(send, receive, 50, 2);
+        transfer(receive, send, 30, 1);
+        LocalDateTime afterAll = now();
+
+        assertThat(balanceService.getBalanceAt(send.getAccountId(), beforeAll).getBalance()).isEqualTo(initial);
+        assertThat(balanceService.getBalanceAt(send.getAccountId(), afterFirst).getBalance()).isEqualTo(initial - 300);
+        assertThat(balanceService.getBalanceAt(send.getAccountId(), afterAll).getBalance()).isEqualTo(initial - 300 - 100 + 30);
+        assertThat(balanceService.getBalanceAt(send.getAccountId(), afterAll).getBalance())
+                .isEqualTo(fixture.balance(send));
+        assertThat(balanceService.getBalanceAt(receive.getAccountId(), afterAll).getBalance())
+                .isEqualTo(fixture.balance(receive));
+    }
+
+    @Test
+    void hotAccountBalanceAtIgnoresPendingRows() throws Exception {
+        Owner owner = fixture.createOwner(HOT_IDENTIFICATION_NUMBER, "hot balance");
+        AccountDto.Response send = fixture.createAccount(owner, HOT_IDENTIFICATION_NUMBER, "send");
+        AccountDto.Response hot = fixture.createAccount(owner, HOT_IDENTIFICATION_NUMBER, "hot");
+        hotAccountService.enable(hot.getAccountId(), 4);
+        long initial = fixture.balance(hot);
+
+        LocalDateTime beforeAll = now();
+        transfer(HOT_IDENTIFICATION_NUMBER, send, hot, 100, 3);
+        LocalDateTime afterFirst = now();
+        transfer(HOT_IDENTIFICATION_NUMBER, send, hot, 50, 1);
+        LocalDateTime afterAll = now();
+
+        // 정산 전 : 입금 거래내역은 모두 미정산
+        assertThat(balanceService.getBalanceAt(hot.getAccountId(), beforeAll).getBalance()).isEqualTo(initial);
+        assertThat(balanceService.getBalanceAt(hot.getAccountId(), afterFirst).getBalance()).isEqualTo(initial + 300);
+        assertThat(balanceService.getBalanceAt(hot.getAccountId(), afterAll).getBalance()).isEqualTo(initial + 350);
+
+        // 미정산 상태에서 만든 체크포인트도 실제 잔액
+        balanceService.createCheckpoints(afterFirst);
+        assertThat(balanceService.getBalanceAt(hot.getAccountId(), afterAll).getBalance()).isEqualTo(initial + 350);
+
+        hotAccountService.fold(hot.getAccountId());
+        assertThat(balanceService.getBalanceAt(hot.getAccountId(), afterFirst).getBalance()).isEqualTo(initial + 300);
+        assertThat(balanceService.getBalanceAt(hot.getAccountId(), afterAll).getBalance())
+                .isEqualTo(fixture.balance(hot));
+    }
+
+    private void transfer(AccountDto.Response from, AccountDto.Response to, int amount, int times) throws Exception {
+        transfer(IDENTIFICATION_NUMBER, from, to, amount, times);
+    }
+
+    private void transfer(String identificationNumber, AccountDto.Response from, AccountDto.Response to, int amount, int times) throws Exception {
+        for (int i = 0; i < times; i++) {
+            fixture.transfer(identificationNumber, from, to, amount);
+        }
+    }
+
+    // 거래 시각과 겹치지 않도록 구분
+    private static LocalDateTime now() throws InterruptedException {
+        Thread.sleep(20);
+        LocalDateTime now = LocalDateTime.now();
+        Thread.sleep(20);
+        return now;
+    }
+}
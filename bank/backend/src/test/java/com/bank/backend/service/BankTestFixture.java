@@ -0,0 +1,69 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.OwnerDto;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.Owner;
+
+/**
+ * 테스트 공통 준비 : 예금주 / 계좌 생성, 이체 요청, 잔액 조회
+ * 계좌는 모두 신한은행(88), 비밀번호 1234 로 만들어지고 초기 잔액은 1,000,000 이다.
+ */
+public class BankTestFixture {
+
+    public static final String PASSWORD = "1234";
+    public static final Long BANK_CODE = 88L;
+
+    private final BankService bankService;
+
+    public BankTestFixture(BankService bankService) {
+        this.bankService = bankService;
+    }
+
+    public Owner createOwner(String identificationNumber, String ownerName) throws Exception {
+        return bankService.createOwner(bankService.certification(OwnerDto.Request.builder()
+                .ownerName(ownerName)
+                .identificationNumber(identificationNumber)
+                .build())).getOwner();
+    }
+
+    public AccountDto.Response createAccount(Owner owner, String identificationNumber, String accountName) throws Exception {
+        return bankService.createAccount(owner, accountRequest(identificationNumber, accountName));
+    }
+
+    // 예금주와 계좌 하나를 같은 이름으로 생성
+    public AccountDto.Response createAccount(String identificationNumber, String name) throws Exception {
+        return createAccount(createOwner(identificationNumber, name), identificationNumber, name);
+    }
+
+    public TransferDto.Response transfer(String identificationNumber, AccountDto.Response from, AccountDto.Response to,
+                                         int amount) throws Exception {
+        return bankService.transfer(transferRequest(identificationNumber, from, to, amount));
+    }
+
+    // 핫 계좌의 정산 전 슬롯 포함
+    public long balance(AccountDto.Response account) throws Exception {
+        return bankService.findByAccountId(account.getAccountId()).getBalance();
+    }
+
+    public static AccountDto.Request accountRequest(String identificationNumber, String accountName) {
+        return AccountDto.Request.builder()
+                .identificationNumber(identificationNumber)
+                .accountName(accountName)
+                .bankCode(BANK_CODE)
+                .password(PASSWORD)
+                .build();
+    }
+
+    public static TransferDto.Request transferRequest(String identificationNumber, AccountDto.Response from,
+                                                      AccountDto.Response to, int amount) {
+        return TransferDto.Request.builder()
+                .identificationNumber(identificationNumber)
+                .accountId(from.getAccountId())
+                .toCode(BANK_CODE)
+                .toAccount(to.getAccountNumber())
+                .transferAmount(amount)
+                .password(PASSWORD)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.HistoryDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상대 계좌별 월간 거래내역이 상대 계좌(은행 코드 + 계좌번호)와 연월(연도 포함)로 걸러지고 입금 / 송금 합계가 맞는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CounterpartyHistoryTest {
+
+    private static final String MOIM = "01011110000";
+    private static final String MEMBER = "01011110001";
+    private static final String OTHER = "01011110002";
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BankTestFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new BankTestFixture(bankService);
+    }
+
+    @Test
+    void filtersByCounterpartyAndYearMonth() throws Exception {
+        AccountDto.Response moim = fixture.createAccount(MOIM, "moim");
+        AccountDto.Response member = fixture.createAccount(MEMBER, "member");
+        AccountDto.Response other = fixture.createAccount(OTHER, "other");
+
+        // 2025년 1월 : 멤버 입금 2건, 멤버에게 송금 1건, 다른 멤버 입금 1건
+        transferAt(MEMBER, member, moim, 1000, LocalDateTime.of(2025, 1, 3, 9, 0));
+        transferAt(MEMBER, member, moim, 2000, LocalDateTime.of(2025, 1, 31, 23, 59));
+        transferAt(MOIM, moim, member, 500, LocalDateTime.of(2025, 1, 15, 12, 0));
+        transferAt(OTHER, other, moim, 7000, LocalDateTime.of(2025, 1, 10, 8, 0));
+        // 다른 연도의 같은 달, 다음 달 1일
+        transferAt(MEMBER, member, moim, 4000, LocalDateTime.of(2024, 1, 20, 10, 0));
+        transferAt(MEMBER, member, moim, 8000, LocalDateTime.of(2025, 2, 1, 0, 0));
+        // 다른 은행(코드 2)의 같은 계좌번호에서 온 입금으로 바꿈
+        jdbcTemplate.update("update history set to_account = ?, bank_code_id = 2 where account_id = ? and to_account = ?",
+                member.getAccountNumber(), moim.getAccountId(), other.getAccountNumber());
+
+        HistoryDto.CounterpartyResponse response = bankService.getCounterpartyHistory(request(moim, member, 88L, 2025, 1));
+
+        assertThat(response.getHistories()).extracting(history -> history.getHistoryId().getTransferAmount())
+                .containsExactly(2000, 500, 1000);
+        assertThat(response.getHistories()).allMatch(history ->
+                history.getHistoryId().getToAccount().equals(member.getAccountNumber()));
+        assertThat(response.getTotalIn()).isEqualTo(3000);
+        assertThat(response.getInCount()).isEqualTo(2);
+        assertThat(response.getTotalOut()).isEqualTo(500);
+        assertThat(response.getOutCount()).isEqualTo(1);
+
+        HistoryDto.CounterpartyResponse otherBank = bankService.getCounterpartyHistory(request(moim, member, 2L, 2025, 1));
+        assertThat(otherBank.getHistories()).extracting(history -> history.getHistoryId().getTransferAmount())
+                .containsExactly(7000);
+        assertThat(otherBank.getTotalIn()).isEqualTo(7000);
+
+        HistoryDto.CounterpartyResponse lastYear = bankService.getCounterpartyHistory(request(moim, member, 88L, 2024, 1));
+        assertThat(lastYear.getHistories()).hasSize(1);
+        assertThat(lastYear.getTotalIn()).isEqualTo(4000);
+        assertThat(lastYear.getTotalOut()).isZero();
+
+        HistoryDto.CounterpartyResponse empty = bankService.getCounterpartyHistory(request(moim, member, 88L, 2025, 3));
+        assertThat(empty.getHistories()).isEmpty();
+        assertThat(empty.getTotalIn()).isZero();
+
+        assertThatThrownBy(() -> bankService.getCounterpartyHistory(request(moim, member, 88L, 2025, 13)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private HistoryDto.CounterpartyRequest request(AccountDto.Response account, AccountDto.Response counterparty, Long toCode, int year, int month) {
+        HistoryDto.CounterpartyRequest request = new HistoryDto.CounterpartyRequest();
+        request.setIdentificationNumber(MOIM);
+        request.setAccountNumber(account.getAccountNumber());
+        request.setToAccount(counterparty.getAccountNumber());
+        request.setToCode(toCode);
+        request.setYear(year);
+        request.setMonth(month);
+        return request;
+    }
+
+    // 이체 후 이번 이체로 생긴 거래내역 2건의 거래 일시를 옮김
+    private void transferAt(String identificationNumber, AccountDto.Response from, AccountDto.Response to,
+                            int amount, LocalDateTime at) throws Exception {
+        Long before = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from history", Long.class);
+        fixture.transfer(identificationNumber, from, to, amount);
+        jdbcTemplate.update("update history set created_at = ? where id > ? and account_id in (?, ?)",
+                at, before, from.getAccountId(), to.getAccountId());
+    }
+}
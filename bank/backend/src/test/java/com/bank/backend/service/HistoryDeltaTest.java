@@ -0,0 +1,66 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.HistoryDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 증분 조회가 (createdAt, id) 커서 이후의 거래내역만 오래된 순으로 나누어 돌려주는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HistoryDeltaTest {
+
+    private static final String MOIM = "01011120000";
+    private static final String MEMBER = "01011120001";
+
+    @Autowired
+    private BankService bankService;
+
+    @Test
+    void returnsRowsAfterCursorInOrder() throws Exception {
+        BankTestFixture fixture = new BankTestFixture(bankService);
+        AccountDto.Response moim = fixture.createAccount(MOIM, "moim");
+        AccountDto.Response member = fixture.createAccount(MEMBER, "member");
+
+        for (int amount = 100; amount <= 300; amount += 100) {
+            fixture.transfer(MEMBER, member, moim, amount);
+        }
+
+        HistoryDto.DeltaResponse first = bankService.getHistoryDelta(request(moim, null, null, 2));
+        assertThat(first.getHistories()).extracting(history -> history.getHistoryId().getTransferAmount())
+                .containsExactly(100, 200);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getServerTime()).isAfterOrEqualTo(first.getHistories().get(1).getHistoryId().getCreatedAt());
+
+        HistoryDto.Info last = first.getHistories().get(1).getHistoryId();
+        HistoryDto.DeltaResponse second = bankService.getHistoryDelta(request(moim, last.getCreatedAt(), last.getId(), 2));
+        assertThat(second.getHistories()).extracting(history -> history.getHistoryId().getTransferAmount())
+                .containsExactly(300);
+        assertThat(second.isHasNext()).isFalse();
+
+        HistoryDto.Info tail = second.getHistories().get(0).getHistoryId();
+        assertThat(bankService.getHistoryDelta(request(moim, tail.getCreatedAt(), tail.getId(), 2)).getHistories()).isEmpty();
+
+        assertThatThrownBy(() -> bankService.getHistoryDelta(request(moim, tail.getCreatedAt(), null, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private HistoryDto.DeltaRequest request(AccountDto.Response account, LocalDateTime afterCreatedAt, Long afterId, int size) {
+        HistoryDto.DeltaRequest request = new HistoryDto.DeltaRequest();
+        request.setIdentificationNumber(MOIM);
+        request.setAccountNumber(account.getAccountNumber());
+        request.setAfterCreatedAt(afterCreatedAt);
+        request.setAfterId(afterId);
+        request.setSize(size);
+        return request;
+    }
+}
@@ -0,0 +1,121 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.HistoryDto;
+import com.bank.backend.entity.Owner;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 키셋 페이징 : 거래 일시가 같은 행은 id 로 이어지고, 마지막 페이지와 거래내역이 없는 계좌에서 커서가 비는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HistoryPageTest {
+
+    private static final String IDENTIFICATION_NUMBER = "01011140000";
+    private static final int TRANSFERS = 5;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AccountDto.Response send;
+    private AccountDto.Response empty;
+    private List<Long> expectedIds;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        BankTestFixture fixture = new BankTestFixture(bankService);
+        Owner owner = fixture.createOwner(IDENTIFICATION_NUMBER, "page");
+        send = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "send");
+        AccountDto.Response receive = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "receive");
+        empty = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "empty");
+
+        for (int i = 0; i < TRANSFERS; i++) {
+            fixture.transfer(IDENTIFICATION_NUMBER, send, receive, 10);
+        }
+
+        // 모든 거래내역의 거래 일시를 같게 만들어 id 로만 순서가 정해지게 함
+        jdbcTemplate.update("update history set created_at = ? where account_id = ?",
+                LocalDateTime.of(2025, 3, 1, 12, 0), send.getAccountId());
+        expectedIds = jdbcTemplate.queryForList("select id from history where account_id = ? order by id desc",
+                Long.class, send.getAccountId());
+    }
+
+    @Test
+    void pagesThroughTiesOnCreatedAt() throws Exception {
+        List<Long> ids = new ArrayList<>();
+
+        HistoryDto.PageResponse page = bankService.getHistoryPage(request(send, null, null, 2));
+        ids.addAll(ids(page));
+        assertThat(page.isHasNext()).isTrue();
+
+        page = bankService.getHistoryPage(request(send, page.getNextCursorCreatedAt(), page.getNextCursorId(), 2));
+        ids.addAll(ids(page));
+        assertThat(page.isHasNext()).isTrue();
+
+        // 마지막 페이지 : 남은 1건, 다음 커서 없음
+        page = bankService.getHistoryPage(request(send, page.getNextCursorCreatedAt(), page.getNextCursorId(), 2));
+        ids.addAll(ids(page));
+        assertThat(page.getHistories()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursorCreatedAt()).isNull();
+        assertThat(page.getNextCursorId()).isNull();
+
+        assertThat(ids).containsExactlyElementsOf(expectedIds);
+    }
+
+    @Test
+    void lastPageExactlyFilledHasNoNext() throws Exception {
+        HistoryDto.PageResponse page = bankService.getHistoryPage(request(send, null, null, TRANSFERS));
+
+        assertThat(ids(page)).containsExactlyElementsOf(expectedIds);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursorId()).isNull();
+    }
+
+    @Test
+    void emptyAccountAndHalfCursor() throws Exception {
+        HistoryDto.PageResponse page = bankService.getHistoryPage(request(empty, null, null, 2));
+
+        assertThat(page.getHistories()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursorCreatedAt()).isNull();
+
+        assertThatThrownBy(() -> bankService.getHistoryPage(request(send, LocalDateTime.now(), null, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Long> ids(HistoryDto.PageResponse page) {
+        return page.getHistories().stream()
+                .map(history -> history.getHistoryId().getId())
+                .collect(Collectors.toList());
+    }
+
+    private HistoryDto.PageRequest request(AccountDto.Response account, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        HistoryDto.PageRequest request = new HistoryDto.PageRequest();
+        request.setIdentificationNumber(IDENTIFICATION_NUMBER);
+        request.setAccountNumber(account.getAccountNumber());
+        request.setCursorCreatedAt(cursorCreatedAt);
+        request.setCursorId(cursorId);
+        request.setSize(size);
+        return request;
+    }
+}
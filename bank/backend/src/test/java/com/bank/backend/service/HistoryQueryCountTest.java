@@ -0,0 +1,107 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.HistoryDto;
+import com.bank.backend.dto.MemoDto;
+import com.bank.backend.entity.Owner;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 조회 시 행 수와 관계없이 쿼리 수가 일정한지 검증 (메모 N+1 방지)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HistoryQueryCountTest {
+
+    private static final String IDENTIFICATION_NUMBER = "01099990000";
+    private static final int TRANSFERS = 30;
+
+    // 예금주 조회 + 계좌 조회 + 거래내역(메모 포함) 조회
+    private static final long EXPECTED_QUERIES = 3;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private AccountDto.Response send;
+    private AccountDto.Response receive;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        BankTestFixture fixture = new BankTestFixture(bankService);
+        Owner owner = fixture.createOwner(IDENTIFICATION_NUMBER, "history");
+        send = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "send");
+        receive = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "receive");
+
+        for (int i = 0; i < TRANSFERS; i++) {
+            fixture.transfer(IDENTIFICATION_NUMBER, send, receive, 10);
+        }
+
+        // 일부 거래내역에 메모 작성
+        List<HistoryDto.Response> histories = bankService.getHistoryList(historyRequest());
+        for (int i = 0; i < histories.size(); i += 3) {
+            MemoDto.Request memo = new MemoDto.Request();
+            memo.setIdentificationNumber(IDENTIFICATION_NUMBER);
+            memo.setAccountNumber(send.getAccountNumber());
+            memo.setHistoryId(histories.get(i).getHistoryId().getId());
+            memo.setContent("memo" + i);
+            bankService.writeMemo(memo);
+        }
+    }
+
+    @Test
+    void historyListIssuesConstantQueries() throws Exception {
+        Statistics statistics = statistics();
+
+        List<HistoryDto.Response> result = bankService.getHistoryList(historyRequest());
+
+        assertThat(result).hasSize(TRANSFERS);
+        assertThat(result).filteredOn(r -> r.getMemo() != null).hasSize((TRANSFERS + 2) / 3);
+        assertThat(result).allMatch(r -> r.getToCode() != null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_QUERIES);
+    }
+
+    @Test
+    void historyPageIssuesConstantQueries() throws Exception {
+        HistoryDto.PageRequest request = new HistoryDto.PageRequest();
+        request.setIdentificationNumber(IDENTIFICATION_NUMBER);
+        request.setAccountNumber(send.getAccountNumber());
+        request.setSize(TRANSFERS);
+
+        Statistics statistics = statistics();
+
+        HistoryDto.PageResponse result = bankService.getHistoryPage(request);
+
+        assertThat(result.getHistories()).hasSize(TRANSFERS);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(EXPECTED_QUERIES);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private HistoryDto.Request historyRequest() {
+        HistoryDto.Request request = new HistoryDto.Request();
+        request.setIdentificationNumber(IDENTIFICATION_NUMBER);
+        request.setAccountNumber(send.getAccountNumber());
+        return request;
+    }
+}
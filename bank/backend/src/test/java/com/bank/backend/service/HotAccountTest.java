@@ -0,0 +1,121 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.lock.TransferLockMode;
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.entity.History;
+import com.bank.backend.repository.HistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 계좌 : 슬롯 입금 후 잔액 조회, 정산 시 afterBalance 가 발생 순서대로 확정되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class HotAccountTest {
+
+    private static final int SENDERS = 4;
+    private static final int TRANSFERS_PER_SENDER = 20;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private HotAccountService hotAccountService;
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
+    private BankTestFixture fixture;
+
+    // H2 는 SERIALIZABLE 에서 같은 행의 동시 갱신을 직렬화 오류로 처리하므로 READ_COMMITTED 인 STRIPED 모드로 검증
+    @BeforeEach
+    void setUp() {
+        fixture = new BankTestFixture(bankService);
+        Object target = AopTestUtils.getTargetObject(bankService);
+        ReflectionTestUtils.setField(target, "transferLockMode", TransferLockMode.STRIPED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Object target = AopTestUtils.getTargetObject(bankService);
+        ReflectionTestUtils.setField(target, "transferLockMode", TransferLockMode.PESSIMISTIC);
+    }
+
+    @Test
+    void creditsToSlotsAndSettlesAfterBalance() throws Exception {
+        AccountDto.Response moim = fixture.createAccount("01077700000", "moim");
+        List<AccountDto.Response> senders = new ArrayList<>();
+        List<String> identificationNumbers = new ArrayList<>();
+        for (int i = 1; i <= SENDERS; i++) {
+            String identificationNumber = String.format("0107770%04d", i);
+            senders.add(fixture.createAccount(identificationNumber, "member" + i));
+            identificationNumbers.add(identificationNumber);
+        }
+
+        long initial = fixture.balance(moim);
+        hotAccountService.enable(moim.getAccountId(), 4);
+
+        ExecutorService executor = Executors.newFixedThreadPool(SENDERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < SENDERS; i++) {
+            AccountDto.Response sender = senders.get(i);
+            String identificationNumber = identificationNumbers.get(i);
+            futures.add(executor.submit(() -> {
+                for (int n = 0; n < TRANSFERS_PER_SENDER; n++) {
+                    fixture.transfer(identificationNumber, sender, moim, 100);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // 정산 전에도 잔액 조회는 슬롯을 포함
+        long credited = (long) SENDERS * TRANSFERS_PER_SENDER * 100;
+        assertThat(fixture.balance(moim)).isEqualTo(initial + credited);
+
+        // 핫 계좌에서의 출금
+        fixture.transfer("01077700000", moim, senders.get(0), 500);
+        assertThat(fixture.balance(moim)).isEqualTo(initial + credited - 500);
+
+        hotAccountService.fold(moim.getAccountId());
+
+        // 정산 후 afterBalance 는 발생 순서대로 이어지고 마지막 값이 현재 잔액
+        List<History> histories = historyRepository.findAll().stream()
+                .filter(history -> history.getAccount().getId().equals(moim.getAccountId()))
+                .sorted((a, b) -> a.getCreatedAt().equals(b.getCreatedAt())
+                        ? a.getId().compareTo(b.getId()) : a.getCreatedAt().compareTo(b.getCreatedAt()))
+                .collect(Collectors.toList());
+        assertThat(histories).hasSize(SENDERS * TRANSFERS_PER_SENDER + 1);
+        assertThat(histories).noneMatch(History::isPending);
+
+        long running = initial;
+        for (History history : histories) {
+            running += history.getType() == 2 ? history.getTransferAmount() : -history.getTransferAmount();
+            assertThat((long) history.getAfterBalance()).isEqualTo(running);
+        }
+        assertThat(running).isEqualTo(fixture.balance(moim));
+
+        // 일반 계좌로 복귀해도 잔액 유지
+        hotAccountService.disable(moim.getAccountId());
+        assertThat(fixture.balance(moim)).isEqualTo(initial + credited - 500);
+    }
+}
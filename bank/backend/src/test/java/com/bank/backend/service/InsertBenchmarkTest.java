@@ -0,0 +1,119 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.entity.Account;
+import com.bank.backend.entity.BankCode;
+import com.bank.backend.entity.History;
+import com.bank.benchmark.IdentityHistory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 insert 처리량 비교 : IDENTITY(기존) vs pooled-lo 시퀀스 + JDBC batch
+ * ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InsertBenchmarkTest {
+
+    private static final int ROWS = 20_000;
+    private static final int ROWS_PER_TRANSACTION = 500;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long accountId;
+
+    // 비교용 IdentityHistory 는 이 테스트의 컨텍스트에서만 스캔
+    @TestConfiguration
+    @EntityScan(basePackageClasses = {History.class, IdentityHistory.class})
+    static class IdentityHistoryConfig {
+    }
+
+    @BeforeAll
+    void setUp() throws Exception {
+        AccountDto.Response account = new BankTestFixture(bankService).createAccount("01077770000", "insert");
+        accountId = account.getAccountId();
+    }
+
+    @Test
+    void insertThroughput() {
+        // JIT 예열
+        insert("warm-up identity", 2_000, (account, toCode) -> new IdentityHistory(account, toCode, "0000", 1, LocalDateTime.now()));
+        insert("warm-up pooled-lo", 2_000, this::history);
+
+        long identityStatements = insert("IDENTITY", ROWS,
+                (account, toCode) -> new IdentityHistory(account, toCode, "0000", 1, LocalDateTime.now()));
+        long pooledStatements = insert("pooled-lo + batch", ROWS, this::history);
+
+        // batch 적용 시 insert 문 실행 횟수가 크게 줄어야 함
+        assertThat(pooledStatements).isLessThan(identityStatements / 10);
+    }
+
+    private History history(Account account, BankCode toCode) {
+        return History.builder()
+                .account(account)
+                .toCodeId(toCode.getId())
+                .toAccount("0000")
+                .type(1)
+                .transferAmount(1)
+                .afterBalance(0)
+                .sign("bench")
+                .toSign("bench")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private long insert(String name, int rows, BiFunction<Account, BankCode, Object> factory) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int done = 0; done < rows; done += ROWS_PER_TRANSACTION) {
+            transactionTemplate.executeWithoutResult(status -> {
+                Account account = entityManager.getReference(Account.class, accountId);
+                BankCode toCode = entityManager.getReference(BankCode.class, 88L);
+                for (int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+                    entityManager.persist(factory.apply(account, toCode));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("[%s] %d rows, %.0f rows/sec, JDBC statement %d회%n", name, rows, rows / seconds, statements);
+        return statements;
+    }
+}
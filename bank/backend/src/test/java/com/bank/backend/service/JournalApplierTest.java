@@ -0,0 +1,163 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.journal.JournalRecord;
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.Owner;
+import com.bank.backend.repository.JournalFailureRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 저널 모드 : Idempotency-Key 가 저널 반영과 함께 저장되고, 반영할 수 없는 레코드(잔액 부족, 같은 계좌)는 버리지 않고 JournalFailure 에 남는지 검증
+ * 레코드를 직접 반영하므로 별도 내장 DB 와 빈 저널 디렉터리를 사용하고, 체크포인트를 앞당기는 테스트를 마지막에 실행한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bankjournal;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "bank.journal.enabled=true",
+        "bank.journal.node-id=journal-test"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class JournalApplierTest {
+
+    private static final String IDENTIFICATION_NUMBER = "01012340000";
+
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) throws Exception {
+        String directory = Files.createTempDirectory("bank-journal").toString();
+        registry.add("bank.journal.dir", () -> directory);
+    }
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private JournalApplier journalApplier;
+
+    @Autowired
+    private TransferIdempotencyStore transferIdempotencyStore;
+
+    @Autowired
+    private JournalFailureRepository journalFailureRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private BankTestFixture fixture;
+    private AccountDto.Response send;
+    private AccountDto.Response receive;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        fixture = new BankTestFixture(bankService);
+        Owner owner = fixture.createOwner(IDENTIFICATION_NUMBER, "journal");
+        send = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "send");
+        receive = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "receive");
+    }
+
+    @Test
+    @Order(1)
+    void keyIsStoredWhenRecordIsApplied() throws Exception {
+        long before = fixture.balance(send);
+        String key = UUID.randomUUID().toString();
+
+        TransferDto.Response first = bankService.transfer(transferRequest(100), key);
+        // 반영 전후 어느 쪽이든 같은 응답, 한 번만 이체
+        TransferDto.Response retry = bankService.transfer(transferRequest(100), key);
+        assertThat(retry.getToOwner()).isEqualTo(first.getToOwner());
+
+        waitUntilStored(key);
+        assertThat(transferIdempotencyStore.findEntry(key).get().getRequestHash())
+                .isEqualTo(TransferIdempotencyStore.requestHash(transferRequest(100)));
+        assertThat(fixture.balance(send)).isEqualTo(before - 100);
+
+        assertThatThrownBy(() -> bankService.transfer(transferRequest(200), key))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Order(2)
+    void unappliableRecordIsKeptForCompensation() throws Exception {
+        long sendBefore = fixture.balance(send);
+        long receiveBefore = fixture.balance(receive);
+        double failedBefore = meterRegistry.counter("bank.journal.failed", "type", "insufficient-balance").count();
+        String key = UUID.randomUUID().toString();
+        long seq = journalApplier.lastAppliedSeq() + 1;
+
+        journalApplier.apply(List.of(new JournalRecord(seq, send.getAccountId(), receive.getAccountId(),
+                Integer.MAX_VALUE, "sign", "toSign", key)));
+
+        // 잔액은 그대로, 체크포인트는 진행, 레코드는 보상 대상으로 남음
+        assertThat(fixture.balance(send)).isEqualTo(sendBefore);
+        assertThat(fixture.balance(receive)).isEqualTo(receiveBefore);
+        assertThat(journalApplier.lastAppliedSeq()).isEqualTo(seq);
+        assertThat(journalFailureRepository.findAll())
+                .filteredOn(failure -> key.equals(failure.getIdempotencyKey()))
+                .singleElement()
+                .satisfies(failure -> {
+                    assertThat(failure.getSeq()).isEqualTo(seq);
+                    assertThat(failure.getNodeId()).isEqualTo("journal-test");
+                    assertThat(failure.getTransferAmount()).isEqualTo(Integer.MAX_VALUE);
+                    assertThat(failure.isResolved()).isFalse();
+                });
+        assertThat(meterRegistry.counter("bank.journal.failed", "type", "insufficient-balance").count())
+                .isEqualTo(failedBefore + 1);
+
+        // 같은 키로 재요청해도 다시 이체하지 않음
+        assertThatThrownBy(() -> bankService.transfer(transferRequest(100), key))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(fixture.balance(send)).isEqualTo(sendBefore);
+    }
+
+    @Test
+    @Order(3)
+    void selfTransferRecordIsNotReplayed() throws Exception {
+        long before = fixture.balance(send);
+        double failedBefore = meterRegistry.counter("bank.journal.failed", "type", "self-transfer").count();
+        long seq = journalApplier.lastAppliedSeq() + 1;
+
+        // 이전 저널 파일에 남은 같은 계좌 이체 : 반영하면 잔액이 늘어남
+        journalApplier.apply(List.of(new JournalRecord(seq, send.getAccountId(), send.getAccountId(),
+                1000, "sign", "toSign", null)));
+
+        assertThat(fixture.balance(send)).isEqualTo(before);
+        assertThat(journalApplier.lastAppliedSeq()).isEqualTo(seq);
+        assertThat(journalFailureRepository.findAll())
+                .filteredOn(failure -> failure.getSeq() == seq)
+                .singleElement()
+                .satisfies(failure -> assertThat(failure.getReason()).isEqualTo("같은 계좌로의 이체"));
+        assertThat(meterRegistry.counter("bank.journal.failed", "type", "self-transfer").count())
+                .isEqualTo(failedBefore + 1);
+    }
+
+    private void waitUntilStored(String key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (transferIdempotencyStore.findEntry(key).isEmpty()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private TransferDto.Request transferRequest(int amount) {
+        return BankTestFixture.transferRequest(IDENTIFICATION_NUMBER, send, receive, amount);
+    }
+}
@@ -0,0 +1,113 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.ReconciliationDto;
+import com.bank.backend.entity.History;
+import com.bank.backend.entity.Owner;
+import com.bank.backend.repository.HistoryRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잔액 정합성 검증이 정상 데이터는 통과시키고, 잔액 불일치와 총액 불일치를 찾아내는지 검증
+ * 다른 테스트의 데이터와 섞이지 않도록 별도 내장 DB 를 사용하고, 범위를 잘게 나눠 fork/join 분할을 거치게 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bankreconcile;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "bank.reconciliation.range-size=2",
+        "bank.reconciliation.settle-seconds=0"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReconciliationTest {
+
+    private static final int OWNERS = 3;
+    private static final int TRANSFERS = 20;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> identificationNumbers = new ArrayList<>();
+    private final List<AccountDto.Response> accounts = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() throws Exception {
+        BankTestFixture fixture = new BankTestFixture(bankService);
+        for (int i = 0; i < OWNERS; i++) {
+            String identificationNumber = String.format("0102222%04d", i);
+            Owner owner = fixture.createOwner(identificationNumber, "reconcile" + i);
+
+            for (int j = 0; j < 2; j++) {
+                accounts.add(fixture.createAccount(owner, identificationNumber, "reconcile" + i + "-" + j));
+                identificationNumbers.add(identificationNumber);
+            }
+        }
+
+        for (int n = 0; n < TRANSFERS; n++) {
+            int from = n % accounts.size();
+            int to = (n * 7 + 1) % accounts.size();
+            if (to == from) {
+                to = (to + 1) % accounts.size();
+            }
+            fixture.transfer(identificationNumbers.get(from), accounts.get(from), accounts.get(to), 100 + n);
+        }
+    }
+
+    @Test
+    void detectsBalanceAndConservationMismatches() {
+        ReconciliationDto.Report report = reconciliationService.reconcile();
+
+        assertThat(report.getAccounts()).isEqualTo(accounts.size());
+        assertThat(report.getHistories()).isEqualTo(TRANSFERS * 2);
+        assertThat(report.getMismatchCount()).isZero();
+        assertThat(report.isConserved()).isTrue();
+        assertThat(report.getTotalSent()).isEqualTo(report.getTotalReceived()).isPositive();
+
+        // 계좌 잔액만 변경
+        Long corrupted = accounts.get(1).getAccountId();
+        jdbcTemplate.update("update account set balance = balance + 1 where id = ?", corrupted);
+
+        report = reconciliationService.reconcile();
+        assertThat(report.getMismatchCount()).isEqualTo(1);
+        assertThat(report.getMismatches()).singleElement()
+                .satisfies(mismatch -> {
+                    assertThat(mismatch.getAccountId()).isEqualTo(corrupted);
+                    assertThat(mismatch.getType()).isEqualTo("LAST_AFTER_BALANCE");
+                    assertThat(mismatch.getBalance()).isEqualTo(mismatch.getExpected() + 1);
+                });
+        assertThat(report.isConserved()).isTrue();
+        jdbcTemplate.update("update account set balance = balance - 1 where id = ?", corrupted);
+
+        // 입금 거래내역의 금액만 변경 : 총액 불일치
+        History receive = historyRepository.findAll().stream()
+                .filter(history -> history.getType() == 2)
+                .findFirst()
+                .orElseThrow();
+        jdbcTemplate.update("update history set transfer_amount = transfer_amount + 5 where id = ?", receive.getId());
+
+        report = reconciliationService.reconcile();
+        assertThat(report.isConserved()).isFalse();
+        assertThat(report.getTotalReceived() - report.getTotalSent()).isEqualTo(5);
+        assertThat(reconciliationService.lastReport()).contains(report);
+        jdbcTemplate.update("update history set transfer_amount = transfer_amount - 5 where id = ?", receive.getId());
+    }
+}
@@ -0,0 +1,180 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.lock.TransferLockMode;
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.StandingOrderDto;
+import com.bank.backend.entity.Owner;
+import com.bank.backend.entity.StandingOrder;
+import com.bank.backend.repository.AccountRepository;
+import com.bank.backend.repository.StandingOrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 자동이체 실행 (한 번만 이체, 다음 회차 계산, 잔액 부족 재시도 제한, 해지) 검증
+ * 테스트마다 다른 기준 시각을 사용하고 끝나면 등록한 자동이체를 해지한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StandingOrderTest {
+
+    private static final int ORDERS = 250; // 기본 chunk 크기(200)보다 많게
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private StandingOrderService standingOrderService;
+
+    @Autowired
+    private StandingOrderRepository standingOrderRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private final List<Long> created = new ArrayList<>();
+    private BankTestFixture fixture;
+    private String identificationNumber;
+
+    // 같은 송금 계좌의 자동이체가 병렬로 실행되므로 READ_COMMITTED 인 STRIPED 모드로 검증 (H2 SERIALIZABLE 동시 갱신 오류 회피)
+    @BeforeEach
+    void setUp() {
+        fixture = new BankTestFixture(bankService);
+        Object target = AopTestUtils.getTargetObject(bankService);
+        ReflectionTestUtils.setField(target, "transferLockMode", TransferLockMode.STRIPED);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Long id : created) {
+            standingOrderService.cancel(id, identificationNumber);
+        }
+        created.clear();
+
+        Object target = AopTestUtils.getTargetObject(bankService);
+        ReflectionTestUtils.setField(target, "transferLockMode", TransferLockMode.PESSIMISTIC);
+    }
+
+    @Test
+    void dueOrdersRunOnceAndMoveToNextCycle() throws Exception {
+        AccountDto.Response[] accounts = createAccounts("01033330001");
+        LocalDateTime firstRunAt = LocalDateTime.now().plusDays(30).withNano(0);
+
+        for (int i = 0; i < ORDERS; i++) {
+            created.add(create(accounts[0], accounts[1], 1, StandingOrder.Cycle.WEEKLY, firstRunAt).getStandingOrderId());
+        }
+
+        assertThat(standingOrderService.runDue(firstRunAt.minusSeconds(1))).isZero();
+        assertThat(standingOrderService.runDue(firstRunAt)).isEqualTo(ORDERS);
+
+        // 같은 회차는 다시 실행되지 않음
+        assertThat(standingOrderService.runDue(firstRunAt.plusMinutes(1))).isZero();
+
+        assertThat(fixture.balance(accounts[0])).isEqualTo(1_000_000 - ORDERS);
+        assertThat(fixture.balance(accounts[1])).isEqualTo(1_000_000 + ORDERS);
+        assertThat(standingOrderRepository.findAllById(created))
+                .allMatch(order -> order.getScheduledAt().equals(firstRunAt.plusWeeks(1)))
+                .allMatch(order -> order.getRunCount() == 1);
+    }
+
+    @Test
+    void insufficientBalanceRetriesAreBounded() throws Exception {
+        AccountDto.Response[] accounts = createAccounts("01033330002");
+        LocalDateTime firstRunAt = LocalDateTime.now().plusDays(5).withNano(0);
+
+        Long id = create(accounts[0], accounts[1], 600_000, StandingOrder.Cycle.DAILY, firstRunAt).getStandingOrderId();
+        created.add(id);
+
+        assertThat(standingOrderService.runDue(firstRunAt)).isEqualTo(1);
+        assertThat(fixture.balance(accounts[0])).isEqualTo(400_000);
+
+        // 두 번째 회차 : 잔액 부족으로 최초 실행 + 재시도 3회 후 건너뜀
+        LocalDateTime secondRunAt = firstRunAt.plusDays(1);
+        int attempts = 0;
+        StandingOrder order = standingOrderRepository.findById(id).orElseThrow();
+        while (order.getScheduledAt().equals(secondRunAt)) {
+            assertThat(standingOrderService.runDue(order.getNextRunAt())).isEqualTo(1);
+            attempts++;
+            order = standingOrderRepository.findById(id).orElseThrow();
+        }
+
+        assertThat(attempts).isEqualTo(4);
+        assertThat(order.getScheduledAt()).isEqualTo(firstRunAt.plusDays(2));
+        assertThat(order.getRetryCount()).isZero();
+        assertThat(order.getLastResult()).contains("건너뜀");
+        assertThat(fixture.balance(accounts[0])).isEqualTo(400_000);
+    }
+
+    @Test
+    void canceledOrderDoesNotRun() throws Exception {
+        AccountDto.Response[] accounts = createAccounts("01033330003");
+        LocalDateTime firstRunAt = LocalDateTime.now().plusDays(10).withNano(0);
+
+        Long id = create(accounts[0], accounts[1], 100, StandingOrder.Cycle.MONTHLY, firstRunAt).getStandingOrderId();
+
+        assertThatThrownBy(() -> standingOrderService.cancel(id, "01033339999"))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(standingOrderService.cancel(id, identificationNumber).getStatus()).isEqualTo(StandingOrder.Status.CANCELED);
+
+        assertThat(standingOrderService.runDue(firstRunAt)).isZero();
+        assertThat(fixture.balance(accounts[0])).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void createRequiresAccountPassword() throws Exception {
+        AccountDto.Response[] accounts = createAccounts("01033330004");
+
+        StandingOrderDto.Request request = request(accounts[0], accounts[1], 100, StandingOrder.Cycle.WEEKLY, LocalDateTime.now().plusDays(1));
+        request.setPassword("0000");
+
+        assertThatThrownBy(() -> standingOrderService.create(request))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessage("비밀번호가 일치하지 않습니다.");
+        assertThat(accountRepository.findById(accounts[0].getAccountId()).orElseThrow().getWrongCount()).isEqualTo(1);
+    }
+
+    private StandingOrderDto.Response create(AccountDto.Response from, AccountDto.Response to, int amount,
+                                             StandingOrder.Cycle cycle, LocalDateTime firstRunAt) throws Exception {
+        return standingOrderService.create(request(from, to, amount, cycle, firstRunAt));
+    }
+
+    private StandingOrderDto.Request request(AccountDto.Response from, AccountDto.Response to, int amount,
+                                             StandingOrder.Cycle cycle, LocalDateTime firstRunAt) {
+        return StandingOrderDto.Request.builder()
+                .identificationNumber(identificationNumber)
+                .accountId(from.getAccountId())
+                .password(BankTestFixture.PASSWORD)
+                .toCode(BankTestFixture.BANK_CODE)
+                .toAccount(to.getAccountNumber())
+                .transferAmount(amount)
+                .cycle(cycle)
+                .firstRunAt(firstRunAt)
+                .sign("용돈")
+                .build();
+    }
+
+    private AccountDto.Response[] createAccounts(String identificationNumber) throws Exception {
+        this.identificationNumber = identificationNumber;
+        Owner owner = fixture.createOwner(identificationNumber, "standing");
+
+        AccountDto.Response[] accounts = new AccountDto.Response[2];
+        for (int i = 0; i < accounts.length; i++) {
+            accounts[i] = fixture.createAccount(owner, identificationNumber, "standing" + i);
+        }
+        return accounts;
+    }
+}
@@ -0,0 +1,86 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.Owner;
+import com.bank.backend.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.bank.backend.service.BankTestFixture.PASSWORD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 이체 : 결과가 요청 순서대로 나오고, 실패한 건은 다른 건에 영향을 주지 않으며, 잔액 합계가 보존되는지 검증
+ * (핫 계좌 입금은 계좌 행이 아니라 잔액 슬롯에 반영)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransferBatchTest {
+
+    private static final String IDENTIFICATION_NUMBER = "01011130000";
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private HotAccountService hotAccountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    void appliesItemsInOrderAndIsolatesFailures() throws Exception {
+        BankTestFixture fixture = new BankTestFixture(bankService);
+        Owner owner = fixture.createOwner(IDENTIFICATION_NUMBER, "batch");
+        AccountDto.Response a = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "a");
+        AccountDto.Response b = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "b");
+        AccountDto.Response hot = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "hot");
+        hotAccountService.enable(hot.getAccountId(), 4);
+
+        long aBefore = fixture.balance(a);
+        long bBefore = fixture.balance(b);
+        long hotBefore = fixture.balance(hot);
+        int hotRowBefore = accountRepository.findById(hot.getAccountId()).get().getBalance();
+
+        TransferDto.BatchResponse response = bankService.transferBatch(List.of(
+                request(a, b, 1000, PASSWORD),
+                request(a, hot, 2000, PASSWORD),
+                request(a, a, 100, PASSWORD),                    // 같은 계좌
+                request(b, hot, 0, PASSWORD),                    // 0원
+                request(a, b, 100, "9999"),                      // 비밀번호 오류
+                request(a, b, (int) aBefore, PASSWORD),          // 앞선 이체로 잔액 부족
+                request(b, hot, 500, PASSWORD)
+        ));
+
+        assertThat(response.getResults()).extracting(TransferDto.BatchResult::getIndex)
+                .containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(response.getResults()).extracting(TransferDto.BatchResult::isSuccess)
+                .containsExactly(true, true, false, false, false, false, true);
+        assertThat(response.getResults().get(2).getMsg()).isEqualTo("같은 계좌로는 이체할 수 없습니다.");
+        assertThat(response.getResults().get(3).getMsg()).isEqualTo("거래금액이 올바르지 않습니다.");
+        assertThat(response.getResults().get(5).getMsg()).isEqualTo("잔액이 부족합니다.");
+        assertThat(response.getSuccessCount()).isEqualTo(3);
+        assertThat(response.getFailCount()).isEqualTo(4);
+
+        assertThat(fixture.balance(a)).isEqualTo(aBefore - 3000);
+        assertThat(fixture.balance(b)).isEqualTo(bBefore + 1000 - 500);
+        assertThat(fixture.balance(hot)).isEqualTo(hotBefore + 2500);
+        assertThat(fixture.balance(a) + fixture.balance(b) + fixture.balance(hot)).isEqualTo(aBefore + bBefore + hotBefore);
+
+        // 핫 계좌의 계좌 행은 그대로 (입금은 슬롯에 있고 정산 시 합쳐짐)
+        assertThat(accountRepository.findById(hot.getAccountId()).get().getBalance()).isEqualTo(hotRowBefore);
+        hotAccountService.fold(hot.getAccountId());
+        assertThat(accountRepository.findById(hot.getAccountId()).get().getBalance()).isEqualTo(hotRowBefore + 2500);
+    }
+
+    private TransferDto.Request request(AccountDto.Response from, AccountDto.Response to, int amount, String password) {
+        TransferDto.Request request = BankTestFixture.transferRequest(IDENTIFICATION_NUMBER, from, to, amount);
+        request.setPassword(password);
+        return request;
+    }
+}
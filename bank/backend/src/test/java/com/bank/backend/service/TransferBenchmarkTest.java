@@ -0,0 +1,117 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.lock.TransferLockMode;
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.Account;
+import com.bank.backend.entity.Owner;
+import com.bank.backend.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이체 동시성 제어 방식별 처리량(transfers/sec) 측정
+ * ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransferBenchmarkTest {
+
+    private static final int OWNERS = 10;
+    private static final int ACCOUNTS_PER_OWNER = 2;
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 250;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    private final List<String> identificationNumbers = new ArrayList<>();
+    private final List<AccountDto.Response> accounts = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() throws Exception {
+        BankTestFixture fixture = new BankTestFixture(bankService);
+        for (int i = 0; i < OWNERS; i++) {
+            String identificationNumber = String.format("010%08d", i);
+            Owner owner = fixture.createOwner(identificationNumber, "bench" + i);
+
+            for (int j = 0; j < ACCOUNTS_PER_OWNER; j++) {
+                accounts.add(fixture.createAccount(owner, identificationNumber, "bench" + i + "-" + j));
+                identificationNumbers.add(identificationNumber);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransferLockMode.class)
+    void transferThroughput(TransferLockMode mode) throws Exception {
+        Object target = AopTestUtils.getTargetObject(bankService);
+        ReflectionTestUtils.setField(target, "transferLockMode", mode);
+        long totalBefore = totalBalance();
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger failure = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                for (int n = 0; n < TRANSFERS_PER_THREAD; n++) {
+                    try {
+                        bankService.transfer(randomTransfer());
+                        success.incrementAndGet();
+                    } catch (Exception e) {
+                        failure.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("[%s] 성공 %d건 / 실패 %d건, %.1f transfers/sec%n",
+                mode, success.get(), failure.get(), success.get() / seconds);
+
+        // 모드와 관계없이 총 잔액은 보존되어야 함
+        assertThat(totalBalance()).isEqualTo(totalBefore);
+    }
+
+    private TransferDto.Request randomTransfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int from = random.nextInt(accounts.size());
+        int to = random.nextInt(accounts.size() - 1);
+        if (to >= from) {
+            to++;
+        }
+
+        return BankTestFixture.transferRequest(identificationNumbers.get(from), accounts.get(from), accounts.get(to), 100);
+    }
+
+    private long totalBalance() {
+        return accountRepository.findAll().stream().mapToLong(Account::getBalance).sum();
+    }
+}
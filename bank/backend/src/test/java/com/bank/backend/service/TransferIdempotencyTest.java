@@ -0,0 +1,103 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.Owner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Idempotency-Key : 같은 키의 재요청(동시 요청 포함)은 한 번만 이체되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransferIdempotencyTest {
+
+    @Autowired
+    private BankService bankService;
+
+    private BankTestFixture fixture;
+    private String identificationNumber;
+    private AccountDto.Response send;
+    private AccountDto.Response receive;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fixture = new BankTestFixture(bankService);
+        identificationNumber = String.format("0107%07d", System.nanoTime() % 10_000_000);
+        Owner owner = fixture.createOwner(identificationNumber, "idem");
+        send = fixture.createAccount(owner, identificationNumber, "send");
+        receive = fixture.createAccount(owner, identificationNumber, "receive");
+    }
+
+    @Test
+    void retryWithSameKeyTransfersOnce() throws Exception {
+        long before = fixture.balance(send);
+        String key = UUID.randomUUID().toString();
+
+        TransferDto.Response first = bankService.transfer(transferRequest(send, receive), key);
+        TransferDto.Response retry = bankService.transfer(transferRequest(send, receive), key);
+
+        assertThat(retry.getMsg()).isEqualTo(first.getMsg());
+        assertThat(retry.getToOwner()).isEqualTo(first.getToOwner());
+        assertThat(fixture.balance(send)).isEqualTo(before - 100);
+
+        // 다른 키는 새 이체
+        bankService.transfer(transferRequest(send, receive), UUID.randomUUID().toString());
+        assertThat(fixture.balance(send)).isEqualTo(before - 200);
+
+        // 같은 키를 다른 계좌에서 사용
+        assertThatThrownBy(() -> bankService.transfer(transferRequest(receive, send), key))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sameKeyWithDifferentRequestIsRejected() throws Exception {
+        long before = fixture.balance(send);
+        String key = UUID.randomUUID().toString();
+        bankService.transfer(transferRequest(send, receive), key);
+
+        TransferDto.Request changed = transferRequest(send, receive);
+        changed.setTransferAmount(500);
+        assertThatThrownBy(() -> bankService.transfer(changed, key))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("다른 이체 요청에 사용된 Idempotency-Key 입니다.");
+
+        assertThat(fixture.balance(send)).isEqualTo(before - 100);
+    }
+
+    @Test
+    void concurrentRequestsWithSameKeyTransferOnce() throws Exception {
+        long before = fixture.balance(send);
+        String key = UUID.randomUUID().toString();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<TransferDto.Response>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> bankService.transfer(transferRequest(send, receive), key)));
+        }
+        for (Future<TransferDto.Response> future : futures) {
+            assertThat(future.get().isSuccess()).isTrue();
+        }
+        executor.shutdown();
+
+        assertThat(fixture.balance(send)).isEqualTo(before - 100);
+    }
+
+    private TransferDto.Request transferRequest(AccountDto.Response from, AccountDto.Response to) {
+        return BankTestFixture.transferRequest(identificationNumber, from, to, 100);
+    }
+}
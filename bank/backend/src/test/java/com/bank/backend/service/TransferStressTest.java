@@ -0,0 +1,170 @@
+package com.bank.backend.service;
+
+import com.bank.backend.common.lock.TransferLockMode;
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.Account;
+import com.bank.backend.entity.Owner;
+import com.bank.backend.repository.AccountRepository;
+import com.bank.backend.repository.HistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 이체 부하 테스트 : 잠금 방식별로 무작위 이체를 동시에 실행하고 불변식 검증
+ * - 총 잔액 보존, 음수 잔액 없음, 거래내역 수 = 성공 이체 수 * 2
+ * - 처리량과 데드락/재시도 횟수 출력
+ * ./gradlew stress (-Dstress.threads=16 -Dstress.transfers=1000 으로 부하 조절)
+ */
+@Tag("stress")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bankstress;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransferStressTest {
+
+    private static final int OWNERS = 10;
+    private static final int ACCOUNTS_PER_OWNER = 2;
+    private static final int THREADS = Integer.getInteger("stress.threads", 8);
+    private static final int TRANSFERS_PER_THREAD = Integer.getInteger("stress.transfers", 500);
+    // 초기 잔액 1,000,000 : 일부 이체는 잔액 부족으로 거절되도록 큰 금액까지 섞음
+    private static final int MAX_AMOUNT = 300_000;
+    private static final String INSUFFICIENT_BALANCE = "잔액이 부족합니다.";
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private HistoryRepository historyRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<String> identificationNumbers = new ArrayList<>();
+    private final List<AccountDto.Response> accounts = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() throws Exception {
+        BankTestFixture fixture = new BankTestFixture(bankService);
+        for (int i = 0; i < OWNERS; i++) {
+            String identificationNumber = String.format("0108888%04d", i);
+            Owner owner = fixture.createOwner(identificationNumber, "stress" + i);
+
+            for (int j = 0; j < ACCOUNTS_PER_OWNER; j++) {
+                accounts.add(fixture.createAccount(owner, identificationNumber, "stress" + i + "-" + j));
+                identificationNumbers.add(identificationNumber);
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        Object target = AopTestUtils.getTargetObject(bankService);
+        ReflectionTestUtils.setField(target, "transferLockMode", TransferLockMode.PESSIMISTIC);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransferLockMode.class)
+    void conservesMoneyUnderContention(TransferLockMode mode) throws Exception {
+        Object target = AopTestUtils.getTargetObject(bankService);
+        ReflectionTestUtils.setField(target, "transferLockMode", mode);
+
+        long totalBefore = totalBalance();
+        long historiesBefore = historyRepository.count();
+        double conflictsBefore = count("bank.transfer.conflict");
+        double retriesBefore = count("bank.transfer.retry");
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        List<Exception> unexpected = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            executor.submit(() -> {
+                for (int n = 0; n < TRANSFERS_PER_THREAD; n++) {
+                    try {
+                        bankService.transfer(randomTransfer());
+                        success.incrementAndGet();
+                    } catch (Exception e) {
+                        // 계좌 없음 등 다른 NoSuchElementException 은 잔액 부족으로 세지 않음
+                        if (e instanceof NoSuchElementException && INSUFFICIENT_BALANCE.equals(e.getMessage())) {
+                            rejected.incrementAndGet();
+                        } else if (BankServiceImpl.conflictType(e) != null) {
+                            conflicted.incrementAndGet();
+                        } else {
+                            synchronized (unexpected) {
+                                unexpected.add(e);
+                            }
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.printf("[%s] 성공 %d건 / 잔액부족 %d건 / 충돌 %d건, %.1f transfers/sec, 충돌 집계 %.0f건, 재시도 %.0f건%n",
+                mode, success.get(), rejected.get(), conflicted.get(), success.get() / seconds,
+                count("bank.transfer.conflict") - conflictsBefore, count("bank.transfer.retry") - retriesBefore);
+
+        assertThat(unexpected).isEmpty();
+        assertThat(success.get() + rejected.get() + conflicted.get()).isEqualTo(THREADS * TRANSFERS_PER_THREAD);
+        assertThat(success.get()).isPositive();
+
+        // 불변식 : 총 잔액 보존, 음수 잔액 없음, 성공한 이체마다 거래내역 2건
+        List<Account> after = accountRepository.findAll();
+        assertThat(after.stream().mapToLong(Account::getBalance).sum()).isEqualTo(totalBefore);
+        assertThat(after).allMatch(account -> account.getBalance() >= 0);
+        assertThat(historyRepository.count() - historiesBefore).isEqualTo(2L * success.get());
+        assertThat(count("bank.transfer.conflict") - conflictsBefore).isEqualTo(conflicted.get());
+    }
+
+    private TransferDto.Request randomTransfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int from = random.nextInt(accounts.size());
+        int to = random.nextInt(accounts.size() - 1);
+        if (to >= from) {
+            to++;
+        }
+
+        return BankTestFixture.transferRequest(identificationNumbers.get(from), accounts.get(from), accounts.get(to),
+                random.nextInt(1, MAX_AMOUNT + 1));
+    }
+
+    private double count(String name) {
+        return meterRegistry.find(name).counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    private long totalBalance() {
+        return accountRepository.findAll().stream().mapToLong(Account::getBalance).sum();
+    }
+}
@@ -0,0 +1,76 @@
+package com.bank.backend.service;
+
+import com.bank.backend.dto.AccountDto;
+import com.bank.backend.dto.TransferDto;
+import com.bank.backend.entity.Owner;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 단건 이체 / 자동이체 : 같은 계좌로의 이체와 0원 이하 이체가 잔액을 바꾸지 않고 거절되는지 검증
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TransferValidationTest {
+
+    private static final String IDENTIFICATION_NUMBER = "01011160000";
+
+    @Autowired
+    private BankService bankService;
+
+    private BankTestFixture fixture;
+    private AccountDto.Response send;
+    private AccountDto.Response receive;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        fixture = new BankTestFixture(bankService);
+        Owner owner = fixture.createOwner(IDENTIFICATION_NUMBER, "validation");
+        send = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "send");
+        receive = fixture.createAccount(owner, IDENTIFICATION_NUMBER, "receive");
+    }
+
+    @Test
+    void rejectsTransferToSameAccount() throws Exception {
+        long before = fixture.balance(send);
+
+        assertThatThrownBy(() -> bankService.transfer(request(send, 1000)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("같은 계좌로는 이체할 수 없습니다.");
+        assertThatThrownBy(() -> bankService.transferAuthorized(request(send, 1000), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("같은 계좌로는 이체할 수 없습니다.");
+
+        assertThat(fixture.balance(send)).isEqualTo(before);
+    }
+
+    @Test
+    void rejectsNonPositiveAmount() throws Exception {
+        long sendBefore = fixture.balance(send);
+        long receiveBefore = fixture.balance(receive);
+
+        for (int amount : new int[]{0, -1000}) {
+            assertThatThrownBy(() -> bankService.transfer(request(receive, amount)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("거래금액이 올바르지 않습니다.");
+            assertThatThrownBy(() -> bankService.transferAuthorized(request(receive, amount), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("거래금액이 올바르지 않습니다.");
+        }
+
+        assertThat(fixture.balance(send)).isEqualTo(sendBefore);
+        assertThat(fixture.balance(receive)).isEqualTo(receiveBefore);
+    }
+
+    private TransferDto.Request request(AccountDto.Response to, int amount) {
+        return BankTestFixture.transferRequest(IDENTIFICATION_NUMBER, send, to, amount);
+    }
+}
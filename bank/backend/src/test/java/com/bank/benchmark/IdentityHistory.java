@@ -0,0 +1,52 @@
+package com.bank.benchmark;
+
+import com.bank.backend.entity.Account;
+import com.bank.backend.entity.BankCode;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * insert 성능 비교용 : History 와 같은 컬럼 구성에 IDENTITY 전략을 사용하는 엔티티 (테스트 전용)
+ * com.bank.backend 밖에 두어 기본 엔티티 스캔에서 빠지고, InsertBenchmarkTest 에서만 테이블이 생성된다.
+ * 테스트 소스에는 Lombok 이 없으므로 생성자를 직접 작성한다.
+ */
+@Entity
+@Table(name = "identity_history")
+public class IdentityHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "accountId")
+    private Account account;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "bankCodeId")
+    private BankCode toCode;
+
+    private String toAccount;
+    private int type;
+    private int transferAmount;
+    private int afterBalance;
+    private String sign;
+    private String toSign;
+    private LocalDateTime createdAt;
+
+    protected IdentityHistory() {
+    }
+
+    public IdentityHistory(Account account, BankCode toCode, String toAccount, int transferAmount, LocalDateTime createdAt) {
+        this.account = account;
+        this.toCode = toCode;
+        this.toAccount = toAccount;
+        this.type = 1;
+        this.transferAmount = transferAmount;
+        this.afterBalance = 0;
+        this.sign = "bench";
+        this.toSign = "bench";
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,192 @@
+package com.dondoc.backend.common.bank;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 은행 서버 API 요청/응답 DTO
+ * 은행 서버는 모든 응답을 { success, response, error } 형태로 감싸서 반환
+ */
+public class BankApiDto {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ApiResult<T> {
+        private boolean success;
+        private T response;
+        private Error error;
+
+        // 실패 응답의 오류 메시지 (없으면 기본 메시지)
+        public String errorMessage(String defaultMessage) {
+            return error != null && error.getMessage() != null ? error.getMessage() : defaultMessage;
+        }
+    }
+
+    @Data
+    public static class Error {
+        private String message;
+        private int status;
+    }
+
+    @Data
+    @Builder
+    public static class OwnerRequest {
+        private String identificationNumber;
+        private String ownerName;
+    }
+
+    @Data
+    @Builder
+    public static class AccountCreateRequest {
+        private String accountName;
+        private Long bankCode;
+        private String identificationNumber;
+        private String password;
+    }
+
+    @Data
+    public static class AccountCreateResponse {
+        private String msg;
+        private String ownerName;
+        private String accountNumber;
+        private String bankName;
+        private Long accountId;
+    }
+
+    @Data
+    @Builder
+    public static class AccountListRequest {
+        private List<String> identificationNumber;
+    }
+
+    @Data
+    public static class AccountListResponse {
+        private List<Account> accounts; // 요청한 식별번호 순서의 계좌 목록
+        private List<String> notFound; // 계좌정보가 없는 식별번호
+    }
+
+    // 계좌 목록, 계좌 상세조회 결과
+    @Data
+    public static class Account {
+        private Long accountId;
+        private String accountName;
+        private String accountNumber;
+        private int balance;
+        private Long bankCode;
+        private String bankName;
+    }
+
+    @Data
+    @Builder
+    public static class HistoryRequest {
+        private String identificationNumber;
+        private String accountNumber;
+        private Long historyId; // 상세내역 조회 시 사용
+    }
+
+    @Data
+    @Builder
+    public static class HistoryDeltaRequest {
+        private String identificationNumber;
+        private String accountNumber;
+        private LocalDateTime afterCreatedAt; // 마지막으로 받은 거래내역의 (createdAt, id), 처음이면 null
+        private Long afterId;
+        private Integer size;
+    }
+
+    @Data
+    public static class HistoryDeltaResponse {
+        private List<History> histories; // 오래된 순
+        private boolean hasNext;
+        private LocalDateTime serverTime;
+    }
+
+    @Data
+    @Builder
+    public static class CounterpartyHistoryRequest {
+        private String identificationNumber;
+        private String accountNumber;
+        private String toAccount; // 상대 계좌번호
+        private Long toCode; // 상대 계좌 은행 코드
+        private Integer year;
+        private Integer month;
+    }
+
+    @Data
+    public static class CounterpartyHistoryResponse {
+        private List<History> histories;
+        private long totalIn;  // 입금 합계
+        private long totalOut; // 송금 합계
+        private long inCount;
+        private long outCount;
+    }
+
+    @Data
+    public static class History {
+        private Info historyId;
+        private BankCode toCode;
+        private String memo;
+    }
+
+    @Data
+    public static class Info {
+        private Long id;
+        private String toAccount;
+        private int type; // 1 : 송금, 2 : 입금
+        private int transferAmount;
+        private int afterBalance;
+        private boolean pending; // afterBalance 확정 전 (은행 핫 계좌)
+        private String sign;
+        private String toSign;
+        private LocalDateTime createdAt;
+    }
+
+    @Data
+    public static class BankCode {
+        private Long bankCodeId;
+        private String bankName;
+    }
+
+    @Data
+    @Builder
+    public static class MemoRequest {
+        private String identificationNumber;
+        private String accountNumber;
+        private Long historyId;
+        private String content;
+    }
+
+    @Data
+    @Builder
+    public static class TransferRequest {
+        private String identificationNumber;
+        private Long accountId;
+        private Long toCode;
+        private String toAccount;
+        private Integer transferAmount;
+        private String password;
+        private String sign;
+        private String toSign;
+    }
+
+    @Data
+    @Builder
+    public static class CertificationRequest {
+        private String accountNumber;
+        private Long bankCode;
+    }
+
+    @Data
+    public static class CertificationResponse {
+        private String accountNumber;
+        private String ownerName;
+        private String bankName;
+        private String msg;
+    }
+}
@@ -0,0 +1,214 @@
+package com.dondoc.backend.common.bank;
+
+import com.dondoc.backend.common.exception.BankApiException;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 은행 서버 API 클라이언트
+ * - 모든 요청이 하나의 커넥션 풀(keep-alive)을 공유
+ * - 요청 종류별 시간 제한 (조회 / 변경 / 이체)
+ * - Mono 로 결과를 반환하고, 기존 동기 호출부를 위한 *Blocking 메서드 제공
+ */
+@Slf4j
+@Component
+public class BankClient {
+
+    private static final ParameterizedTypeReference<BankApiDto.ApiResult<String>> MESSAGE =
+            new ParameterizedTypeReference<BankApiDto.ApiResult<String>>() {};
+    private static final ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.AccountCreateResponse>> ACCOUNT_CREATE =
+            new ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.AccountCreateResponse>>() {};
+    private static final ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.AccountListResponse>> ACCOUNT_LIST =
+            new ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.AccountListResponse>>() {};
+    private static final ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.Account>> ACCOUNT =
+            new ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.Account>>() {};
+    private static final ParameterizedTypeReference<BankApiDto.ApiResult<List<BankApiDto.History>>> HISTORY_LIST =
+            new ParameterizedTypeReference<BankApiDto.ApiResult<List<BankApiDto.History>>>() {};
+    private static final ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.History>> HISTORY =
+            new ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.History>>() {};
+    private static final ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.HistoryDeltaResponse>> HISTORY_DELTA =
+            new ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.HistoryDeltaResponse>>() {};
+    private static final ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.CounterpartyHistoryResponse>> COUNTERPARTY_HISTORY =
+            new ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.CounterpartyHistoryResponse>>() {};
+    private static final ParameterizedTypeReference<BankApiDto.ApiResult<Map<String, Object>>> MEMO =
+            new ParameterizedTypeReference<BankApiDto.ApiResult<Map<String, Object>>>() {};
+    private static final ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.CertificationResponse>> CERTIFICATION =
+            new ParameterizedTypeReference<BankApiDto.ApiResult<BankApiDto.CertificationResponse>>() {};
+
+    private final WebClient webClient;
+    private final Duration readTimeout;
+    private final Duration writeTimeout;
+    private final Duration transferTimeout;
+
+    public BankClient(WebClient.Builder webClientBuilder,
+                      @Value("${bank.api.base-url:http://j9d108.p.ssafy.io:9090}") String baseUrl,
+                      @Value("${bank.api.max-connections:100}") int maxConnections,
+                      @Value("${bank.api.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMillis,
+                      @Value("${bank.api.max-idle-ms:15000}") long maxIdleMillis,
+                      @Value("${bank.api.connect-timeout-ms:1000}") int connectTimeoutMillis,
+                      @Value("${bank.api.read-timeout-ms:3000}") long readTimeoutMillis,
+                      @Value("${bank.api.write-timeout-ms:5000}") long writeTimeoutMillis,
+                      @Value("${bank.api.transfer-timeout-ms:10000}") long transferTimeoutMillis) {
+        // 은행 서버(Tomcat keep-alive 20초)가 끊기 전에 유휴 연결을 먼저 정리
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("bank")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofMillis(maxIdleMillis))
+                .evictInBackground(Duration.ofMillis(maxIdleMillis))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true);
+
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
+        this.writeTimeout = Duration.ofMillis(writeTimeoutMillis);
+        this.transferTimeout = Duration.ofMillis(transferTimeoutMillis);
+    }
+
+    /** 예금주 등록 */
+    public Mono<BankApiDto.ApiResult<String>> createOwner(BankApiDto.OwnerRequest request) {
+        return post("/bank/owner/create", request, null, MESSAGE, writeTimeout);
+    }
+
+    /** 계좌 개설 */
+    public Mono<BankApiDto.ApiResult<BankApiDto.AccountCreateResponse>> createAccount(BankApiDto.AccountCreateRequest request) {
+        return post("/bank/account/create", request, null, ACCOUNT_CREATE, writeTimeout);
+    }
+
+    /** 식별번호 목록의 계좌 목록 조회 */
+    public Mono<BankApiDto.ApiResult<BankApiDto.AccountListResponse>> accountList(List<String> identificationNumbers) {
+        BankApiDto.AccountListRequest request = BankApiDto.AccountListRequest.builder()
+                .identificationNumber(identificationNumbers)
+                .build();
+        return post("/bank/account/list", request, null, ACCOUNT_LIST, readTimeout);
+    }
+
+    /** 계좌 상세조회 */
+    public Mono<BankApiDto.ApiResult<BankApiDto.Account>> accountDetail(Long accountId) {
+        return exchange("/bank/account/detail",
+                webClient.get().uri("/bank/account/detail/{accountId}", accountId), ACCOUNT, readTimeout);
+    }
+
+    /** 거래내역 전체 조회 */
+    public Mono<BankApiDto.ApiResult<List<BankApiDto.History>>> historyList(BankApiDto.HistoryRequest request) {
+        return post("/bank/history", request, null, HISTORY_LIST, readTimeout);
+    }
+
+    /** 커서 이후의 거래내역 증분 조회 (오래된 순) */
+    public Mono<BankApiDto.ApiResult<BankApiDto.HistoryDeltaResponse>> historyDelta(BankApiDto.HistoryDeltaRequest request) {
+        return post("/bank/history/delta", request, null, HISTORY_DELTA, readTimeout);
+    }
+
+    /** 상대 계좌와의 월간 거래내역 + 입금 / 송금 합계 조회 */
+    public Mono<BankApiDto.ApiResult<BankApiDto.CounterpartyHistoryResponse>> counterpartyHistory(BankApiDto.CounterpartyHistoryRequest request) {
+        return post("/bank/history/counterparty", request, null, COUNTERPARTY_HISTORY, readTimeout);
+    }
+
+    /** 거래내역 상세 조회 */
+    public Mono<BankApiDto.ApiResult<BankApiDto.History>> historyDetail(BankApiDto.HistoryRequest request) {
+        return post("/bank/detail_history", request, null, HISTORY, readTimeout);
+    }
+
+    /** 거래내역 메모 작성 */
+    public Mono<BankApiDto.ApiResult<Map<String, Object>>> writeMemo(BankApiDto.MemoRequest request) {
+        return post("/bank/detail_history/memo", request, null, MEMO, writeTimeout);
+    }
+
+    /**
+     * 계좌 이체
+     * idempotencyKey : 같은 키로 다시 요청하면 은행 서버가 이체하지 않고 처음 응답을 반환 (시간 초과 후 재요청 시 중복 이체 방지)
+     */
+    public Mono<BankApiDto.ApiResult<String>> transfer(BankApiDto.TransferRequest request, String idempotencyKey) {
+        return post("/bank/account/transfer", request, idempotencyKey, MESSAGE, transferTimeout);
+    }
+
+    /** 계좌 실명 조회 */
+    public Mono<BankApiDto.ApiResult<BankApiDto.CertificationResponse>> certification(BankApiDto.CertificationRequest request) {
+        return post("/bank/account/certification", request, null, CERTIFICATION, readTimeout);
+    }
+
+    // 기존 동기 호출부용 : 요청별 시간 제한이 걸려 있으므로 block 은 제한 시간 안에 반환되거나 BankApiException 을 던짐
+
+    public BankApiDto.ApiResult<String> createOwnerBlocking(BankApiDto.OwnerRequest request) {
+        return createOwner(request).block();
+    }
+
+    public BankApiDto.ApiResult<BankApiDto.AccountCreateResponse> createAccountBlocking(BankApiDto.AccountCreateRequest request) {
+        return createAccount(request).block();
+    }
+
+    public BankApiDto.ApiResult<BankApiDto.AccountListResponse> accountListBlocking(List<String> identificationNumbers) {
+        return accountList(identificationNumbers).block();
+    }
+
+    public BankApiDto.ApiResult<BankApiDto.Account> accountDetailBlocking(Long accountId) {
+        return accountDetail(accountId).block();
+    }
+
+    public BankApiDto.ApiResult<List<BankApiDto.History>> historyListBlocking(BankApiDto.HistoryRequest request) {
+        return historyList(request).block();
+    }
+
+    public BankApiDto.ApiResult<BankApiDto.HistoryDeltaResponse> historyDeltaBlocking(BankApiDto.HistoryDeltaRequest request) {
+        return historyDelta(request).block();
+    }
+
+    public BankApiDto.ApiResult<BankApiDto.CounterpartyHistoryResponse> counterpartyHistoryBlocking(BankApiDto.CounterpartyHistoryRequest request) {
+        return counterpartyHistory(request).block();
+    }
+
+    public BankApiDto.ApiResult<BankApiDto.History> historyDetailBlocking(BankApiDto.HistoryRequest request) {
+        return historyDetail(request).block();
+    }
+
+    public BankApiDto.ApiResult<Map<String, Object>> writeMemoBlocking(BankApiDto.MemoRequest request) {
+        return writeMemo(request).block();
+    }
+
+    public BankApiDto.ApiResult<String> transferBlocking(BankApiDto.TransferRequest request, String idempotencyKey) {
+        return transfer(request, idempotencyKey).block();
+    }
+
+    public BankApiDto.ApiResult<BankApiDto.CertificationResponse> certificationBlocking(BankApiDto.CertificationRequest request) {
+        return certification(request).block();
+    }
+
+    private <T> Mono<BankApiDto.ApiResult<T>> post(String uri, Object body, String idempotencyKey,
+                                                   ParameterizedTypeReference<BankApiDto.ApiResult<T>> type, Duration timeout) {
+        WebClient.RequestBodySpec spec = webClient.post().uri(uri);
+        if (idempotencyKey != null) {
+            spec = spec.header("Idempotency-Key", idempotencyKey);
+        }
+        return exchange(uri, spec.bodyValue(body), type, timeout);
+    }
+
+    private <T> Mono<BankApiDto.ApiResult<T>> exchange(String uri, WebClient.RequestHeadersSpec<?> spec,
+                                                       ParameterizedTypeReference<BankApiDto.ApiResult<T>> type, Duration timeout) {
+        return spec.retrieve()
+                .bodyToMono(type)
+                .timeout(timeout)
+                .switchIfEmpty(Mono.error(() -> new BankApiException("은행 서버 응답이 비어 있습니다.")))
+                .onErrorMap(e -> !(e instanceof BankApiException), e -> {
+                    log.warn("은행 서버 요청 실패 {} : {}", uri, e.toString());
+                    return new BankApiException("은행 서버 요청에 실패했습니다.", e);
+                });
+    }
+}
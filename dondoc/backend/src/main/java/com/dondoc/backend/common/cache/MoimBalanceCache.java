@@ -0,0 +1,143 @@
+package com.dondoc.backend.common.cache;
+
+import com.dondoc.backend.common.bank.BankApiDto;
+import com.dondoc.backend.common.bank.BankClient;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 모임 계좌 잔액 캐시 (moimAccountId 기준)
+ * - 1차 : 서버 로컬 Caffeine (짧은 TTL, 다른 서버에서 일어난 이체는 TTL 안에서만 늦게 반영)
+ * - 2차 : 서버 간 공유 Redis
+ * - 둘 다 없으면 은행 서버에서 조회하며, 같은 계좌의 동시 조회는 한 번만 요청 (Caffeine 키 단위 로딩)
+ * - getAsync 는 호출 스레드를 막지 않으므로 DB 조회와 병렬로 진행 가능
+ * - dondoc 에서 이체를 요청한 계좌는 evict 로 즉시 무효화
+ * - Redis 키에 계좌별 세대(generation)를 붙여, evict 전에 시작된 조회가 끝나며 저장하는 이전 잔액은 이전 세대 키에만 남는다.
+ */
+@Slf4j
+@Component
+public class MoimBalanceCache {
+
+    private static final String KEY_PREFIX = "moim:balance:";
+    private static final String GENERATION_PREFIX = "moim:balance:generation:";
+
+    private final BankClient bankClient;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final AsyncCache<Long, Integer> localCache;
+    private final Duration sharedTtl;
+
+    public MoimBalanceCache(BankClient bankClient,
+                            RedisTemplate<String, Object> redisTemplate,
+                            @Value("${moim.balance-cache.local-ttl-ms:3000}") long localTtlMillis,
+                            @Value("${moim.balance-cache.shared-ttl-seconds:30}") long sharedTtlSeconds,
+                            @Value("${moim.balance-cache.maximum-size:10000}") long maximumSize) {
+        this.bankClient = bankClient;
+        this.redisTemplate = redisTemplate;
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(localTtlMillis))
+                .maximumSize(maximumSize)
+                .buildAsync();
+        this.sharedTtl = Duration.ofSeconds(sharedTtlSeconds);
+    }
+
+    /** 모임 계좌 잔액 (은행에서 계좌를 찾지 못하면 empty) */
+    public Optional<Integer> get(Long moimAccountId) {
+        return await(getAsync(moimAccountId));
+    }
+
+    /** 모임 계좌 잔액 비동기 조회 : 로컬 캐시에 있으면 완료된 future */
+    public CompletableFuture<Optional<Integer>> getAsync(Long moimAccountId) {
+        return localCache.get(moimAccountId, this::load).thenApply(Optional::ofNullable);
+    }
+
+    /** getAsync 결과 대기 (CompletionException 은 원래 예외로 전달) */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /** 이체 후 무효화 : 로컬 캐시 삭제, 공유 캐시는 세대를 올려 이전 키(조회 중 저장될 값 포함)를 버림 */
+    public void evict(Long moimAccountId) {
+        localCache.synchronous().invalidate(moimAccountId);
+        try {
+            redisTemplate.opsForValue().increment(GENERATION_PREFIX + moimAccountId);
+        } catch (RuntimeException e) {
+            log.warn("모임 잔액 캐시 삭제 실패 {} : {}", moimAccountId, e.toString());
+        }
+    }
+
+    // 세대 -> Redis -> 은행 서버 순서로 조회 (null 로 완료되면 로컬 캐시에 저장되지 않음)
+    private CompletableFuture<Integer> load(Long moimAccountId, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> readGeneration(moimAccountId), executor)
+                .thenCompose(generation -> {
+                    Integer shared = generation != null ? readShared(moimAccountId, generation) : null;
+                    if (shared != null) {
+                        return CompletableFuture.completedFuture(shared);
+                    }
+                    return bankClient.accountDetail(moimAccountId).toFuture()
+                            .thenApplyAsync(response -> store(moimAccountId, generation, response), executor);
+                });
+    }
+
+    // 계좌의 현재 세대 (evict 된 적이 없으면 0, Redis 장애 시 null 이며 공유 캐시를 건너뜀)
+    private Long readGeneration(Long moimAccountId) {
+        try {
+            Object generation = redisTemplate.opsForValue().get(GENERATION_PREFIX + moimAccountId);
+            return generation instanceof Number ? ((Number) generation).longValue() : 0L;
+        } catch (RuntimeException e) {
+            // Redis 장애 시에도 잔액 조회는 은행 서버로 계속 처리
+            log.warn("모임 잔액 캐시 조회 실패 {} : {}", moimAccountId, e.toString());
+            return null;
+        }
+    }
+
+    private Integer readShared(Long moimAccountId, long generation) {
+        try {
+            Object shared = redisTemplate.opsForValue().get(key(moimAccountId, generation));
+            if (shared instanceof Number) {
+                return ((Number) shared).intValue();
+            }
+        } catch (RuntimeException e) {
+            log.warn("모임 잔액 캐시 조회 실패 {} : {}", moimAccountId, e.toString());
+        }
+        return null;
+    }
+
+    // 조회를 시작할 때의 세대 키에 저장 (그 사이 evict 되었다면 아무도 읽지 않는 키)
+    private Integer store(Long moimAccountId, Long generation, BankApiDto.ApiResult<BankApiDto.Account> response) {
+        if (!response.isSuccess()) {
+            return null;
+        }
+
+        int balance = response.getResponse().getBalance();
+        if (generation == null) {
+            return balance;
+        }
+        try {
+            redisTemplate.opsForValue().set(key(moimAccountId, generation), balance, sharedTtl);
+        } catch (RuntimeException e) {
+            log.warn("모임 잔액 캐시 저장 실패 {} : {}", moimAccountId, e.toString());
+        }
+        return balance;
+    }
+
+    private static String key(Long moimAccountId, long generation) {
+        return KEY_PREFIX + moimAccountId + ":" + generation;
+    }
+}
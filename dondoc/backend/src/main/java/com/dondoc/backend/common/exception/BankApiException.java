@@ -0,0 +1,14 @@
+package com.dondoc.backend.common.exception;
+
+// 은행 서버 요청 실패 (연결 실패, 시간 초과, 응답 오류)
+public class BankApiException extends RuntimeException {
+
+    public BankApiException(String message) {
+        super(message);
+    }
+
+    public BankApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
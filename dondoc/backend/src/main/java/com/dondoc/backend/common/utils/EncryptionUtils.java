@@ -2,7 +2,6 @@ package com.dondoc.backend.common.utils;
 
 import org.springframework.stereotype.Component;
 
-import java.security.MessageDigest;
 import java.security.SecureRandom;
 
 @Component
@@ -10,24 +9,12 @@ public class EncryptionUtils {
 
     private static final int SALT_SIZE = 16;
     public String encryption(String str, String salt) throws Exception{
-        MessageDigest md = MessageDigest.getInstance("SHA-256");
-
-        for(int i = 0; i < 100; i++){
-            String temp = str + salt;
-            md.update(temp.getBytes());
-            str = byteToString(md.digest());
-        }
-
-        // 해싱 처리 알고리즘
-        return str;
+        // 해싱 처리 알고리즘 (SHA-256 100회 반복)
+        return HashEngine.hash(str, salt);
     }
 
     public String byteToString(byte[] temp){
-        StringBuilder sb = new StringBuilder();
-        for(byte a : temp){
-            sb.append(String.format("%02x", a));
-        }
-        return sb.toString();
+        return HashEngine.toHex(temp);
     }
 
     public String makeSalt() {
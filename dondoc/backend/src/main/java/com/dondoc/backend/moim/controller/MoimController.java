@@ -222,6 +222,7 @@ public class MoimController {
         String identificationNumber = req.getIdentificationNumber();
         String moimAccountNumber = req.getMoimAccountNumber();
         String memberAccountNumber = req.getMemberAccountNumber();
+        String year = req.getYear();
         String month = req.getMonth();
 
         try {
@@ -235,7 +236,12 @@ public class MoimController {
         }
 
 
-        List<MoimMyDataDto.TransferResponse> result = moimService.getTransferAmount(identificationNumber,moimAccountNumber,memberAccountNumber,month);
+        List<MoimMyDataDto.TransferResponse> result;
+        try {
+            result = moimService.getTransferAmount(identificationNumber,moimAccountNumber,memberAccountNumber,year,month);
+        }catch (NumberFormatException e){
+            return ApiUtils.error("조회할 연도와 달을 숫자로 입력해주세요.",HttpStatus.BAD_REQUEST);
+        }
 
         if(result!=null){
             return ApiUtils.success(result);
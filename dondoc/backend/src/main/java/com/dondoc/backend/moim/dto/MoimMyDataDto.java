@@ -19,6 +19,8 @@ public class MoimMyDataDto {
         private String moimAccountNumber; // 모임 계좌번호
         @ApiModelProperty(value = "멤버 계좌번호", example = "4563035162653")
         private String memberAccountNumber; // 멤버 계좌번호
+        @ApiModelProperty(value = "조회할 연도 (없으면 올해)", example = "2023")
+        private String year; // 연도
         @ApiModelProperty(value = "조회할 달", example = "9")
         private String month; // 월
     }
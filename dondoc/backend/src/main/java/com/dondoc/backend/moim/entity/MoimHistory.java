@@ -0,0 +1,116 @@
+package com.dondoc.backend.moim.entity;
+
+import com.dondoc.backend.common.bank.BankApiDto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 모임 계좌 거래내역 미러 (은행 History 의 추가 전용 사본)
+ * - 정착된(커밋 지연 시간이 지나고 잔액이 확정된) 거래내역만 저장하며 이후 변경하지 않음
+ * - 모임별 (createdAt, historyId) 순으로 조회
+ */
+@Entity
+@Table(name="MoimHistory",
+        uniqueConstraints = @UniqueConstraint(name = "uk_moim_history_moim_history", columnNames = {"moimId", "historyId"}),
+        indexes = @Index(name = "idx_moim_history_moim_created", columnList = "moimId, createdAt, historyId"))
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MoimHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name="id")
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name="moimId", nullable = false)
+    private Moim moim;
+
+    /**
+     * 은행 History 의 id
+     */
+    @Column(name="historyId", nullable = false)
+    private Long historyId;
+
+    @Column(name="toAccount", nullable = false, length = 50)
+    private String toAccount;
+
+    @Column(name="bankCodeId")
+    private Long bankCodeId;
+
+    @Column(name="bankName", length = 50)
+    private String bankName;
+
+    @Column(name="type", nullable = false)
+    private int type; // 1 : 송금, 2 : 입금
+
+    @Column(name="transferAmount", nullable = false)
+    private int transferAmount;
+
+    @Column(name="afterBalance", nullable = false)
+    private int afterBalance;
+
+    @Column(name="sign", length = 255)
+    private String sign;
+
+    @Column(name="toSign", length = 255)
+    private String toSign;
+
+    @Column(name="memo", columnDefinition = "LONGTEXT")
+    private String memo;
+
+    /**
+     * 은행 거래 일시
+     */
+    @Column(name="createdAt", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static MoimHistory of(Moim moim, BankApiDto.History history) {
+        BankApiDto.Info info = history.getHistoryId();
+        BankApiDto.BankCode toCode = history.getToCode();
+        return MoimHistory.builder()
+                .moim(moim)
+                .historyId(info.getId())
+                .toAccount(info.getToAccount())
+                .bankCodeId(toCode == null ? null : toCode.getBankCodeId())
+                .bankName(toCode == null ? null : toCode.getBankName())
+                .type(info.getType())
+                .transferAmount(info.getTransferAmount())
+                .afterBalance(info.getAfterBalance())
+                .sign(info.getSign())
+                .toSign(info.getToSign())
+                .memo(history.getMemo())
+                .createdAt(info.getCreatedAt())
+                .build();
+    }
+
+    // 은행 거래내역 응답과 같은 형태로 변환
+    public BankApiDto.History toBankHistory() {
+        BankApiDto.Info info = new BankApiDto.Info();
+        info.setId(historyId);
+        info.setToAccount(toAccount);
+        info.setType(type);
+        info.setTransferAmount(transferAmount);
+        info.setAfterBalance(afterBalance);
+        info.setSign(sign);
+        info.setToSign(toSign);
+        info.setCreatedAt(createdAt);
+
+        BankApiDto.History history = new BankApiDto.History();
+        history.setHistoryId(info);
+        if(bankCodeId != null){
+            BankApiDto.BankCode toCode = new BankApiDto.BankCode();
+            toCode.setBankCodeId(bankCodeId);
+            toCode.setBankName(bankName);
+            history.setToCode(toCode);
+        }
+        history.setMemo(memo);
+        return history;
+    }
+}
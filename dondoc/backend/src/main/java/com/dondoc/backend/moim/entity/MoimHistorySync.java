@@ -0,0 +1,44 @@
+package com.dondoc.backend.moim.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 모임 계좌 거래내역 미러의 동기화 상태
+ * - (lastCreatedAt, lastHistoryId) : 미러에 저장된 마지막 거래내역 (은행 증분 조회 커서)
+ * - dirty : dondoc 에서 이체했거나 아직 정착되지 않은 거래내역이 있어 다음 조회 때 다시 동기화해야 함
+ * - version : 동시 동기화 / dirty 표시 충돌 감지
+ */
+@Entity
+@Table(name="MoimHistorySync")
+@Getter @Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MoimHistorySync {
+
+    @Id
+    @Column(name="moimId")
+    private Long moimId;
+
+    @Column(name="lastCreatedAt")
+    private LocalDateTime lastCreatedAt;
+
+    @Column(name="lastHistoryId")
+    private Long lastHistoryId;
+
+    @Column(name="syncedAt")
+    private LocalDateTime syncedAt;
+
+    @Column(name="dirty", nullable = false)
+    private boolean dirty;
+
+    @Version
+    @Column(name="version")
+    private Long version;
+
+    public MoimHistorySync(Long moimId) {
+        this.moimId = moimId;
+        this.dirty = true;
+    }
+}
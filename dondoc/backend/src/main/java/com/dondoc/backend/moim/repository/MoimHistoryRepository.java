@@ -0,0 +1,13 @@
+package com.dondoc.backend.moim.repository;
+
+import com.dondoc.backend.moim.entity.MoimHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MoimHistoryRepository extends JpaRepository<MoimHistory, Long> {
+    List<MoimHistory> findByMoim_IdOrderByCreatedAtDescHistoryIdDesc(Long moimId);
+
+    Optional<MoimHistory> findByMoim_IdAndHistoryId(Long moimId, Long historyId);
+}
@@ -0,0 +1,15 @@
+package com.dondoc.backend.moim.repository;
+
+import com.dondoc.backend.moim.entity.MoimHistorySync;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MoimHistorySyncRepository extends JpaRepository<MoimHistorySync, Long> {
+
+    // version 도 올려서 진행 중인 동기화가 dirty 표시를 덮어쓰지 못하게 함
+    @Modifying
+    @Query("update MoimHistorySync s set s.dirty = true, s.version = s.version + 1 where s.moimId = :moimId")
+    int markDirty(@Param("moimId") Long moimId);
+}
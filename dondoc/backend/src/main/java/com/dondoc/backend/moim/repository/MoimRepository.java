@@ -9,6 +9,7 @@ import java.util.List;
 
 public interface MoimRepository extends JpaRepository<Moim, Long> {
     List<Moim> findByIdentificationNumber(String identificationNumber);
+    List<Moim> findByMoimAccountNumber(String moimAccountNumber);
     @Query("select distinct m from Moim m join fetch m.moimMemberList mm where m.isActive=1 and mm.status=1 and mm.user.id = :userId")
     List<Moim> getMoimList(@Param("userId")Long userId);
 
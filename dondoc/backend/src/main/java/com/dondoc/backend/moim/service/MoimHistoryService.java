@@ -0,0 +1,16 @@
+package com.dondoc.backend.moim.service;
+
+import com.dondoc.backend.common.bank.BankApiDto;
+import com.dondoc.backend.moim.entity.Moim;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MoimHistoryService {
+
+    List<BankApiDto.History> getHistoryList(Moim moim);
+
+    Optional<BankApiDto.History> getHistory(Moim moim, Long historyId);
+
+    void markDirty(Long moimId);
+}
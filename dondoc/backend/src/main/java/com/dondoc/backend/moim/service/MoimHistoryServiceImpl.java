@@ -0,0 +1,222 @@
+package com.dondoc.backend.moim.service;
+
+import com.dondoc.backend.common.bank.BankApiDto;
+import com.dondoc.backend.common.bank.BankClient;
+import com.dondoc.backend.common.exception.BankApiException;
+import com.dondoc.backend.moim.entity.Moim;
+import com.dondoc.backend.moim.entity.MoimHistory;
+import com.dondoc.backend.moim.entity.MoimHistorySync;
+import com.dondoc.backend.moim.repository.MoimHistoryRepository;
+import com.dondoc.backend.moim.repository.MoimHistorySyncRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 모임 계좌 거래내역 미러
+ * - 은행에는 마지막으로 저장한 거래내역 이후(증분)만 요청하고, 나머지는 로컬 MoimHistory 에서 조회
+ * - 동기화 주기 안이고 dirty 가 아니면 은행을 호출하지 않음 (dondoc 에서 이체하면 markDirty 로 즉시 갱신)
+ * - 보류(pending) 거래내역이나 커밋 지연 시간 안의 거래내역은 저장하지 않고 응답에만 포함한 뒤 다음 동기화에서 다시 조회
+ */
+@Slf4j
+@Service
+public class MoimHistoryServiceImpl implements MoimHistoryService {
+
+    // 은행 거래내역 조회와 같은 최신순
+    private static final Comparator<BankApiDto.History> LATEST_FIRST = Comparator
+            .comparing((BankApiDto.History history) -> history.getHistoryId().getCreatedAt())
+            .thenComparing(history -> history.getHistoryId().getId())
+            .reversed();
+
+    private final MoimHistoryRepository moimHistoryRepository;
+    private final MoimHistorySyncRepository moimHistorySyncRepository;
+    private final BankClient bankClient;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration syncInterval;
+    private final Duration settleTime;
+    private final int deltaSize;
+
+    public MoimHistoryServiceImpl(MoimHistoryRepository moimHistoryRepository,
+                                  MoimHistorySyncRepository moimHistorySyncRepository,
+                                  BankClient bankClient,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${moim.history-mirror.sync-interval-ms:10000}") long syncIntervalMillis,
+                                  @Value("${moim.history-mirror.settle-seconds:5}") long settleSeconds,
+                                  @Value("${moim.history-mirror.delta-size:500}") int deltaSize) {
+        this.moimHistoryRepository = moimHistoryRepository;
+        this.moimHistorySyncRepository = moimHistorySyncRepository;
+        this.bankClient = bankClient;
+        // 호출 측의 읽기 전용 트랜잭션과 분리해서 저장
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.syncInterval = Duration.ofMillis(syncIntervalMillis);
+        this.settleTime = Duration.ofSeconds(settleSeconds);
+        this.deltaSize = deltaSize;
+    }
+
+    /** 모임 계좌 거래내역 전체 (최신순) */
+    @Override
+    public List<BankApiDto.History> getHistoryList(Moim moim) {
+        List<BankApiDto.History> unsettled = sync(moim, false);
+        Set<Long> unsettledIds = unsettled.stream()
+                .map(history -> history.getHistoryId().getId())
+                .collect(Collectors.toSet());
+
+        List<BankApiDto.History> result = new ArrayList<>(unsettled);
+        for (MoimHistory history : moimHistoryRepository.findByMoim_IdOrderByCreatedAtDescHistoryIdDesc(moim.getId())) {
+            if(!unsettledIds.contains(history.getHistoryId())){
+                result.add(history.toBankHistory());
+            }
+        }
+
+        if(!unsettled.isEmpty()){
+            result.sort(LATEST_FIRST);
+        }
+        return result;
+    }
+
+    /** 모임 계좌 거래내역 상세 : 미러에 없으면 바로 동기화해서 확인 */
+    @Override
+    public Optional<BankApiDto.History> getHistory(Moim moim, Long historyId) {
+        Optional<MoimHistory> mirrored = moimHistoryRepository.findByMoim_IdAndHistoryId(moim.getId(), historyId);
+        if(mirrored.isPresent()){
+            return mirrored.map(MoimHistory::toBankHistory);
+        }
+
+        for (BankApiDto.History history : sync(moim, true)) {
+            if(history.getHistoryId().getId().equals(historyId)){
+                return Optional.of(history);
+            }
+        }
+        return moimHistoryRepository.findByMoim_IdAndHistoryId(moim.getId(), historyId).map(MoimHistory::toBankHistory);
+    }
+
+    /** dondoc 에서 모임 계좌로 / 에서 이체한 뒤 호출 : 다음 조회 때 동기화 */
+    @Override
+    public void markDirty(Long moimId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> moimHistorySyncRepository.markDirty(moimId));
+        } catch (DataAccessException e) {
+            // 표시하지 못해도 동기화 주기가 지나면 반영됨
+            log.warn("모임 거래내역 동기화 표시 실패 moimId={} : {}", moimId, e.toString());
+        }
+    }
+
+    /**
+     * 은행에서 증분을 받아 정착된 앞부분을 미러에 저장
+     * @return 미러에 저장하지 않은 거래내역 (최신순)
+     */
+    private List<BankApiDto.History> sync(Moim moim, boolean force) {
+        MoimHistorySync state = moimHistorySyncRepository.findById(moim.getId()).orElse(null);
+        if(!force && state != null && !state.isDirty() && state.getSyncedAt() != null
+                && state.getSyncedAt().isAfter(LocalDateTime.now().minus(syncInterval))){
+            return Collections.emptyList();
+        }
+
+        List<BankApiDto.History> delta = new ArrayList<>();
+        LocalDateTime serverTime;
+        try {
+            serverTime = fetchDelta(moim, state, delta);
+        } catch (BankApiException e) {
+            if(state == null){
+                throw e;
+            }
+            // 은행 장애 시 미러만으로 응답
+            log.warn("모임 거래내역 증분 조회 실패 moimId={} : {}", moim.getId(), e.getMessage());
+            return Collections.emptyList();
+        }
+
+        // 보류 거래내역 또는 아직 커밋되지 않았을 수 있는 시간대의 거래내역부터는 저장하지 않음
+        LocalDateTime settledBefore = serverTime.minus(settleTime);
+        int settled = 0;
+        while (settled < delta.size() && isSettled(delta.get(settled).getHistoryId(), settledBefore)) {
+            settled++;
+        }
+        List<BankApiDto.History> append = delta.subList(0, settled);
+        List<BankApiDto.History> unsettled = new ArrayList<>(delta.subList(settled, delta.size()));
+        Collections.reverse(unsettled);
+
+        try {
+            if(Boolean.TRUE.equals(transactionTemplate.execute(status -> append(moim, state, append, !unsettled.isEmpty())))){
+                return unsettled;
+            }
+        } catch (DataAccessException e) {
+            log.info("모임 거래내역 동시 동기화 moimId={} : {}", moim.getId(), e.toString());
+        }
+
+        // 다른 요청이 먼저 동기화함 : 받은 증분은 저장하지 않고 응답에만 사용 (미러와 겹치는 건 목록에서 제외)
+        List<BankApiDto.History> all = new ArrayList<>(delta);
+        Collections.reverse(all);
+        return all;
+    }
+
+    // 커서 이후 거래내역을 모두 받아 delta 에 오래된 순으로 담고, 첫 응답의 은행 서버 시각을 반환
+    private LocalDateTime fetchDelta(Moim moim, MoimHistorySync state, List<BankApiDto.History> delta) {
+        LocalDateTime afterCreatedAt = state == null ? null : state.getLastCreatedAt();
+        Long afterId = state == null ? null : state.getLastHistoryId();
+        LocalDateTime serverTime = null;
+
+        while (true) {
+            BankApiDto.ApiResult<BankApiDto.HistoryDeltaResponse> response = bankClient.historyDeltaBlocking(BankApiDto.HistoryDeltaRequest.builder()
+                    .identificationNumber(moim.getIdentificationNumber())
+                    .accountNumber(moim.getMoimAccountNumber())
+                    .afterCreatedAt(afterCreatedAt)
+                    .afterId(afterId)
+                    .size(deltaSize)
+                    .build());
+            if(!response.isSuccess()){
+                throw new BankApiException(response.errorMessage("거래내역 조회에 실패했습니다."));
+            }
+
+            BankApiDto.HistoryDeltaResponse page = response.getResponse();
+            if(serverTime == null){
+                serverTime = page.getServerTime();
+            }
+            delta.addAll(page.getHistories());
+            if(!page.isHasNext() || page.getHistories().isEmpty()){
+                return serverTime;
+            }
+
+            BankApiDto.Info last = page.getHistories().get(page.getHistories().size() - 1).getHistoryId();
+            afterCreatedAt = last.getCreatedAt();
+            afterId = last.getId();
+        }
+    }
+
+    private static boolean isSettled(BankApiDto.Info history, LocalDateTime settledBefore) {
+        return !history.isPending() && history.getCreatedAt().isBefore(settledBefore);
+    }
+
+    // 읽어 둔 동기화 상태가 그대로일 때만 저장 (version 으로 동시 동기화, markDirty 와의 충돌 감지)
+    private boolean append(Moim moim, MoimHistorySync read, List<BankApiDto.History> settled, boolean dirty) {
+        MoimHistorySync current = moimHistorySyncRepository.findById(moim.getId()).orElse(null);
+        if(read == null ? current != null : current == null || !current.getVersion().equals(read.getVersion())){
+            return false;
+        }
+        if(current == null){
+            current = new MoimHistorySync(moim.getId());
+        }
+
+        if(!settled.isEmpty()){
+            moimHistoryRepository.saveAll(settled.stream()
+                    .map(history -> MoimHistory.of(moim, history))
+                    .collect(Collectors.toList()));
+            BankApiDto.Info last = settled.get(settled.size() - 1).getHistoryId();
+            current.setLastCreatedAt(last.getCreatedAt());
+            current.setLastHistoryId(last.getId());
+        }
+        current.setSyncedAt(LocalDateTime.now());
+        current.setDirty(dirty);
+        moimHistorySyncRepository.save(current);
+        return true;
+    }
+}
@@ -63,7 +63,7 @@ public interface MoimService {
 
     Object getHistoryDetail(String identificationNumber, String accountNumber, Long historyId);
 
-    List<MoimMyDataDto.TransferResponse> getTransferAmount(String identificationNumber,String moimAccountNumber,String memberAccountNumber,String month);
+    List<MoimMyDataDto.TransferResponse> getTransferAmount(String identificationNumber,String moimAccountNumber,String memberAccountNumber,String year,String month);
 
     MoimMyDataDto.SpendingAmountResponse getSpendingAmmount(Long moimId,Long moimMemberId,Long userId);
 }
@@ -1,5 +1,8 @@
 package com.dondoc.backend.moim.service;
 
+import com.dondoc.backend.common.bank.BankApiDto;
+import com.dondoc.backend.common.bank.BankClient;
+import com.dondoc.backend.common.cache.MoimBalanceCache;
 import com.dondoc.backend.common.utils.EncryptionUtils;
 import com.dondoc.backend.common.exception.NotFoundException;
 import com.dondoc.backend.moim.dto.*;
@@ -15,13 +18,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -39,27 +42,18 @@ public class MoimServiceImpl implements MoimService{
     private final CategoryRepository categoryRepository;
     private final MissionRepository missionRepository;
     private final PasswordEncoder passwordEncoder;
-
-    private WebClient webClient = WebClient.create("http://j9d108.p.ssafy.io:9090"); // 은행 서버 (http://j9d108.p.ssafy.io:9090/)
+    private final BankClient bankClient; // 은행 서버
+    private final MoimBalanceCache moimBalanceCache; // 모임 계좌 잔액 캐시
+    private final MoimHistoryService moimHistoryService; // 모임 계좌 거래내역 미러
 
     @Override
     public boolean createOnwerAPI(String identificationNumber, String moimName) {
-        Map<String, Object> bodyMap = new HashMap<>();
-        bodyMap.put("identificationNumber", identificationNumber);
-        bodyMap.put("ownerName", moimName);
-
-        Map response = webClient.post()
-                .uri("/bank/owner/create")
-                .bodyValue(bodyMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        if(response.get("success").toString()=="true"){ // 예금주 등록에 성공했으면
-            return true;
-        }
+        BankApiDto.ApiResult<String> response = bankClient.createOwnerBlocking(BankApiDto.OwnerRequest.builder()
+                .identificationNumber(identificationNumber)
+                .ownerName(moimName)
+                .build());
 
-        return false;
+        return response.isSuccess(); // 예금주 등록 성공 여부
     }
 
     @Override
@@ -84,24 +78,17 @@ public class MoimServiceImpl implements MoimService{
 
     @Override
     public Map<String,Object> createAccountAPI(String moimName, int bankCode, String identificationNumber, String password) {
-        Map<String, Object> bodyMap = new HashMap<>();
-        bodyMap.put("accountName", moimName);
-        bodyMap.put("bankCode", bankCode);
-        bodyMap.put("identificationNumber", identificationNumber);
-        bodyMap.put("password", password);
-
-        Map response = webClient.post()
-                .uri("/bank/account/create")
-                .bodyValue(bodyMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        if(response.get("success").toString()=="true"){ // 계좌생성 성공했으면
-            Map<String,String> tmp = (Map<String, String>) response.get("response");
+        BankApiDto.ApiResult<BankApiDto.AccountCreateResponse> response = bankClient.createAccountBlocking(BankApiDto.AccountCreateRequest.builder()
+                .accountName(moimName)
+                .bankCode((long) bankCode)
+                .identificationNumber(identificationNumber)
+                .password(password)
+                .build());
+
+        if(response.isSuccess()){ // 계좌생성 성공했으면
             Map<String,Object> result = new HashMap<>();
-            result.put("accountId",tmp.get("accountId"));
-            result.put("accountNumber",tmp.get("accountNumber"));
+            result.put("accountId",response.getResponse().getAccountId());
+            result.put("accountNumber",response.getResponse().getAccountNumber());
 
             return result;
         }
@@ -218,6 +205,12 @@ public class MoimServiceImpl implements MoimService{
             MoimMember moimMember = moimMemberService.findMoimMember(userId, moimId);
             int type = moimMember.getUserType(); // userType
             int status = moimMember.getStatus(); // 초대 승인 여부
+            boolean manager = type==0 && status==1;
+
+            // 관리자면 모임 잔액 조회(캐시, 없으면 은행 API)를 먼저 시작하고 아래 DB 조회와 병렬로 진행
+            CompletableFuture<Optional<Integer>> balanceFuture = manager
+                    ? moimBalanceCache.getAsync(moimMember.getMoim().getMoimAccountId())
+                    : null;
 
             /**
              * MoimMember (컬렉션 fetch join)
@@ -235,27 +228,24 @@ public class MoimServiceImpl implements MoimService{
             }
 
             /** 관리자인 경우 && 초대 승인된 상태 **/
-            if(type==0 && status==1) {
-
-                int balance = this.searchBalance(moim.getIdentificationNumber()); // (은행 API) 현재 모임계좌의 잔액조회
+            if(manager) {
+
+                /**
+                 * 수락 대기 중(status = 0)인 출금 요청만 한 번에 조회
+                 * - 0 : 수락 대기 중
+                 * - 1 : 요청 수락
+                 * - 2 : 요청 거절
+                 * 요청한 MoimMember, User 는 위 fetch join 으로 이미 영속성 컨텍스트에 있음
+                 */
                 List<MoimDetailDto.WithDrawRequestDto> withDrawRequestDtos = new ArrayList<>();
-
-                List<MoimMember> moimMemberList = moim.getMoimMemberList();
-                for (MoimMember member : moimMemberList) {
-                    // 지연로딩 초기화 수행
-                    List<WithdrawRequest> withdrawRequests = member.getWithdrawRequests();
-                    for (WithdrawRequest withdrawRequest : withdrawRequests) {
-                        /**
-                         * - 0 : 수락 대기 중
-                         * - 1 : 요청 수락
-                         * - 2 : 요청 거절
-                         */
-                        if(withdrawRequest.getStatus()==0){ // 수락 대기중인 요청이면
-                            withDrawRequestDtos.add(new MoimDetailDto.WithDrawRequestDto(withdrawRequest,member,moimId));
-                        }
-                    }
+                for (WithdrawRequest withdrawRequest : withdrawRequestRepository.findByMoimMember_MoimAndStatusOrderByCreatedAtDesc(moim, 0)) {
+                    withDrawRequestDtos.add(new MoimDetailDto.WithDrawRequestDto(withdrawRequest,withdrawRequest.getMoimMember(),moimId));
                 }
 
+                // DTO 조립 시점에 잔액 조회 결과 대기
+                int balance = MoimBalanceCache.await(balanceFuture)
+                        .orElseThrow(() -> new RuntimeException(String.format("식별번호 %s 에 해당하는 계좌가 존재하지 않습니다.", moim.getIdentificationNumber())));
+
                 MoimDetailDto.ManagerResponse result = new MoimDetailDto.ManagerResponse(moim,balance);
                 result.setRequest(withDrawRequestDtos);
 
@@ -283,31 +273,31 @@ public class MoimServiceImpl implements MoimService{
     @Override
     public int searchBalance(String identificationNumber) throws JsonProcessingException {
 
-        String jsonBody = "{\"identificationNumber\":[\"" + identificationNumber + "\"]}";
-
-
-        Map response = webClient.post()
-                .uri("/bank/account/list")
-                .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
-                .bodyValue(jsonBody)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
+        // 모임 식별번호면 모임 계좌 잔액 캐시 사용
+        List<Moim> moims = moimRepository.findByIdentificationNumber(identificationNumber);
+        if(moims.size()==1){
+            return this.moimBalance(moims.get(0));
+        }
 
+        BankApiDto.ApiResult<BankApiDto.AccountListResponse> response = bankClient.accountListBlocking(List.of(identificationNumber));
 
-        if(response.get("success").toString().equals("true")){ // 계좌목록 조회 성공 시
-            List<Map<String,Object>> response_data = (List<Map<String,Object>>) response.get("response");
+        if(response.isSuccess()){ // 계좌목록 조회 성공 시
+            List<BankApiDto.Account> accounts = response.getResponse().getAccounts();
+            if(accounts.isEmpty()){ // 식별번호가 notFound 로 반환된 경우
+                throw new RuntimeException(String.format("식별번호 %s 에 해당하는 계좌가 존재하지 않습니다.", identificationNumber));
+            }
             // 모임계좌의 당 식별번호는 하나로 유한함
-            Map<String, Object> tmp = response_data.get(0);
-            String result = tmp.get("balance").toString();
-
-            return Integer.parseInt(result);
+            return accounts.get(0).getBalance();
         }
 
         throw new RuntimeException(String.format("식별번호 %s 에 해당하는 계좌가 존재하지 않습니다.", identificationNumber));
     }
 
+    private int moimBalance(Moim moim) {
+        return moimBalanceCache.get(moim.getMoimAccountId())
+                .orElseThrow(() -> new RuntimeException(String.format("식별번호 %s 에 해당하는 계좌가 존재하지 않습니다.", moim.getIdentificationNumber())));
+    }
+
     /** 관리자에게 출금 요청 */
     @Override
     @Transactional
@@ -320,17 +310,11 @@ public class MoimServiceImpl implements MoimService{
                 .orElseThrow(()-> new NotFoundException("카테고리 정보가 존재하지 않습니다."));
 
         // 요청 금액 -> 가능한지 판단
-        Map response = webClient.get()
-                .uri("/bank/account/detail/"+member.getMoim().getMoimAccountId())
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        if(response.get("success").toString()=="true"){ // 계좌 조회 성공
-            Map<String,String> res = (Map<String, String>) response.get("response");
+        Optional<Integer> balance = moimBalanceCache.get(member.getMoim().getMoimAccountId());
 
+        if(balance.isPresent()){ // 계좌 조회 성공
             // 현재 모임 잔액 - 제한된 금액
-            int possibleAmount = Integer.parseInt(String.valueOf(res.get("balance"))) - member.getMoim().getLimited();
+            int possibleAmount = balance.get() - member.getMoim().getLimited();
 
             if(possibleAmount < req.getAmount()){ // 요청 가능한 금액보다 많이 요청했을 때
                 throw new IllegalArgumentException("요청 가능한 금액을 초과하였습니다.");
@@ -385,17 +369,11 @@ public class MoimServiceImpl implements MoimService{
         }
 
         // 요청 금액 -> 가능한지 판단
-        Map response = webClient.get()
-                .uri("/bank/account/detail/"+member.getMoim().getMoimAccountId())
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        if(response.get("success").toString()=="true"){ // 계좌 조회 성공
-            Map<String,String> res = (Map<String, String>) response.get("response");
+        Optional<Integer> balance = moimBalanceCache.get(member.getMoim().getMoimAccountId());
 
+        if(balance.isPresent()){ // 계좌 조회 성공
             // 현재 모임 잔액 - 제한된 금액
-            int possibleAmount = Integer.parseInt(String.valueOf(res.get("balance"))) - member.getMoim().getLimited();
+            int possibleAmount = balance.get() - member.getMoim().getLimited();
 
             if(possibleAmount < req.getAmount()){ // 요청 가능한 금액보다 많이 요청했을 때
                 throw new IllegalArgumentException("요청 가능한 금액을 초과하였습니다.");
@@ -580,102 +558,113 @@ public class MoimServiceImpl implements MoimService{
 
     @Override
     public List<MoimHistoryDto.Response> getHistoryList(String identificationNumber, String accountNumber) {
-        Map<String, Object> bodyMap = new HashMap<>();
-        bodyMap.put("identificationNumber", identificationNumber);
-        bodyMap.put("accountNumber", accountNumber);
-
-        MoimHistoryApiDto.ListResponse response = webClient.post()
-                .uri("/bank/history")
-                .bodyValue(bodyMap)
-                .retrieve()
-                .bodyToMono(MoimHistoryApiDto.ListResponse.class)
-                .block();
-
-        if(response.getSuccess().equals("true")){
-            List<MoimHistoryDto.Response> result = new ArrayList<>();
-            List<MoimHistoryApiDto.ListResponseResponse> apiResponseList = response.getResponse();
-
-            for (MoimHistoryApiDto.ListResponseResponse apiResponse : apiResponseList) {
-                MoimHistoryApiDto.History history = apiResponse.getHistoryId();
-                int type = history.getType();
-                String content = null;
-                if(type==1){ // 송금이면 요청내용
-                    content = history.getToSign();
-                }else if(type==2){ // 입금이면 메모
-                    content = apiResponse.getMemo();
-                }
-                MoimHistoryDto.Response res = new MoimHistoryDto.Response(history.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")), history.getId(), history.getToAccount(),
-                        history.getType(),history.getTransferAmount(), history.getAfterBalance(),content);
-                result.add(res);
+        List<BankApiDto.History> apiResponseList;
+
+        Optional<Moim> moim = findMoimByAccount(identificationNumber, accountNumber);
+        if(moim.isPresent()){
+            // 모임 계좌 : 로컬 미러 + 은행 증분
+            apiResponseList = moimHistoryService.getHistoryList(moim.get());
+        }else{
+            BankApiDto.ApiResult<List<BankApiDto.History>> response = bankClient.historyListBlocking(BankApiDto.HistoryRequest.builder()
+                    .identificationNumber(identificationNumber)
+                    .accountNumber(accountNumber)
+                    .build());
+
+            if(!response.isSuccess()){
+                return null;
             }
+            apiResponseList = response.getResponse();
+        }
 
-            return result;
+        List<MoimHistoryDto.Response> result = new ArrayList<>();
+        for (BankApiDto.History apiResponse : apiResponseList) {
+            BankApiDto.Info history = apiResponse.getHistoryId();
+            String content = content(apiResponse);
+            MoimHistoryDto.Response res = new MoimHistoryDto.Response(history.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")), history.getId(), history.getToAccount(),
+                    history.getType(),history.getTransferAmount(), history.getAfterBalance(),content);
+            result.add(res);
         }
 
-        return null;
+        return result;
     }
 
     @Override
     public Object getHistoryDetail(String identificationNumber, String accountNumber, Long historyId) {
-        Map<String, Object> bodyMap = new HashMap<>();
-        bodyMap.put("identificationNumber", identificationNumber);
-        bodyMap.put("accountNumber", accountNumber);
-        bodyMap.put("historyId",historyId);
-
-        Map response = webClient.post()
-                .uri("/bank/detail_history")
-                .bodyValue(bodyMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        if(response.get("success").toString()=="true"){
-            Object result = response.get("response");
-            return result;
+        Optional<Moim> moim = findMoimByAccount(identificationNumber, accountNumber);
+        if(moim.isPresent()){
+            return moimHistoryService.getHistory(moim.get(), historyId).orElse(null);
+        }
+
+        BankApiDto.ApiResult<BankApiDto.History> response = bankClient.historyDetailBlocking(BankApiDto.HistoryRequest.builder()
+                .identificationNumber(identificationNumber)
+                .accountNumber(accountNumber)
+                .historyId(historyId)
+                .build());
+
+        if(response.isSuccess()){
+            return response.getResponse();
         }else{
             return null;
         }
 
     }
 
-    @Override
-    public List<MoimMyDataDto.TransferResponse> getTransferAmount(String identificationNumber, String moimAccountNumber, String memberAccountNumber, String month) {
-
-        // 접근한 사용자의 권한 검사
+    // 식별번호, 계좌번호가 모두 일치하는 모임
+    private Optional<Moim> findMoimByAccount(String identificationNumber, String accountNumber) {
+        return moimRepository.findByMoimAccountNumber(accountNumber).stream()
+                .filter(moim -> moim.getIdentificationNumber().equals(identificationNumber))
+                .findFirst();
+    }
 
+    @Override
+    public List<MoimMyDataDto.TransferResponse> getTransferAmount(String identificationNumber, String moimAccountNumber, String memberAccountNumber, String year, String month) {
+
+        // memberAccount에 해당하는 member (은행 코드 + 계좌번호로 거래내역 조회)
+        Account account = accountService.findByAccountNumber(memberAccountNumber);
+        String name = account.getUser().getName();
+
+        // 해당 멤버 계좌와의 한 달 거래내역만 은행에서 조회 (연도 미지정 시 올해)
+        BankApiDto.ApiResult<BankApiDto.CounterpartyHistoryResponse> response = bankClient.counterpartyHistoryBlocking(BankApiDto.CounterpartyHistoryRequest.builder()
+                .identificationNumber(identificationNumber)
+                .accountNumber(moimAccountNumber)
+                .toAccount(memberAccountNumber)
+                .toCode(account.getBankCode())
+                .year(year == null || year.isBlank() ? LocalDate.now().getYear() : Integer.parseInt(year.trim()))
+                .month(Integer.parseInt(month.trim()))
+                .build());
+
+        if(!response.isSuccess()){
+            return null;
+        }
 
-        List<MoimHistoryDto.Response> historyList = this.getHistoryList(identificationNumber, moimAccountNumber);
         List<MoimMyDataDto.TransferResponse> result = new ArrayList<>();
         DecimalFormat decFormat = new DecimalFormat("###,###");
 
-        if(historyList!=null){
-            // memberAccount에 해당하는 member 이름 찾기
-            Account account = accountService.findByAccountNumber(memberAccountNumber);
-            String name = account.getUser().getName();
-
-            if(month.length()==1){
-                month = "0"+month;
-            }
-
-            for (MoimHistoryDto.Response response : historyList) {
-                if(response.getToAccount().equals(memberAccountNumber) && response.getDate().substring(5,7).equals(month)){
-                    String transAmount = new String();
+        for (BankApiDto.History apiResponse : response.getResponse().getHistories()) {
+            BankApiDto.Info history = apiResponse.getHistoryId();
+            String transAmount = decFormat.format(history.getTransferAmount());
 
-                    if(response.getType()==1){ // 송금
-                        transAmount = decFormat.format(response.getTransferAmount());
-                        transAmount = "-"+transAmount;
-                    }else if(response.getType()==2){ // 입금
-                        transAmount = "+"+transAmount;
-                    }
-
-                    result.add(new MoimMyDataDto.TransferResponse(response.getDate(),name,transAmount,response.getAfterBalance(),response.getContent()));
-                }
+            if(history.getType()==1){ // 송금
+                transAmount = "-"+transAmount;
+            }else if(history.getType()==2){ // 입금
+                transAmount = "+"+transAmount;
             }
 
-            return result;
+            result.add(new MoimMyDataDto.TransferResponse(history.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
+                    name, transAmount, history.getAfterBalance(), content(apiResponse)));
         }
 
+        return result;
+    }
 
+    // 송금이면 요청내용, 입금이면 메모
+    private static String content(BankApiDto.History apiResponse) {
+        int type = apiResponse.getHistoryId().getType();
+        if(type==1){
+            return apiResponse.getHistoryId().getToSign();
+        }else if(type==2){
+            return apiResponse.getMemo();
+        }
         return null;
     }
 
@@ -782,25 +771,26 @@ public class MoimServiceImpl implements MoimService{
         }
 
         // 내가 등록해놓은 계좌로 이체 => Bank 계좌이체 API 사용
-        Map<String, Object> bodyMap = new HashMap<>();
-        bodyMap.put("identificationNumber", moimMember.getMoim().getIdentificationNumber());
-        bodyMap.put("accountId", moimMember.getMoim().getMoimAccountId());
-        bodyMap.put("toCode", moimMember.getAccount().getBankCode());
-        bodyMap.put("toAccount", moimMember.getAccount().getAccountNumber());
-        bodyMap.put("transferAmount", withdrawRequest.getAmount());
-        bodyMap.put("password", req.getPassword());
-        bodyMap.put("sign", "");
-        bodyMap.put("toSign", withdrawRequest.getTitle());
-
-        Map response = webClient.post()
-                .uri("/bank/account/transfer")
-                .bodyValue(bodyMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-
-        if(response.get("success").toString()=="true") { // 계좌이체 성공
+        // 요청별 Idempotency-Key : 응답 시간 초과 후 다시 승인해도 은행에서 한 번만 이체
+        // 이체 결과와 관계없이 (시간 초과 포함) 모임 잔액 캐시 무효화
+        BankApiDto.ApiResult<String> response;
+        try {
+            response = bankClient.transferBlocking(BankApiDto.TransferRequest.builder()
+                    .identificationNumber(moimMember.getMoim().getIdentificationNumber())
+                    .accountId(moimMember.getMoim().getMoimAccountId())
+                    .toCode(moimMember.getAccount().getBankCode())
+                    .toAccount(moimMember.getAccount().getAccountNumber())
+                    .transferAmount(withdrawRequest.getAmount())
+                    .password(req.getPassword())
+                    .sign("")
+                    .toSign(withdrawRequest.getTitle())
+                    .build(), "dondoc:withdraw-request:" + withdrawRequest.getId());
+        } finally {
+            moimBalanceCache.evict(moimMember.getMoim().getMoimAccountId());
+            moimHistoryService.markDirty(moimMember.getMoim().getId());
+        }
+
+        if(response.isSuccess()) { // 계좌이체 성공
             // 출금요청에서 status 변경
             withdrawRequest.setStatus(1);
             //withdrawRequestRepository.deleteById(withdrawRequest.getId());
@@ -879,17 +869,11 @@ public class MoimServiceImpl implements MoimService{
         }
 
         // 현재 상황에서 승인할 수 있는 요청인지 -> limited 확인
-        Map response = webClient.get()
-                .uri("/bank/account/detail/"+member.getMoim().getMoimAccountId())
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        if(response.get("success").toString()=="true"){ // 계좌 조회 성공
-            Map<String,String> res = (Map<String, String>) response.get("response");
+        Optional<Integer> balance = moimBalanceCache.get(member.getMoim().getMoimAccountId());
 
+        if(balance.isPresent()){ // 계좌 조회 성공
             // 현재 모임 잔액 - 제한된 금액
-            int possibleAmount = Integer.parseInt(String.valueOf(res.get("balance"))) - member.getMoim().getLimited();
+            int possibleAmount = balance.get() - member.getMoim().getLimited();
 
             if(possibleAmount < mission.getAmount()){
                 throw new IllegalArgumentException("승인 가능한 금액을 초과하였습니다.");
@@ -972,24 +956,25 @@ public class MoimServiceImpl implements MoimService{
 
         // 계좌이체
         // 내가 등록해놓은 계좌로 이체 => Bank 계좌이체 API 사용
-        Map<String, Object> bodyMap = new HashMap<>();
-        bodyMap.put("identificationNumber", moimMember.getMoim().getIdentificationNumber());
-        bodyMap.put("accountId", moimMember.getMoim().getMoimAccountId());
-        bodyMap.put("toCode", moimMember.getAccount().getBankCode());
-        bodyMap.put("toAccount", moimMember.getAccount().getAccountNumber());
-        bodyMap.put("transferAmount", mission.getAmount());
-        bodyMap.put("password", req.getPassword());
-        bodyMap.put("sign", "");
-        bodyMap.put("toSign", "");
-
-        Map response = webClient.post()
-                .uri("/bank/account/transfer")
-                .bodyValue(bodyMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        if(response.get("success").toString()=="true") { // 계좌이체 성공
+        // 이체 결과와 관계없이 (시간 초과 포함) 모임 잔액 캐시 무효화
+        BankApiDto.ApiResult<String> response;
+        try {
+            response = bankClient.transferBlocking(BankApiDto.TransferRequest.builder()
+                    .identificationNumber(moimMember.getMoim().getIdentificationNumber())
+                    .accountId(moimMember.getMoim().getMoimAccountId())
+                    .toCode(moimMember.getAccount().getBankCode())
+                    .toAccount(moimMember.getAccount().getAccountNumber())
+                    .transferAmount(mission.getAmount())
+                    .password(req.getPassword())
+                    .sign("")
+                    .toSign("")
+                    .build(), "dondoc:mission:" + mission.getId());
+        } finally {
+            moimBalanceCache.evict(moimMember.getMoim().getMoimAccountId());
+            moimHistoryService.markDirty(moimMember.getMoim().getId());
+        }
+
+        if(response.isSuccess()) { // 계좌이체 성공
 
             // 미션 status 변경
             mission.setStatus(4);
@@ -1,12 +1,11 @@
 package com.dondoc.backend.user.dto.account;
 
+import com.dondoc.backend.common.bank.BankApiDto;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Builder;
 import lombok.Data;
 
-import java.util.Map;
-
 public class AccountCertificationDto {
 
     @Data
@@ -23,7 +22,7 @@ public class AccountCertificationDto {
     @Builder
     public static class Response{
         private String msg;
-        private Map response;
+        private BankApiDto.CertificationResponse response;
         private boolean success;
     }
 }
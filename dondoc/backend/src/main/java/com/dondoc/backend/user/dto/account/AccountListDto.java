@@ -1,6 +1,6 @@
 package com.dondoc.backend.user.dto.account;
 
-import com.dondoc.backend.user.entity.Account;
+import com.dondoc.backend.common.bank.BankApiDto;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -41,7 +41,7 @@ public class AccountListDto {
     @Builder
     public static class BankResponse{
         private String msg;
-        private List<Account> accountList;
+        private List<BankApiDto.Account> accountList;
         @JsonIgnore
         private boolean success;
     }
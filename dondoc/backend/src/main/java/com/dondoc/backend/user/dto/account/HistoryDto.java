@@ -1,19 +1,18 @@
 package com.dondoc.backend.user.dto.account;
 
-import com.dondoc.backend.user.entity.Account;
+import com.dondoc.backend.common.bank.BankApiDto;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
 import java.util.List;
-import java.util.Map;
 
 public class HistoryDto {
     @Data
     @Builder
     public static class Response{
         private String msg;
-        private Map historyList;
+        private BankApiDto.ApiResult<List<BankApiDto.History>> historyList; // 은행 응답 그대로 전달
         @JsonIgnore
         private boolean success;
     }
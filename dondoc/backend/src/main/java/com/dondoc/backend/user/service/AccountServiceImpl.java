@@ -1,6 +1,12 @@
 package com.dondoc.backend.user.service;
 
+import com.dondoc.backend.common.bank.BankApiDto;
+import com.dondoc.backend.common.bank.BankClient;
+import com.dondoc.backend.common.cache.MoimBalanceCache;
 import com.dondoc.backend.common.exception.NotFoundException;
+import com.dondoc.backend.moim.entity.Moim;
+import com.dondoc.backend.moim.repository.MoimRepository;
+import com.dondoc.backend.moim.service.MoimHistoryService;
 import com.dondoc.backend.user.dto.account.*;
 import com.dondoc.backend.user.entity.Account;
 import com.dondoc.backend.user.entity.User;
@@ -8,10 +14,8 @@ import com.dondoc.backend.user.repository.AccountRepository;
 import com.dondoc.backend.user.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import javax.transaction.Transactional;
-import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -20,12 +24,19 @@ public class AccountServiceImpl implements AccountService {
 
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
+    private final MoimRepository moimRepository;
+    private final BankClient bankClient; // 은행 서버
+    private final MoimBalanceCache moimBalanceCache;
+    private final MoimHistoryService moimHistoryService;
 
-    private WebClient webClient = WebClient.create("http://j9d108.p.ssafy.io:9090"); // 은행 서버
-
-    public AccountServiceImpl(AccountRepository accountRepository, UserRepository userRepository) {
+    public AccountServiceImpl(AccountRepository accountRepository, UserRepository userRepository, MoimRepository moimRepository,
+                              BankClient bankClient, MoimBalanceCache moimBalanceCache, MoimHistoryService moimHistoryService) {
         this.accountRepository = accountRepository;
         this.userRepository = userRepository;
+        this.moimRepository = moimRepository;
+        this.bankClient = bankClient;
+        this.moimBalanceCache = moimBalanceCache;
+        this.moimHistoryService = moimHistoryService;
     }
 
     @Override
@@ -49,18 +60,9 @@ public class AccountServiceImpl implements AccountService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("유저를 찾을 수 없습니다,"));
 
-        Map<String, Object> requestMap = new HashMap<>();
-        requestMap.put("identificationNumber", List.of(user.getPhoneNumber()));
-
-
-        Map response = webClient.post()
-                .uri("/bank/account/list")
-                .bodyValue(requestMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        if (!response.get("success").toString().equals("true")) {
+        // 은행 응답 : { accounts : 계좌 목록, notFound : 계좌정보가 없는 식별번호 }
+        BankApiDto.ApiResult<BankApiDto.AccountListResponse> response = bankClient.accountListBlocking(List.of(user.getPhoneNumber()));
+        if (!response.isSuccess() || response.getResponse().getAccounts().isEmpty()) {
             return AccountListDto.BankResponse.builder()
                     .success(false)
                     .msg("계좌 목록 불러올 수 없습니다.")
@@ -71,7 +73,7 @@ public class AccountServiceImpl implements AccountService {
         return AccountListDto.BankResponse.builder()
                 .msg("계좌 목록을 성공적으로 불러왔습니다.")
                 .success(true)
-                .accountList((List<Account>) response.get("response"))
+                .accountList(response.getResponse().getAccounts())
                 .build();
     }
 
@@ -108,21 +110,9 @@ public class AccountServiceImpl implements AccountService {
 
         for (AccountListDto.Request compare : accountList) {
             // 해당 계좌 ID가 맞는지 확인
-            Map response = webClient.get()
-                    .uri("/bank/account/detail/" + compare.getAccountId())
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            try {
-                Map<String, String> res = (Map<String, String>) response.get("response");
-                String account = res.get("accountNumber");
-
-                if (!account.equals(compare.getAccountNumber())) {
-                    throw new NoSuchElementException("계좌 정보가 잘못 되었습니다.");
-                }
+            BankApiDto.ApiResult<BankApiDto.Account> response = bankClient.accountDetailBlocking(compare.getAccountId());
 
-            } catch (NotFoundException e) {
+            if (!response.isSuccess() || !response.getResponse().getAccountNumber().equals(compare.getAccountNumber())) {
                 throw new NoSuchElementException("계좌 정보가 잘못 되었습니다.");
             }
         }
@@ -179,16 +169,10 @@ public class AccountServiceImpl implements AccountService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("유저를 찾을 수 없습니다."));
 
-        Map<String, Object> requestMap = new HashMap<>();
-        requestMap.put("identificationNumber", user.getPhoneNumber());
-        requestMap.put("accountNumber", accountNumber);
-
-        Map response = webClient.post()
-                .uri("/bank/history")
-                .bodyValue(requestMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+        BankApiDto.ApiResult<List<BankApiDto.History>> response = bankClient.historyListBlocking(BankApiDto.HistoryRequest.builder()
+                .identificationNumber(user.getPhoneNumber())
+                .accountNumber(accountNumber)
+                .build());
 
         return HistoryDto.Response.builder()
                 .historyList(response)
@@ -221,28 +205,21 @@ public class AccountServiceImpl implements AccountService {
     @Override
     public AccountDetailDto.Response accountDetail(Long accountId) {
 
-        Map response = webClient.get()
-                .uri("/bank/account/detail/" + accountId)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+        BankApiDto.ApiResult<BankApiDto.Account> response = bankClient.accountDetailBlocking(accountId);
 
-        if(!(boolean)response.get("success")){
+        if(!response.isSuccess()){
             throw new NotFoundException("계좌 정보를 찾을 수 없습니다.");
         }
 
-        Map<String, Object> map = (Map<String, Object>)response.get("response");
-
-
-        Map account = (Map<String, String>) response.get("response");
+        BankApiDto.Account account = response.getResponse();
 
         AccountDetailDto.AccountDetail accountDetail = AccountDetailDto.AccountDetail.builder()
-                .accountId(Long.parseLong(((Integer) map.get("accountId")).toString()))
-                .accountName((String)account.get("accountName"))
-                .accountNumber((String)account.get("accountNumber"))
-                .balance((Integer)account.get("balance"))
-                .bankCode(Long.parseLong(((Integer) map.get("bankCode")).toString()))
-                .bankName((String)account.get("bankName"))
+                .accountId(account.getAccountId())
+                .accountName(account.getAccountName())
+                .accountNumber(account.getAccountNumber())
+                .balance(account.getBalance())
+                .bankCode(account.getBankCode())
+                .bankName(account.getBankName())
                 .build();
 
         return AccountDetailDto.Response.builder()
@@ -260,33 +237,31 @@ public class AccountServiceImpl implements AccountService {
 
 
 
-        Map<String, Object> requestMap = new HashMap<>();
-        requestMap.put("identificationNumber", user.getPhoneNumber());
-        requestMap.put("accountNumber", historyDto.getAccountNumber());
-        requestMap.put("historyId", historyDto.getHistoryId());
-
         // 요청 전송
-        Map response = (Map<String, String>)(webClient.post()
-                .uri("/bank/detail_history")
-                .bodyValue(requestMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block()
-                .get("response"));
+        BankApiDto.ApiResult<BankApiDto.History> response = bankClient.historyDetailBlocking(BankApiDto.HistoryRequest.builder()
+                .identificationNumber(user.getPhoneNumber())
+                .accountNumber(historyDto.getAccountNumber())
+                .historyId(historyDto.getHistoryId())
+                .build());
+
+        if(!response.isSuccess()){
+            throw new NoSuchElementException(response.errorMessage("거래내역을 찾을 수 없습니다."));
+        }
 
-        Map<String, String> result = (Map<String, String>)response.get("historyId");
+        BankApiDto.Info result = response.getResponse().getHistoryId();
+        BankApiDto.BankCode toCode = response.getResponse().getToCode();
 
         HistoryDetailDto.HistoryDetail historyDetail = HistoryDetailDto.HistoryDetail.builder()
-                .id(Long.parseLong(String.valueOf(result.get("id"))))
-                .toAccount(result.get("toAcocunt"))
-                .toCode(Long.parseLong(String.valueOf(((Map<String, String>)response.get("toCode")).get("bankCodeId"))))
-                .toBankName(((Map<String, String>)response.get("toCode")).get("bankName"))
-                .type(Integer.parseInt(String.valueOf(result.get("type"))))
-                .transferAmount(Integer.parseInt(String.valueOf(result.get("transferAmount"))))
-                .afterBalance(Integer.parseInt(String.valueOf(result.get("afterBalance"))))
-                .sign(result.get("sign"))
-                .toSign(result.get("toSign"))
-                .createdAt(LocalDateTime.parse(result.get("createdAt")))
+                .id(result.getId())
+                .toAccount(result.getToAccount())
+                .toCode(toCode != null ? toCode.getBankCodeId() : null)
+                .toBankName(toCode != null ? toCode.getBankName() : null)
+                .type(result.getType())
+                .transferAmount(result.getTransferAmount())
+                .afterBalance(result.getAfterBalance())
+                .sign(result.getSign())
+                .toSign(result.getToSign())
+                .createdAt(result.getCreatedAt())
                 .build();
 
         return HistoryDetailDto.Response.builder()
@@ -303,25 +278,18 @@ public class AccountServiceImpl implements AccountService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("유저를 찾을 수 없습니다."));
 
-        Map<String, Object> requestMap = new HashMap<>();
-
-        requestMap.put("identificationNumber", user.getPhoneNumber());
-        requestMap.put("content", memo.getContent());
-        requestMap.put("historyId", memo.getHistoryId());
-        requestMap.put("accountNumber", memo.getAccountNumber());
-
-        Map response = webClient.post()
-                .uri("/bank/detail_history/memo")
-                .bodyValue(requestMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+        BankApiDto.ApiResult<Map<String, Object>> response = bankClient.writeMemoBlocking(BankApiDto.MemoRequest.builder()
+                .identificationNumber(user.getPhoneNumber())
+                .content(memo.getContent())
+                .historyId(memo.getHistoryId())
+                .accountNumber(memo.getAccountNumber())
+                .build());
 
-        if(!(boolean)response.get("success")){
+        if(!response.isSuccess()){
             throw new NoSuchElementException("메모 작성을 실패했습니다.");
         }
 
-        Map<String, String> result = (Map<String, String>)response.get("response");
+        Map<String, Object> result = response.getResponse();
 
         return HistoryMemoDto.Response.builder()
                 .msg("메모 작성을 완료하였습니다.")
@@ -336,30 +304,32 @@ public class AccountServiceImpl implements AccountService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("유저를 찾을 수 없습니다."));
 
-        Map<String, Object> requestMap = new HashMap<>();
-
-        requestMap.put("identificationNumber", user.getPhoneNumber());
-        requestMap.put("accountId", request.getAccountId());
-        requestMap.put("password", request.getPassword());
-        requestMap.put("sign", request.getSign());
-        requestMap.put("toAccount", request.getToAccount());
-        requestMap.put("toCode", request.getToCode());
-        requestMap.put("toSign", request.getToSign());
-        requestMap.put("transferAmount", request.getTransferAmount());
-
-        Map response = webClient.post()
-                .uri("/bank/account/transfer")
-                .bodyValue(requestMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        if(!(boolean)response.get("success")){
+        BankApiDto.ApiResult<String> response;
+        try {
+            response = bankClient.transferBlocking(BankApiDto.TransferRequest.builder()
+                    .identificationNumber(user.getPhoneNumber())
+                    .accountId(request.getAccountId())
+                    .password(request.getPassword())
+                    .sign(request.getSign())
+                    .toAccount(request.getToAccount())
+                    .toCode(Long.valueOf(request.getToCode()))
+                    .toSign(request.getToSign())
+                    .transferAmount(request.getTransferAmount())
+                    .build(), null);
+        } finally {
+            // 모임 계좌로 보낸 경우 모임 잔액 캐시 무효화, 거래내역 미러 갱신 표시
+            for (Moim moim : moimRepository.findByMoimAccountNumber(request.getToAccount())) {
+                moimBalanceCache.evict(moim.getMoimAccountId());
+                moimHistoryService.markDirty(moim.getId());
+            }
+        }
+
+        if(!response.isSuccess()){
             throw new NoSuchElementException("송금에 실패했습니다.");
         }
 
         return TransferDto.Response.builder()
-                .msg((String)response.get("response"))
+                .msg(response.getResponse())
                 .success(true)
                 .build();
     }
@@ -376,18 +346,11 @@ public class AccountServiceImpl implements AccountService {
 
     @Override
     public AccountCertificationDto.Response certificationAccount(String accountNumber, Long bankCode) {
-        Map<String, Object> requestMap = new HashMap<>();
-
-        requestMap.put("accountNumber", accountNumber);
-        requestMap.put("bankCode", bankCode);
-
-        Map response = (Map<String, String>)webClient.post()
-                .uri("/bank/account/certification")
-                .bodyValue(requestMap)
-                .retrieve()
-                .bodyToMono(Map.class)
-                .block()
-                .get("response");
+        BankApiDto.CertificationResponse response = bankClient.certificationBlocking(BankApiDto.CertificationRequest.builder()
+                .accountNumber(accountNumber)
+                .bankCode(bankCode)
+                .build())
+                .getResponse();
 
         if(response == null){
             throw new NotFoundException("계좌를 찾을 수 없습니다.");
@@ -0,0 +1,148 @@
+package com.dondoc.backend.common.bank;
+
+import com.dondoc.backend.common.exception.BankApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 은행 서버 응답을 타입으로 변환하는지, 이체에 Idempotency-Key 를 싣는지, 시간 초과를 BankApiException 으로 바꾸는지 검증
+ */
+class BankClientTest {
+
+    private HttpServer server;
+    private BankClient bankClient;
+    private final AtomicReference<String> idempotencyKey = new AtomicReference<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/bank/account/detail/7", exchange -> respond(exchange,
+                "{\"success\":true,\"response\":{\"accountId\":7,\"accountName\":\"moim\",\"accountNumber\":\"1080000000007\","
+                        + "\"balance\":15000,\"bankCode\":108,\"bankName\":\"돈독\"},\"error\":null}"));
+        server.createContext("/bank/history", exchange -> respond(exchange,
+                "{\"success\":true,\"response\":[{\"historyId\":{\"id\":3,\"toAccount\":\"5300334585926\",\"type\":2,"
+                        + "\"transferAmount\":500,\"afterBalance\":15000,\"sign\":\"a\",\"toSign\":\"b\",\"createdAt\":\"2023-10-01T12:30:00\"},"
+                        + "\"toCode\":{\"bankCodeId\":89,\"bankName\":\"케이뱅크\"},\"memo\":\"memo\"}],\"error\":null}"));
+        server.createContext("/bank/history/counterparty", exchange -> respond(exchange,
+                "{\"success\":true,\"response\":{\"histories\":[],\"totalIn\":3000,\"totalOut\":500,"
+                        + "\"inCount\":2,\"outCount\":1},\"error\":null}"));
+        server.createContext("/bank/account/transfer", exchange -> {
+            idempotencyKey.set(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+            respond(exchange, "{\"success\":false,\"response\":null,\"error\":{\"message\":\"잔액이 부족합니다.\",\"status\":400}}");
+        });
+        server.createContext("/bank/account/list", exchange -> {
+            // 응답 지연 : 시간 초과 검증 후 tearDown 에서 해제
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "{\"success\":true,\"response\":{\"accounts\":[],\"notFound\":[]},\"error\":null}");
+        });
+        server.start();
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        WebClient.Builder builder = WebClient.builder().codecs(configurer -> {
+            configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+            configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+        });
+        // 첫 요청은 Netty 초기화가 포함되므로 조회 제한 시간을 넉넉하게
+        bankClient = new BankClient(builder, "http://localhost:" + server.getAddress().getPort(),
+                4, 1000, 15000, 1000, 5000, 1000, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void parsesTypedResponses() {
+        BankApiDto.ApiResult<BankApiDto.Account> account = bankClient.accountDetailBlocking(7L);
+        assertThat(account.isSuccess()).isTrue();
+        assertThat(account.getResponse().getBalance()).isEqualTo(15000);
+        assertThat(account.getResponse().getBankCode()).isEqualTo(108L);
+
+        List<BankApiDto.History> histories = bankClient.historyListBlocking(BankApiDto.HistoryRequest.builder()
+                .identificationNumber("01012345678")
+                .accountNumber("1080000000007")
+                .build()).getResponse();
+        assertThat(histories).singleElement().satisfies(history -> {
+            assertThat(history.getHistoryId().getType()).isEqualTo(2);
+            assertThat(history.getHistoryId().getCreatedAt()).isEqualTo(LocalDateTime.of(2023, 10, 1, 12, 30));
+            assertThat(history.getToCode().getBankName()).isEqualTo("케이뱅크");
+        });
+    }
+
+    @Test
+    void parsesCounterpartyTotals() {
+        BankApiDto.CounterpartyHistoryResponse response = bankClient.counterpartyHistoryBlocking(BankApiDto.CounterpartyHistoryRequest.builder()
+                .identificationNumber("01012345678")
+                .accountNumber("1080000000007")
+                .toAccount("5300334585926")
+                .year(2025)
+                .month(1)
+                .build()).getResponse();
+
+        assertThat(response.getHistories()).isEmpty();
+        assertThat(response.getTotalIn()).isEqualTo(3000);
+        assertThat(response.getTotalOut()).isEqualTo(500);
+        assertThat(response.getInCount()).isEqualTo(2);
+    }
+
+    @Test
+    void sendsIdempotencyKeyAndExposesBankError() {
+        BankApiDto.ApiResult<String> result = bankClient.transferBlocking(BankApiDto.TransferRequest.builder()
+                .accountId(7L)
+                .toCode(89L)
+                .toAccount("5300334585926")
+                .transferAmount(100000)
+                .build(), "dondoc:withdraw-request:1");
+
+        assertThat(idempotencyKey.get()).isEqualTo("dondoc:withdraw-request:1");
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.errorMessage("송금에 실패했습니다.")).isEqualTo("잔액이 부족합니다.");
+    }
+
+    @Test
+    void timesOutSlowReads() {
+        assertThatThrownBy(() -> bankClient.accountListBlocking(List.of("01012345678")))
+                .isInstanceOf(BankApiException.class);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
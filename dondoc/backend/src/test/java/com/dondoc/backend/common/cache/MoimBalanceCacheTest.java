@@ -0,0 +1,173 @@
+package com.dondoc.backend.common.cache;
+
+import com.dondoc.backend.common.bank.BankApiDto;
+import com.dondoc.backend.common.bank.BankClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 모임 잔액 캐시 : 동시 조회 단일 요청, 비동기 조회, Redis 적중, 이체 후 무효화(조회 중 무효화 포함), Redis 장애 시 은행 조회 검증
+ * Redis 는 Map 으로 흉내낸다.
+ */
+class MoimBalanceCacheTest {
+
+    private static final Long MOIM_ACCOUNT_ID = 7L;
+
+    private BankClient bankClient;
+    private ValueOperations<String, Object> valueOperations;
+    private RedisTemplate<String, Object> redisTemplate;
+    private MoimBalanceCache moimBalanceCache;
+    private final Map<String, Object> redis = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        bankClient = mock(BankClient.class);
+        valueOperations = mock(ValueOperations.class);
+        redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), any(), any(Duration.class));
+        when(valueOperations.increment(anyString())).thenAnswer(invocation ->
+                ((Number) redis.merge(invocation.getArgument(0), 1L, (a, b) -> ((Number) a).longValue() + 1)).longValue());
+        moimBalanceCache = new MoimBalanceCache(bankClient, redisTemplate, 60_000, 30, 100);
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        when(bankClient.accountDetail(MOIM_ACCOUNT_ID)).thenAnswer(invocation -> Mono.fromCallable(() -> {
+            loading.await();
+            return account(15000);
+        }));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> moimBalanceCache.get(MOIM_ACCOUNT_ID).orElseThrow()));
+        }
+        Thread.sleep(200);
+        loading.countDown();
+        for (Future<Integer> future : futures) {
+            assertThat(future.get()).isEqualTo(15000);
+        }
+        executor.shutdown();
+
+        verify(bankClient, times(1)).accountDetail(MOIM_ACCOUNT_ID);
+        verify(valueOperations).set("moim:balance:7:0", 15000, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void asyncLookupDoesNotBlockCaller() throws Exception {
+        CountDownLatch responding = new CountDownLatch(1);
+        when(bankClient.accountDetail(MOIM_ACCOUNT_ID)).thenReturn(Mono.fromCallable(() -> {
+            responding.await();
+            return account(15000);
+        }).subscribeOn(Schedulers.boundedElastic()));
+
+        CompletableFuture<Optional<Integer>> balance = moimBalanceCache.getAsync(MOIM_ACCOUNT_ID);
+        assertThat(balance).isNotDone();
+
+        responding.countDown();
+        assertThat(balance.get(5, TimeUnit.SECONDS)).contains(15000);
+    }
+
+    @Test
+    void sharedTierHitSkipsBank() {
+        redis.put("moim:balance:7:0", 12000);
+
+        assertThat(moimBalanceCache.get(MOIM_ACCOUNT_ID)).contains(12000);
+        verify(bankClient, never()).accountDetail(any());
+    }
+
+    @Test
+    void evictReloadsAfterTransfer() {
+        when(bankClient.accountDetail(MOIM_ACCOUNT_ID)).thenReturn(Mono.just(account(15000)), Mono.just(account(9000)));
+
+        assertThat(moimBalanceCache.get(MOIM_ACCOUNT_ID)).contains(15000);
+        assertThat(moimBalanceCache.get(MOIM_ACCOUNT_ID)).contains(15000);
+
+        moimBalanceCache.evict(MOIM_ACCOUNT_ID);
+
+        assertThat(moimBalanceCache.get(MOIM_ACCOUNT_ID)).contains(9000);
+        assertThat(redis).containsEntry("moim:balance:generation:7", 1L).containsEntry("moim:balance:7:1", 9000);
+        verify(bankClient, times(2)).accountDetail(MOIM_ACCOUNT_ID);
+    }
+
+    @Test
+    void evictDuringLoadDoesNotPublishStaleBalance() throws Exception {
+        CountDownLatch responding = new CountDownLatch(1);
+        when(bankClient.accountDetail(MOIM_ACCOUNT_ID)).thenReturn(Mono.fromCallable(() -> {
+            responding.await();
+            return account(15000); // 이체 전 잔액
+        }).subscribeOn(Schedulers.boundedElastic()), Mono.just(account(9000)));
+
+        CompletableFuture<Optional<Integer>> inFlight = moimBalanceCache.getAsync(MOIM_ACCOUNT_ID);
+        verify(bankClient, timeout(5000)).accountDetail(MOIM_ACCOUNT_ID);
+
+        // 은행 응답 전에 이체 후 무효화
+        moimBalanceCache.evict(MOIM_ACCOUNT_ID);
+        responding.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).contains(15000);
+
+        // 늦게 저장된 이전 잔액은 이전 세대 키에만 있고, 이후 조회는 은행에서 새로 읽음
+        assertThat(redis).containsEntry("moim:balance:7:0", 15000).doesNotContainKey("moim:balance:7:1");
+        assertThat(moimBalanceCache.get(MOIM_ACCOUNT_ID)).contains(9000);
+
+        // 다른 서버(로컬 캐시 없음)도 공유 캐시에서 새 잔액을 읽음
+        MoimBalanceCache otherServer = new MoimBalanceCache(bankClient, redisTemplate, 60_000, 30, 100);
+        assertThat(otherServer.get(MOIM_ACCOUNT_ID)).contains(9000);
+        verify(bankClient, times(2)).accountDetail(MOIM_ACCOUNT_ID);
+    }
+
+    @Test
+    void fallsBackToBankWhenRedisIsDown() {
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(valueOperations).set(anyString(), any(), any(Duration.class));
+        when(bankClient.accountDetail(MOIM_ACCOUNT_ID)).thenReturn(Mono.just(account(15000)));
+
+        assertThat(moimBalanceCache.get(MOIM_ACCOUNT_ID)).contains(15000);
+    }
+
+    @Test
+    void missingAccountIsNotCached() {
+        when(bankClient.accountDetail(MOIM_ACCOUNT_ID))
+                .thenReturn(Mono.just(new BankApiDto.ApiResult<>(false, null, null)), Mono.just(account(15000)));
+
+        assertThat(moimBalanceCache.get(MOIM_ACCOUNT_ID)).isEmpty();
+        assertThat(moimBalanceCache.get(MOIM_ACCOUNT_ID)).contains(15000);
+        verify(valueOperations, times(1)).set(eq("moim:balance:7:0"), any(), any(Duration.class));
+    }
+
+    private static BankApiDto.ApiResult<BankApiDto.Account> account(int balance) {
+        BankApiDto.Account account = new BankApiDto.Account();
+        account.setAccountId(MOIM_ACCOUNT_ID);
+        account.setBalance(balance);
+        return new BankApiDto.ApiResult<>(true, account, null);
+    }
+}
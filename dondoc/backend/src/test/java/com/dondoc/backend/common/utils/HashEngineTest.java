@@ -0,0 +1,70 @@
+package com.dondoc.backend.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EncryptionUtils(HashEngine) 결과가 기존 구현과 같은지 검증 : 다르면 저장된 해시로 로그인할 수 없음
+ */
+class HashEngineTest {
+
+    private final EncryptionUtils encryptionUtils = new EncryptionUtils();
+
+    @Test
+    void sameAsLegacyImplementation() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < 200; i++) {
+            String str = String.valueOf(random.nextLong(0, Long.MAX_VALUE));
+            String salt = encryptionUtils.makeSalt();
+
+            assertThat(encryptionUtils.encryption(str, salt)).isEqualTo(legacy(str, salt));
+        }
+    }
+
+    @Test
+    void sameAsLegacyForEdgeInputs() throws Exception {
+        String longSalt = "salt".repeat(50);
+
+        assertThat(encryptionUtils.encryption("password1234!", longSalt)).isEqualTo(legacy("password1234!", longSalt));
+        assertThat(encryptionUtils.encryption("password1234!", "")).isEqualTo(legacy("password1234!", ""));
+        assertThat(encryptionUtils.encryption("", "salt")).isEqualTo(legacy("", "salt"));
+        assertThat(encryptionUtils.encryption("비밀번호", "salt")).isEqualTo(legacy("비밀번호", "salt"));
+        assertThat(encryptionUtils.encryption("password1234!", null)).isEqualTo(legacy("password1234!", null));
+    }
+
+    @Test
+    void byteToStringMatchesFormat() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        assertThat(encryptionUtils.byteToString(bytes)).isEqualTo(legacyHex(bytes));
+        assertThat(encryptionUtils.makeSalt()).hasSize(32).matches("[0-9a-f]+");
+    }
+
+    // HashEngine 도입 이전 EncryptionUtils.encryption
+    private static String legacy(String str, String salt) throws Exception {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+
+        for (int i = 0; i < 100; i++) {
+            String temp = str + salt;
+            md.update(temp.getBytes());
+            str = legacyHex(md.digest());
+        }
+        return str;
+    }
+
+    private static String legacyHex(byte[] temp) {
+        StringBuilder sb = new StringBuilder();
+        for (byte a : temp) {
+            sb.append(String.format("%02x", a));
+        }
+        return sb.toString();
+    }
+}
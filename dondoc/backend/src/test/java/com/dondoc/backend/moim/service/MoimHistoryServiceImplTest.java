@@ -0,0 +1,177 @@
+package com.dondoc.backend.moim.service;
+
+import com.dondoc.backend.common.bank.BankApiDto;
+import com.dondoc.backend.common.bank.BankClient;
+import com.dondoc.backend.common.exception.BankApiException;
+import com.dondoc.backend.moim.entity.Moim;
+import com.dondoc.backend.moim.entity.MoimHistory;
+import com.dondoc.backend.moim.entity.MoimHistorySync;
+import com.dondoc.backend.moim.repository.MoimHistoryRepository;
+import com.dondoc.backend.moim.repository.MoimHistorySyncRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 모임 거래내역 미러 : 정착된 증분만 저장, 동기화 주기 안에서는 은행 미호출, dirty 표시 후 커서 이후만 조회,
+ * 보류 거래내역 이후는 저장하지 않음, 은행 장애 시 미러로 응답 검증
+ */
+class MoimHistoryServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    private final Moim moim = Moim.builder()
+            .id(1L)
+            .identificationNumber("30094150669")
+            .moimAccountNumber("9165326027442")
+            .build();
+
+    private BankClient bankClient;
+    private MoimHistorySyncRepository moimHistorySyncRepository;
+    private MoimHistoryService moimHistoryService;
+    private final List<MoimHistory> mirror = new ArrayList<>();
+    private MoimHistorySync state;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        bankClient = mock(BankClient.class);
+        MoimHistoryRepository moimHistoryRepository = mock(MoimHistoryRepository.class);
+        moimHistorySyncRepository = mock(MoimHistorySyncRepository.class);
+
+        // 저장소는 메모리 목록으로 대신함
+        when(moimHistoryRepository.saveAll(any())).thenAnswer(invocation -> {
+            ((Iterable<MoimHistory>) invocation.getArgument(0)).forEach(mirror::add);
+            return invocation.getArgument(0);
+        });
+        when(moimHistoryRepository.findByMoim_IdOrderByCreatedAtDescHistoryIdDesc(1L)).thenAnswer(invocation -> mirror.stream()
+                .sorted(Comparator.comparing(MoimHistory::getCreatedAt).thenComparing(MoimHistory::getHistoryId).reversed())
+                .collect(Collectors.toList()));
+        when(moimHistoryRepository.findByMoim_IdAndHistoryId(anyLong(), anyLong())).thenAnswer(invocation -> mirror.stream()
+                .filter(history -> history.getHistoryId().equals(invocation.getArgument(1)))
+                .findFirst());
+        when(moimHistorySyncRepository.findById(1L)).thenAnswer(invocation -> Optional.ofNullable(state));
+        when(moimHistorySyncRepository.save(any())).thenAnswer(invocation -> {
+            state = invocation.getArgument(0);
+            state.setVersion(state.getVersion() == null ? 0L : state.getVersion() + 1);
+            return state;
+        });
+        when(moimHistorySyncRepository.markDirty(1L)).thenAnswer(invocation -> {
+            state.setDirty(true);
+            state.setVersion(state.getVersion() + 1);
+            return 1;
+        });
+
+        moimHistoryService = new MoimHistoryServiceImpl(moimHistoryRepository, moimHistorySyncRepository, bankClient,
+                mock(PlatformTransactionManager.class), 60_000, 5, 2);
+    }
+
+    @Test
+    void storesSettledPrefixAndReturnsUnsettledTail() {
+        // 2건씩 나누어 받음 : 마지막 건은 정착 시간(5초) 안
+        when(bankClient.historyDeltaBlocking(any()))
+                .thenReturn(delta(true, history(1L, NOW.minusMinutes(10), false), history(2L, NOW.minusMinutes(5), false)))
+                .thenReturn(delta(false, history(3L, NOW.minusSeconds(1), false)));
+
+        List<BankApiDto.History> histories = moimHistoryService.getHistoryList(moim);
+
+        assertThat(histories).extracting(history -> history.getHistoryId().getId()).containsExactly(3L, 2L, 1L);
+        assertThat(mirror).extracting(MoimHistory::getHistoryId).containsExactly(1L, 2L);
+        assertThat(state.getLastHistoryId()).isEqualTo(2L);
+        assertThat(state.getLastCreatedAt()).isEqualTo(NOW.minusMinutes(5));
+        assertThat(state.isDirty()).isTrue();
+    }
+
+    @Test
+    void servesMirrorWithinIntervalAndFetchesDeltaAfterMarkDirty() {
+        when(bankClient.historyDeltaBlocking(any()))
+                .thenReturn(delta(false, history(1L, NOW.minusMinutes(10), false)))
+                .thenReturn(delta(false, history(2L, NOW.minusMinutes(1), false)));
+
+        moimHistoryService.getHistoryList(moim);
+        assertThat(state.isDirty()).isFalse();
+
+        // 동기화 주기 안 : 은행 미호출
+        assertThat(moimHistoryService.getHistoryList(moim)).hasSize(1);
+        assertThat(moimHistoryService.getHistory(moim, 1L)).isPresent();
+        verify(bankClient, times(1)).historyDeltaBlocking(any());
+
+        // dondoc 에서 이체 후 : 커서 이후만 조회
+        moimHistoryService.markDirty(1L);
+        assertThat(moimHistoryService.getHistoryList(moim)).extracting(history -> history.getHistoryId().getId())
+                .containsExactly(2L, 1L);
+
+        ArgumentCaptor<BankApiDto.HistoryDeltaRequest> requests = ArgumentCaptor.forClass(BankApiDto.HistoryDeltaRequest.class);
+        verify(bankClient, times(2)).historyDeltaBlocking(requests.capture());
+        assertThat(requests.getAllValues().get(0).getAfterId()).isNull();
+        assertThat(requests.getAllValues().get(1).getAfterId()).isEqualTo(1L);
+        assertThat(requests.getAllValues().get(1).getAfterCreatedAt()).isEqualTo(NOW.minusMinutes(10));
+        assertThat(state.isDirty()).isFalse();
+    }
+
+    @Test
+    void stopsStoringAtPendingHistory() {
+        when(bankClient.historyDeltaBlocking(any())).thenReturn(delta(false,
+                history(1L, NOW.minusMinutes(10), false),
+                history(2L, NOW.minusMinutes(9), true),
+                history(3L, NOW.minusMinutes(8), false)));
+
+        assertThat(moimHistoryService.getHistoryList(moim)).hasSize(3);
+        assertThat(mirror).extracting(MoimHistory::getHistoryId).containsExactly(1L);
+        assertThat(state.getLastHistoryId()).isEqualTo(1L);
+
+        // 저장하지 않은 거래내역도 상세 조회 가능
+        assertThat(moimHistoryService.getHistory(moim, 3L)).get()
+                .satisfies(history -> assertThat(history.getHistoryId().getTransferAmount()).isEqualTo(300));
+    }
+
+    @Test
+    void servesMirrorWhenBankFails() {
+        when(bankClient.historyDeltaBlocking(any()))
+                .thenReturn(delta(false, history(1L, NOW.minusMinutes(10), false)))
+                .thenThrow(new BankApiException("은행 서버 요청에 실패했습니다."));
+
+        moimHistoryService.getHistoryList(moim);
+        moimHistoryService.markDirty(1L);
+
+        assertThat(moimHistoryService.getHistoryList(moim)).extracting(history -> history.getHistoryId().getId())
+                .containsExactly(1L);
+    }
+
+    private static BankApiDto.ApiResult<BankApiDto.HistoryDeltaResponse> delta(boolean hasNext, BankApiDto.History... histories) {
+        BankApiDto.HistoryDeltaResponse response = new BankApiDto.HistoryDeltaResponse();
+        response.setHistories(Arrays.asList(histories));
+        response.setHasNext(hasNext);
+        response.setServerTime(NOW);
+        return new BankApiDto.ApiResult<>(true, response, null);
+    }
+
+    private static BankApiDto.History history(Long id, LocalDateTime createdAt, boolean pending) {
+        BankApiDto.Info info = new BankApiDto.Info();
+        info.setId(id);
+        info.setToAccount("4563035162653");
+        info.setType(2);
+        info.setTransferAmount(id.intValue() * 100);
+        info.setAfterBalance(id.intValue() * 1000);
+        info.setPending(pending);
+        info.setCreatedAt(createdAt);
+
+        BankApiDto.History history = new BankApiDto.History();
+        history.setHistoryId(info);
+        return history;
+    }
+}
@@ -0,0 +1,216 @@
+package com.dondoc.backend.moim.service;
+
+import com.dondoc.backend.common.bank.BankApiDto;
+import com.dondoc.backend.common.bank.BankClient;
+import com.dondoc.backend.common.cache.MoimBalanceCache;
+import com.dondoc.backend.moim.dto.MoimDetailDto;
+import com.dondoc.backend.moim.entity.Moim;
+import com.dondoc.backend.moim.entity.MoimMember;
+import com.dondoc.backend.moim.entity.WithdrawRequest;
+import com.dondoc.backend.moim.repository.CategoryRepository;
+import com.dondoc.backend.moim.repository.MissionRepository;
+import com.dondoc.backend.moim.repository.MoimMemberRepository;
+import com.dondoc.backend.moim.repository.MoimRepository;
+import com.dondoc.backend.moim.repository.WithdrawRequestRepository;
+import com.dondoc.backend.user.entity.Account;
+import com.dondoc.backend.user.entity.User;
+import com.dondoc.backend.user.service.AccountService;
+import com.dondoc.backend.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 모임 상세조회 : 관리자는 잔액과 수락 대기 중인 출금 요청(최신순, 한 번의 조회)을 받고,
+ * 잔액 조회는 DB 조회 전에 시작해 DB 조회가 끝난 뒤에만 기다리는지, 일반 회원은 잔액/요청을 조회하지 않는지 검증
+ * 멤버별 월간 이체 내역은 멤버 계좌의 은행 코드와 계좌번호로 조회하는지 검증
+ */
+class MoimServiceImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    private MoimMemberService moimMemberService;
+    private MoimRepository moimRepository;
+    private WithdrawRequestRepository withdrawRequestRepository;
+    private MoimBalanceCache moimBalanceCache;
+    private AccountService accountService;
+    private BankClient bankClient;
+    private MoimService moimService;
+
+    private Moim moim;
+    private MoimMember manager;
+    private MoimMember member;
+    private final List<String> calls = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        moimMemberService = mock(MoimMemberService.class);
+        moimRepository = mock(MoimRepository.class);
+        withdrawRequestRepository = mock(WithdrawRequestRepository.class);
+        moimBalanceCache = mock(MoimBalanceCache.class);
+        accountService = mock(AccountService.class);
+        bankClient = mock(BankClient.class);
+
+        moim = Moim.builder()
+                .id(1L)
+                .identificationNumber("30094150669")
+                .moimName("moim")
+                .moimAccountId(10L)
+                .moimAccountNumber("9165326027442")
+                .moimMemberList(new ArrayList<>())
+                .isActive(1)
+                .build();
+        manager = moimMember(100L, user(1L, "manager"), 0);
+        member = moimMember(101L, user(2L, "member"), 1);
+        moim.getMoimMemberList().add(manager);
+        moim.getMoimMemberList().add(member);
+
+        moimService = new MoimServiceImpl(moimMemberService, accountService, moimRepository,
+                mock(UserService.class), mock(MoimMemberRepository.class), withdrawRequestRepository,
+                mock(CategoryRepository.class), mock(MissionRepository.class), mock(PasswordEncoder.class),
+                bankClient, moimBalanceCache, mock(MoimHistoryService.class));
+    }
+
+    @Test
+    void managerGetsBalanceAndPendingRequestsNewestFirst() throws Exception {
+        BalanceFuture balance = new BalanceFuture(Optional.of(50_000));
+        when(moimMemberService.findMoimMember(1L, 1L)).thenReturn(manager);
+        when(moimBalanceCache.getAsync(10L)).thenAnswer(invocation -> {
+            calls.add("balance");
+            return balance;
+        });
+        when(moimRepository.findWithMember(1L)).thenAnswer(invocation -> {
+            assertThat(balance.isDone()).isFalse();
+            calls.add("moim");
+            return List.of(moim);
+        });
+        // 저장소가 최신순으로 돌려준 순서 그대로 응답에 담겨야 함
+        when(withdrawRequestRepository.findByMoimMember_MoimAndStatusOrderByCreatedAtDesc(moim, 0)).thenAnswer(invocation -> {
+            assertThat(balance.isDone()).isFalse();
+            calls.add("requests");
+            return List.of(withdrawRequest(12L, member, NOW), withdrawRequest(11L, manager, NOW.minusHours(1)));
+        });
+
+        MoimDetailDto.Response response = moimService.getMoimDetail(1L, 1L);
+
+        assertThat(response).isInstanceOf(MoimDetailDto.ManagerResponse.class);
+        MoimDetailDto.ManagerResponse result = (MoimDetailDto.ManagerResponse) response;
+        assertThat(result.getBalance()).isEqualTo(50_000);
+        assertThat(result.getMoimMembers()).hasSize(2);
+        assertThat(result.getRequest()).extracting(MoimDetailDto.WithDrawRequestDto::getRequestId)
+                .containsExactly(12L, 11L);
+        assertThat(result.getRequest()).extracting(MoimDetailDto.WithDrawRequestDto::getNickname)
+                .containsExactly("member", "manager");
+
+        // 잔액 조회를 먼저 시작하고, DB 조회가 모두 끝난 뒤에 기다림
+        assertThat(calls).containsExactly("balance", "moim", "requests", "join");
+        verify(withdrawRequestRepository).findByMoimMember_MoimAndStatusOrderByCreatedAtDesc(moim, 0);
+        verifyNoMoreInteractions(withdrawRequestRepository);
+    }
+
+    @Test
+    void managerWithoutMoimAccountFails() throws Exception {
+        when(moimMemberService.findMoimMember(1L, 1L)).thenReturn(manager);
+        when(moimBalanceCache.getAsync(10L)).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(moimRepository.findWithMember(1L)).thenReturn(List.of(moim));
+        when(withdrawRequestRepository.findByMoimMember_MoimAndStatusOrderByCreatedAtDesc(moim, 0)).thenReturn(List.of());
+
+        assertThatThrownBy(() -> moimService.getMoimDetail(1L, 1L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("30094150669");
+    }
+
+    @Test
+    void memberDoesNotLoadBalanceOrRequests() throws Exception {
+        when(moimMemberService.findMoimMember(2L, 1L)).thenReturn(member);
+        when(moimRepository.findWithMember(1L)).thenReturn(List.of(moim));
+
+        MoimDetailDto.Response response = moimService.getMoimDetail(2L, 1L);
+
+        assertThat(response).isInstanceOf(MoimDetailDto.MemberResponse.class);
+        assertThat(response.getMoimMembers()).hasSize(2);
+        verifyNoInteractions(moimBalanceCache, withdrawRequestRepository);
+    }
+
+    @Test
+    void transferAmountIsQueriedWithMemberBankCode() {
+        Account memberAccount = member.getAccount();
+        when(accountService.findByAccountNumber(memberAccount.getAccountNumber())).thenReturn(memberAccount);
+        BankApiDto.CounterpartyHistoryResponse histories = new BankApiDto.CounterpartyHistoryResponse();
+        histories.setHistories(List.of());
+        when(bankClient.counterpartyHistoryBlocking(any())).thenReturn(new BankApiDto.ApiResult<>(true, histories, null));
+
+        assertThat(moimService.getTransferAmount(moim.getIdentificationNumber(), moim.getMoimAccountNumber(),
+                memberAccount.getAccountNumber(), "2025", "1")).isEmpty();
+
+        ArgumentCaptor<BankApiDto.CounterpartyHistoryRequest> request = ArgumentCaptor.forClass(BankApiDto.CounterpartyHistoryRequest.class);
+        verify(bankClient).counterpartyHistoryBlocking(request.capture());
+        assertThat(request.getValue().getToAccount()).isEqualTo(memberAccount.getAccountNumber());
+        assertThat(request.getValue().getToCode()).isEqualTo(88L);
+        assertThat(request.getValue().getYear()).isEqualTo(2025);
+        assertThat(request.getValue().getMonth()).isEqualTo(1);
+    }
+
+    /** 은행 응답이 join 시점에 도착한 것처럼 동작하고 join 호출을 기록 */
+    private class BalanceFuture extends CompletableFuture<Optional<Integer>> {
+
+        private final Optional<Integer> balance;
+
+        BalanceFuture(Optional<Integer> balance) {
+            this.balance = balance;
+        }
+
+        @Override
+        public Optional<Integer> join() {
+            calls.add("join");
+            complete(balance);
+            return super.join();
+        }
+    }
+
+    private MoimMember moimMember(Long id, User user, int userType) {
+        return MoimMember.builder()
+                .id(id)
+                .user(user)
+                .moim(moim)
+                .userType(userType)
+                .status(1)
+                .account(Account.builder()
+                        .bankCode(88L)
+                        .bankName("신한은행")
+                        .accountNumber("000000000" + id)
+                        .user(user)
+                        .build())
+                .build();
+    }
+
+    private static User user(Long id, String nickName) {
+        return User.builder()
+                .id(id)
+                .nickName(nickName)
+                .phoneNumber("0100000000" + id)
+                .build();
+    }
+
+    private static WithdrawRequest withdrawRequest(Long id, MoimMember moimMember, LocalDateTime createdAt) {
+        return WithdrawRequest.builder()
+                .id(id)
+                .moimMember(moimMember)
+                .amount(1000)
+                .status(0)
+                .createdAt(createdAt)
+                .build();
+    }
+}